@@ -0,0 +1,40 @@
+/*
+ * common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.common.util.finder;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+// The immediate contents of a directory, captured once so repeated searches of that directory do not list it again.
+// Once released, the contents are no longer held and searches of the directory list it again.
+public class DirectoryListing {
+    private final File directory;
+    @Nullable
+    private volatile List<File> files;
+
+    public DirectoryListing(File directory, List<File> files) {
+        this.directory = directory;
+        this.files = Collections.unmodifiableList(files);
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public Optional<List<File>> getFiles() {
+        return Optional.ofNullable(files);
+    }
+
+    public void release() {
+        files = null;
+    }
+}
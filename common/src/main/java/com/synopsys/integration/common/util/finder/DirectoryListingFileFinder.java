@@ -0,0 +1,43 @@
+/*
+ * common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.common.util.finder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.NotNull;
+
+// Answers searches of the listed directory (depth 0) from memory while the listing is held. Any other search is given to the fallback finder.
+public class DirectoryListingFileFinder implements FileFinder {
+    private final DirectoryListing directoryListing;
+    private final FileFinder fallbackFileFinder;
+
+    public DirectoryListingFileFinder(DirectoryListing directoryListing, FileFinder fallbackFileFinder) {
+        this.directoryListing = directoryListing;
+        this.fallbackFileFinder = fallbackFileFinder;
+    }
+
+    @NotNull
+    @Override
+    public List<File> findFiles(File directoryToSearch, Predicate<File> filter, int depth, boolean findInsideMatchingDirectories) {
+        List<File> listedFiles = directoryListing.getFiles().orElse(null);
+        if (listedFiles == null || depth != 0 || !directoryListing.getDirectory().equals(directoryToSearch)) {
+            return fallbackFileFinder.findFiles(directoryToSearch, filter, depth, findInsideMatchingDirectories);
+        }
+
+        List<File> foundFiles = new ArrayList<>();
+        for (File file : listedFiles) {
+            if (filter.test(file)) {
+                foundFiles.add(file);
+            }
+        }
+        return foundFiles;
+    }
+}
@@ -0,0 +1,64 @@
+package com.synopsys.integration.common.test.util.finder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.common.util.finder.DirectoryListing;
+import com.synopsys.integration.common.util.finder.DirectoryListingFileFinder;
+import com.synopsys.integration.common.util.finder.FileFinder;
+
+public class DirectoryListingFileFinderTest {
+    private final File directory = new File("listed");
+    private final File packageJson = new File(directory, "package.json");
+    private final File packageLock = new File(directory, "package-lock.json");
+    private final File yarnLock = new File(directory, "yarn.lock");
+
+    @Test
+    public void testListedDirectoryAnsweredFromListing() {
+        FileFinder fallbackFileFinder = Mockito.mock(FileFinder.class);
+        DirectoryListing directoryListing = new DirectoryListing(directory, Arrays.asList(packageJson, packageLock, yarnLock));
+        DirectoryListingFileFinder fileFinder = new DirectoryListingFileFinder(directoryListing, fallbackFileFinder);
+
+        assertEquals(packageLock, fileFinder.findFile(directory, "package-lock.json"));
+        assertEquals(Arrays.asList(packageJson, packageLock), fileFinder.findFiles(directory, "package*.json"));
+        assertNull(fileFinder.findFile(directory, "Cargo.lock"));
+
+        Mockito.verifyZeroInteractions(fallbackFileFinder);
+    }
+
+    @Test
+    public void testOtherSearchesUseFallback() {
+        File otherDirectory = new File("other");
+        FileFinder fallbackFileFinder = Mockito.mock(FileFinder.class);
+        List<File> fallbackFiles = Collections.singletonList(new File(otherDirectory, "yarn.lock"));
+        Mockito.when(fallbackFileFinder.findFiles(Mockito.eq(otherDirectory), Mockito.any(), Mockito.eq(0), Mockito.eq(true))).thenReturn(fallbackFiles);
+        Mockito.when(fallbackFileFinder.findFiles(Mockito.eq(directory), Mockito.any(), Mockito.eq(2), Mockito.eq(true))).thenReturn(Collections.emptyList());
+
+        DirectoryListing directoryListing = new DirectoryListing(directory, Collections.singletonList(yarnLock));
+        DirectoryListingFileFinder fileFinder = new DirectoryListingFileFinder(directoryListing, fallbackFileFinder);
+
+        assertEquals(fallbackFiles, fileFinder.findFiles(otherDirectory, "yarn.lock"));
+        assertEquals(Collections.emptyList(), fileFinder.findFiles(directory, "yarn.lock", 2));
+    }
+
+    @Test
+    public void testReleasedListingUsesFallback() {
+        FileFinder fallbackFileFinder = Mockito.mock(FileFinder.class);
+        List<File> fallbackFiles = Collections.singletonList(packageJson);
+        Mockito.when(fallbackFileFinder.findFiles(Mockito.eq(directory), Mockito.any(), Mockito.eq(0), Mockito.eq(true))).thenReturn(fallbackFiles);
+
+        DirectoryListing directoryListing = new DirectoryListing(directory, Collections.singletonList(yarnLock));
+        DirectoryListingFileFinder fileFinder = new DirectoryListingFileFinder(directoryListing, fallbackFileFinder);
+        directoryListing.release();
+
+        assertEquals(fallbackFiles, fileFinder.findFiles(directory, "package.json"));
+    }
+}
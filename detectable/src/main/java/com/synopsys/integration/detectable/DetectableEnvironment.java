@@ -8,15 +8,32 @@
 package com.synopsys.integration.detectable;
 
 import java.io.File;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.common.util.finder.DirectoryListing;
 
 public class DetectableEnvironment {
     private final File directory;
+    @Nullable
+    private final DirectoryListing directoryListing;
 
     public DetectableEnvironment(final File directory) {
+        this(directory, null);
+    }
+
+    public DetectableEnvironment(final File directory, @Nullable final DirectoryListing directoryListing) {
         this.directory = directory;
+        this.directoryListing = directoryListing;
     }
 
     public File getDirectory() {
         return directory;
     }
+
+    // Present when the directory was already listed (for example, during the detector search).
+    public Optional<DirectoryListing> getDirectoryListing() {
+        return Optional.ofNullable(directoryListing);
+    }
 }
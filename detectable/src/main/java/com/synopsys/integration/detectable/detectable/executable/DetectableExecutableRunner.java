@@ -7,7 +7,10 @@
  */
 package com.synopsys.integration.detectable.detectable.executable;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
@@ -41,4 +44,15 @@ public interface DetectableExecutableRunner {
 
     @NotNull
     ExecutableOutput executeSuccessfully(Executable executable) throws ExecutableFailedException; //Returns output if and only if executable return code was zero, otherwise throws.
+
+    // Hands the standard output to the processor and returns what it produced if and only if the executable return code was zero, otherwise throws.
+    // Runners that can read the output while the executable runs should override this so the output is never held in memory.
+    default <T> T executeSuccessfully(Executable executable, ExecutableOutputProcessor<T> outputProcessor) throws ExecutableFailedException {
+        ExecutableOutput executableOutput = executeSuccessfully(executable);
+        try (BufferedReader standardOutput = new BufferedReader(new StringReader(executableOutput.getStandardOutput()))) {
+            return outputProcessor.process(standardOutput);
+        } catch (IOException e) {
+            throw new ExecutableFailedException(executable, new ExecutableRunnerException(e));
+        }
+    }
 }
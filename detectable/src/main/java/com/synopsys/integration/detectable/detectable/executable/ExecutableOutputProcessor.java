@@ -0,0 +1,16 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectable.executable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+@FunctionalInterface
+public interface ExecutableOutputProcessor<T> {
+    T process(BufferedReader standardOutput) throws IOException;
+}
@@ -65,6 +65,7 @@ public class BitbakeDetectable extends Detectable {
 
     @Override
     public Extraction extract(ExtractionEnvironment extractionEnvironment) {
-        return bitbakeExtractor.extract(environment.getDirectory(), foundBuildEnvScript, bitbakeDetectableOptions.getSourceArguments(), bitbakeDetectableOptions.getPackageNames(), bitbakeDetectableOptions.getSearchDepth(), bashExe);
+        return bitbakeExtractor.extract(environment.getDirectory(), extractionEnvironment.getOutputDirectory(), foundBuildEnvScript, bitbakeDetectableOptions.getSourceArguments(), bitbakeDetectableOptions.getPackageNames(),
+            bitbakeDetectableOptions.getSearchDepth(), bitbakeDetectableOptions.isSingleSession(), bashExe);
     }
 }
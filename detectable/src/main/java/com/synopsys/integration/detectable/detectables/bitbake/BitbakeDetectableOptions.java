@@ -14,12 +14,18 @@ public class BitbakeDetectableOptions {
     private final List<String> sourceArguments;
     private final List<String> packageNames;
     private final Integer searchDepth;
+    private final boolean singleSession;
 
     public BitbakeDetectableOptions(final String buildEnvName, final List<String> sourceArguments, final List<String> packageNames, final Integer searchDepth) {
+        this(buildEnvName, sourceArguments, packageNames, searchDepth, false);
+    }
+
+    public BitbakeDetectableOptions(final String buildEnvName, final List<String> sourceArguments, final List<String> packageNames, final Integer searchDepth, final boolean singleSession) {
         this.buildEnvName = buildEnvName;
         this.sourceArguments = sourceArguments;
         this.packageNames = packageNames;
         this.searchDepth = searchDepth;
+        this.singleSession = singleSession;
     }
 
     public String getBuildEnvName() {
@@ -37,4 +43,8 @@ public class BitbakeDetectableOptions {
     public Integer getSearchDepth() {
         return searchDepth;
     }
+
+    public boolean isSingleSession() {
+        return singleSession;
+    }
 }
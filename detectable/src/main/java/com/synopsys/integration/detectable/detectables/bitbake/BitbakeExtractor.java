@@ -9,18 +9,16 @@ package com.synopsys.integration.detectable.detectables.bitbake;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.NotImplementedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.paypal.digraph.parser.GraphParser;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
@@ -30,7 +28,7 @@ import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGrap
 import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeRecipe;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeGraphTransformer;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeRecipesParser;
-import com.synopsys.integration.detectable.detectables.bitbake.parse.GraphParserTransformer;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.TaskDependsStreamingParser;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.exception.IntegrationException;
 import com.synopsys.integration.executable.ExecutableRunnerException;
@@ -40,30 +38,37 @@ public class BitbakeExtractor {
 
     private final DetectableExecutableRunner executableRunner;
     private final FileFinder fileFinder;
-    private final GraphParserTransformer graphParserTransformer;
+    private final TaskDependsStreamingParser taskDependsStreamingParser;
     private final BitbakeGraphTransformer bitbakeGraphTransformer;
     private final BitbakeRecipesParser bitbakeRecipesParser;
     private final BitbakeRecipesToLayerMapConverter bitbakeRecipesToLayerMap;
 
-    public BitbakeExtractor(DetectableExecutableRunner executableRunner, FileFinder fileFinder, GraphParserTransformer graphParserTransformer, BitbakeGraphTransformer bitbakeGraphTransformer,
+    public BitbakeExtractor(DetectableExecutableRunner executableRunner, FileFinder fileFinder, TaskDependsStreamingParser taskDependsStreamingParser, BitbakeGraphTransformer bitbakeGraphTransformer,
         BitbakeRecipesParser bitbakeRecipesParser, BitbakeRecipesToLayerMapConverter bitbakeRecipesToLayerMap) {
         this.executableRunner = executableRunner;
         this.fileFinder = fileFinder;
-        this.graphParserTransformer = graphParserTransformer;
+        this.taskDependsStreamingParser = taskDependsStreamingParser;
         this.bitbakeGraphTransformer = bitbakeGraphTransformer;
         this.bitbakeRecipesParser = bitbakeRecipesParser;
         this.bitbakeRecipesToLayerMap = bitbakeRecipesToLayerMap;
     }
 
-    public Extraction extract(File sourceDirectory, File buildEnvScript, List<String> sourceArguments, List<String> packageNames, Integer searchDepth, ExecutableTarget bash) {
+    public Extraction extract(File sourceDirectory, File outputDirectory, File buildEnvScript, List<String> sourceArguments, List<String> packageNames, Integer searchDepth, boolean singleSession,
+        ExecutableTarget bash) {
         List<CodeLocation> codeLocations = new ArrayList<>();
 
         BitbakeSession bitbakeSession = new BitbakeSession(fileFinder, executableRunner, bitbakeRecipesParser, sourceDirectory, buildEnvScript, sourceArguments, bash);
+        Map<String, File> sessionTaskDependsFiles = singleSession ? generateTaskDependsFiles(bitbakeSession, outputDirectory, packageNames) : Collections.emptyMap();
+        // The recipe layer catalog does not depend on the package, so it is only requested for the first package that needs it.
+        Map<String, String> recipeNameToLayersMap = null;
         for (String packageName : packageNames) {
             try {
-                BitbakeGraph bitbakeGraph = generateBitbakeGraph(bitbakeSession, sourceDirectory, packageName, searchDepth);
-                List<BitbakeRecipe> bitbakeRecipes = bitbakeSession.executeBitbakeForRecipeLayerCatalog();
-                Map<String, String> recipeNameToLayersMap = bitbakeRecipesToLayerMap.convert(bitbakeRecipes);
+                Optional<File> taskDependsFile = singleSession ? Optional.ofNullable(sessionTaskDependsFiles.get(packageName)) : bitbakeSession.executeBitbakeForDependencies(sourceDirectory, packageName, searchDepth);
+                BitbakeGraph bitbakeGraph = taskDependsStreamingParser.parse(taskDependsFile.orElseThrow(() -> new IntegrationException("Failed to find file \"task-depends.dot\".")));
+                if (recipeNameToLayersMap == null) {
+                    List<BitbakeRecipe> bitbakeRecipes = bitbakeSession.executeBitbakeForRecipeLayerCatalog();
+                    recipeNameToLayersMap = bitbakeRecipesToLayerMap.convert(bitbakeRecipes);
+                }
 
                 DependencyGraph dependencyGraph = bitbakeGraphTransformer.transform(bitbakeGraph, recipeNameToLayersMap);
                 CodeLocation codeLocation = new CodeLocation(dependencyGraph);
@@ -92,15 +97,13 @@ public class BitbakeExtractor {
         return extraction;
     }
 
-    private BitbakeGraph generateBitbakeGraph(BitbakeSession bitbakeSession, File sourceDirectory, String packageName, Integer searchDepth) throws ExecutableRunnerException, IOException, IntegrationException {
-        File taskDependsFile = bitbakeSession.executeBitbakeForDependencies(sourceDirectory, packageName, searchDepth)
-                                         .orElseThrow(() -> new IntegrationException("Failed to find file \"task-depends.dot\"."));
-
-        logger.trace(FileUtils.readFileToString(taskDependsFile, Charset.defaultCharset()));
-
-        InputStream dependsFileInputStream = FileUtils.openInputStream(taskDependsFile);
-        GraphParser graphParser = new GraphParser(dependsFileInputStream);
-
-        return graphParserTransformer.transform(graphParser);
+    private Map<String, File> generateTaskDependsFiles(BitbakeSession bitbakeSession, File outputDirectory, List<String> packageNames) {
+        try {
+            return bitbakeSession.executeBitbakeForDependencies(outputDirectory, packageNames);
+        } catch (IOException | ExecutableRunnerException e) {
+            logger.error("Failed to run Bitbake against the packages in a single session");
+            logger.debug(e.getMessage(), e);
+            return Collections.emptyMap();
+        }
     }
 }
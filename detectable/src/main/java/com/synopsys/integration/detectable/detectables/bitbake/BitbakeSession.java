@@ -9,7 +9,10 @@ package com.synopsys.integration.detectable.detectables.bitbake;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -66,6 +69,46 @@ public class BitbakeSession {
 
     }
 
+    // Sources the build environment once and runs bitbake -g for every package in that shell. Each package's task-depends.dot is written to the
+    // working directory of the session, so it is copied to the output directory before the next package overwrites it. Packages whose bitbake -g
+    // failed have no entry in the returned map.
+    public Map<String, File> executeBitbakeForDependencies(File outputDirectory, List<String> packageNames) throws ExecutableRunnerException, IOException {
+        Files.createDirectories(outputDirectory.toPath());
+        Map<String, File> taskDependsFiles = new LinkedHashMap<>();
+        StringBuilder bitbakeCommands = new StringBuilder();
+        for (String packageName : packageNames) {
+            if (taskDependsFiles.containsKey(packageName)) {
+                continue;
+            }
+            File taskDependsFile = new File(outputDirectory, String.format("task-depends-%d.dot", taskDependsFiles.size()));
+            taskDependsFiles.put(packageName, taskDependsFile);
+            if (bitbakeCommands.length() > 0) {
+                bitbakeCommands.append("; ");
+            }
+            bitbakeCommands.append("bitbake -g ").append(packageName)
+                .append(" && cp ").append(TASK_DEPENDS_FILE_NAME).append(" ").append(quote(taskDependsFile.getCanonicalPath()));
+        }
+
+        ExecutableOutput executableOutput = runBitbake(bitbakeCommands.toString());
+        if (executableOutput.getReturnCode() != 0) {
+            logger.debug(String.format("Executing commands '%s' returned a non-zero exit code %s", bitbakeCommands, executableOutput.getReturnCode()));
+        }
+
+        Map<String, File> generatedTaskDependsFiles = new LinkedHashMap<>();
+        for (Map.Entry<String, File> taskDependsFile : taskDependsFiles.entrySet()) {
+            if (taskDependsFile.getValue().isFile()) {
+                generatedTaskDependsFiles.put(taskDependsFile.getKey(), taskDependsFile.getValue());
+            } else {
+                logger.error(String.format("Executing command 'bitbake -g %s' did not produce a %s file", taskDependsFile.getKey(), TASK_DEPENDS_FILE_NAME));
+            }
+        }
+        return generatedTaskDependsFiles;
+    }
+
+    private String quote(String argument) {
+        return "'" + argument.replace("'", "'\\''") + "'";
+    }
+
     private Optional<File> findTaskDependsFile(File sourceDirectory, File outputDirectory, Integer searchDepth) {
         File file = fileFinder.findFile(outputDirectory, TASK_DEPENDS_FILE_NAME, searchDepth);
         if (file == null) {
@@ -8,25 +8,25 @@
 package com.synopsys.integration.detectable.detectables.bitbake.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import org.jetbrains.annotations.Nullable;
 
 public class BitbakeGraph {
     private final List<BitbakeNode> nodes = new ArrayList<>();
+    private final Map<String, BitbakeNode> nodesByName = new HashMap<>();
 
     private BitbakeNode getOrCreate(final String name) {
-        final Optional<BitbakeNode> existingNode = nodes.stream()
-                                                       .filter(node -> node.getName().equals(name))
-                                                       .findFirst();
-
-        if (existingNode.isPresent()) {
-            return existingNode.get();
+        final BitbakeNode existingNode = nodesByName.get(name);
+        if (existingNode != null) {
+            return existingNode;
         }
 
         final BitbakeNode newNode = new BitbakeNode(name);
         nodes.add(newNode);
+        nodesByName.put(name, newNode);
         return newNode;
     }
 
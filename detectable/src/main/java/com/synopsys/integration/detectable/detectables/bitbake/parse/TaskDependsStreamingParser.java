@@ -0,0 +1,167 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.bitbake.parse;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGraph;
+
+// Reads the task-depends.dot written by bitbake -g one statement (line) at a time. Every task is collapsed into its package as soon as it is read,
+// so only the package nodes and edges between packages are kept, never the task graph itself.
+public class TaskDependsStreamingParser {
+    private static final String TASK_SEPARATOR = ".do_";
+    private static final String LABEL_ATTRIBUTE = "label";
+    private static final String EDGE_OPERATOR = "->";
+    private static final Set<String> KEYWORDS = new HashSet<>(Arrays.asList("digraph", "graph", "subgraph", "node", "edge"));
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    public BitbakeGraph parse(File taskDependsFile) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(taskDependsFile.toPath(), StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    public BitbakeGraph parse(BufferedReader reader) throws IOException {
+        BitbakeGraph bitbakeGraph = new BitbakeGraph();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (logger.isTraceEnabled()) {
+                logger.trace(line);
+            }
+            parseStatement(bitbakeGraph, line);
+        }
+        return bitbakeGraph;
+    }
+
+    private void parseStatement(BitbakeGraph bitbakeGraph, String line) {
+        StatementReader statement = new StatementReader(line);
+        String firstId = statement.readId();
+        if (firstId == null || KEYWORDS.contains(firstId)) {
+            return;
+        }
+
+        if (statement.skip(EDGE_OPERATOR)) {
+            String secondId = statement.readId();
+            if (secondId == null) {
+                logger.debug(String.format("Unknown task-depends.dot edge format: %s", line));
+                return;
+            }
+            String parent = getNameFromTask(firstId);
+            String child = getNameFromTask(secondId);
+            if (!parent.equals(child)) {
+                bitbakeGraph.addChild(parent, child);
+            }
+        } else if (statement.skip("[")) {
+            String label = statement.readAttribute(LABEL_ATTRIBUTE);
+            if (StringUtils.isNotBlank(label)) {
+                String[] components = label.split("\\\\n:|\\\\n");
+                if (components.length > 1) {
+                    bitbakeGraph.addNode(getNameFromTask(firstId), components[1]);
+                } else {
+                    logger.debug(String.format("No version found in the label of task '%s'", firstId));
+                }
+            }
+        }
+    }
+
+    private String getNameFromTask(String taskId) {
+        String[] taskIdPieces = taskId.split(TASK_SEPARATOR);
+        return taskIdPieces[0].replace("\"", "");
+    }
+
+    // A cursor over one dot statement: ids are either quoted strings (with \" escapes) or bare words.
+    private static class StatementReader {
+        private final String statement;
+        private int position = 0;
+
+        private StatementReader(String statement) {
+            this.statement = statement;
+        }
+
+        private String readId() {
+            skipWhitespace();
+            if (position >= statement.length()) {
+                return null;
+            }
+            if (statement.charAt(position) == '"') {
+                return readQuoted();
+            }
+            int start = position;
+            while (position < statement.length() && isIdCharacter(statement.charAt(position))) {
+                position++;
+            }
+            return position > start ? statement.substring(start, position) : null;
+        }
+
+        private String readQuoted() {
+            StringBuilder value = new StringBuilder();
+            position++;
+            while (position < statement.length()) {
+                char current = statement.charAt(position++);
+                if (current == '"') {
+                    return value.toString();
+                } else if (current == '\\' && position < statement.length() && statement.charAt(position) == '"') {
+                    value.append('"');
+                    position++;
+                } else {
+                    value.append(current);
+                }
+            }
+            return value.toString();
+        }
+
+        private boolean skip(String token) {
+            skipWhitespace();
+            if (statement.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        // Reads the attribute list up to the closing bracket and returns the value of the given attribute, if present.
+        private String readAttribute(String attributeName) {
+            String attributeValue = null;
+            while (!skip("]")) {
+                String name = readId();
+                if (name == null) {
+                    break;
+                }
+                String value = skip("=") ? readId() : null;
+                if (attributeName.equals(name)) {
+                    attributeValue = value;
+                }
+                skip(",");
+                skip(";");
+            }
+            return attributeValue;
+        }
+
+        private void skipWhitespace() {
+            while (position < statement.length() && Character.isWhitespace(statement.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean isIdCharacter(char character) {
+            return Character.isLetterOrDigit(character) || character == '_' || character == '.' || character == '-' || character == '+' || character == '/';
+        }
+    }
+}
@@ -9,12 +9,22 @@ package com.synopsys.integration.detectable.detectables.clang;
 
 public class ClangDetectableOptions {
     private final boolean cleanup;
+    private final int dependencyFileThreads;
 
     public ClangDetectableOptions(final boolean cleanup) {
+        this(cleanup, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ClangDetectableOptions(final boolean cleanup, final int dependencyFileThreads) {
         this.cleanup = cleanup;
+        this.dependencyFileThreads = dependencyFileThreads;
     }
 
     public boolean isCleanup() {
         return cleanup;
     }
+
+    public int getDependencyFileThreads() {
+        return dependencyFileThreads;
+    }
 }
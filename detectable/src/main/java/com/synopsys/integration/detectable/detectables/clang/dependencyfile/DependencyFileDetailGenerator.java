@@ -8,9 +8,14 @@
 package com.synopsys.integration.detectable.detectables.clang.dependencyfile;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -26,16 +31,53 @@ public class DependencyFileDetailGenerator {
     public DependencyFileDetailGenerator(FilePathGenerator filePathGenerator) {this.filePathGenerator = filePathGenerator;}
 
     public Set<File> fromCompileCommands(List<CompileCommand> compileCommands, File outputDirectory, boolean cleanup) {
+        return fromCompileCommands(compileCommands, outputDirectory, cleanup, Runtime.getRuntime().availableProcessors());
+    }
+
+    // Runs at most maximumThreads compiler invocations at a time. Each deps.mk is parsed as soon as its compiler run finishes and merged into the shared results,
+    // so a header included by many sources is only checked for existence the first time it is seen.
+    public Set<File> fromCompileCommands(List<CompileCommand> compileCommands, File outputDirectory, boolean cleanup, int maximumThreads) {
+        Set<String> seenPaths = ConcurrentHashMap.newKeySet();
+        Set<File> dependencyFiles = ConcurrentHashMap.newKeySet();
 
-        Set<File> dependencyFiles = compileCommands.parallelStream()
-                                              .flatMap(command -> filePathGenerator.fromCompileCommand(outputDirectory, command, cleanup).stream())
-                                              .filter(StringUtils::isNotBlank)
-                                              .map(File::new)
-                                              .filter(File::exists)
-                                              .collect(Collectors.toSet());
+        int threads = Math.max(1, Math.min(maximumThreads, compileCommands.size()));
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> generationFutures = new ArrayList<>(compileCommands.size());
+            for (CompileCommand compileCommand : compileCommands) {
+                generationFutures.add(executorService.submit(() -> addDependencyFiles(compileCommand, outputDirectory, cleanup, seenPaths, dependencyFiles)));
+            }
+            for (Future<?> generationFuture : generationFutures) {
+                waitForGeneration(generationFuture);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
 
         logger.trace("Found : " + dependencyFiles.size() + " files to process.");
 
         return dependencyFiles;
     }
+
+    private void addDependencyFiles(CompileCommand compileCommand, File outputDirectory, boolean cleanup, Set<String> seenPaths, Set<File> dependencyFiles) {
+        for (String dependencyPath : filePathGenerator.fromCompileCommand(outputDirectory, compileCommand, cleanup)) {
+            if (StringUtils.isNotBlank(dependencyPath) && seenPaths.add(dependencyPath)) {
+                File dependencyFile = new File(dependencyPath);
+                if (dependencyFile.exists()) {
+                    dependencyFiles.add(dependencyFile);
+                }
+            }
+        }
+    }
+
+    private void waitForGeneration(Future<?> generationFuture) {
+        try {
+            generationFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating dependency files.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to generate dependency files: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
 }
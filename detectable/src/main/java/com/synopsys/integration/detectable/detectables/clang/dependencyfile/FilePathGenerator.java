@@ -15,7 +15,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
@@ -34,7 +34,8 @@ public class FilePathGenerator {
     private static final String DEPS_MK_FILENAME_PATTERN = "deps_%s_%d.mk";
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
-    private static final Random random = new Random();
+    // Dependency files are generated concurrently, so every generated file needs a distinct name even when source files share a base name.
+    private static final AtomicInteger depsMkFileCount = new AtomicInteger();
     private final DetectableExecutableRunner executableRunner;
     private final CompileCommandParser commandParser;
     private final DependencyListFileParser dependencyListFileParser;
@@ -76,9 +77,8 @@ public class FilePathGenerator {
     }
 
     private String deriveDependenciesListFilename(CompileCommand compileCommand) {
-        int randomInt = random.nextInt(1000);
         String sourceFilenameBase = getFilenameBase(compileCommand.file);
-        return String.format(DEPS_MK_FILENAME_PATTERN, sourceFilenameBase, randomInt);
+        return String.format(DEPS_MK_FILENAME_PATTERN, sourceFilenameBase, depsMkFileCount.incrementAndGet());
     }
 
     private String getFilenameBase(String filePathString) {
@@ -24,7 +24,8 @@ public class ClangPackageManagerInfoFactory {
         rpm.setForge(Forge.CENTOS, Forge.FEDORA, Forge.REDHAT);
         rpm.setPresenceCheckArguments(VERSION_FLAG);
         rpm.setPresenceCheckExpectedText("RPM version");
-        rpm.setGetOwnerArguments("-qf", "--queryformat=\\{ epoch: \\\"%{E}\\\", name: \\\"%{N}\\\", version: \\\"%{V}-%{R}\\\", arch: \\\"%{ARCH}\\\" \\}");
+        // Each package ends with a newline so that the owners of a batch of files are reported one per line.
+        rpm.setGetOwnerArguments("-qf", "--queryformat=\\{ epoch: \\\"%{E}\\\", name: \\\"%{N}\\\", version: \\\"%{V}-%{R}\\\", arch: \\\"%{ARCH}\\\" \\}\\n");
         return rpm.build();
     }
 
@@ -9,8 +9,11 @@ package com.synopsys.integration.detectable.detectables.clang.packagemanager;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
@@ -24,6 +27,9 @@ import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
 public class ClangPackageManagerRunner {
+    // Keeps each ownership query's command line well below the argument length limits of the supported platforms.
+    private static final int OWNERSHIP_QUERY_BATCH_SIZE = 500;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     public boolean applies(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executor) {
@@ -48,8 +54,10 @@ public class ClangPackageManagerRunner {
     public PackageDetailsResult getAllPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final Set<File> dependencyFiles) {
         final Set<PackageDetails> packageDetails = new HashSet<>();
         final Set<File> unRecognizedDependencyFiles = new HashSet<>();
-        for (final File dependencyFile : dependencyFiles) {
-            final PackageDetailsResult packageDetailsResult = getPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile);
+        final List<File> orderedDependencyFiles = new ArrayList<>(dependencyFiles);
+        for (int batchStart = 0; batchStart < orderedDependencyFiles.size(); batchStart += OWNERSHIP_QUERY_BATCH_SIZE) {
+            final List<File> batch = orderedDependencyFiles.subList(batchStart, Math.min(batchStart + OWNERSHIP_QUERY_BATCH_SIZE, orderedDependencyFiles.size()));
+            final PackageDetailsResult packageDetailsResult = getPackages(currentPackageManager, workingDirectory, executableRunner, batch);
             packageDetails.addAll(packageDetailsResult.getFoundPackages());
             unRecognizedDependencyFiles.addAll(packageDetailsResult.getUnRecognizedDependencyFiles());
         }
@@ -57,6 +65,93 @@ public class ClangPackageManagerRunner {
         return new PackageDetailsResult(packageDetails, unRecognizedDependencyFiles);
     }
 
+    // Queries the owners of many files with a single invocation of the package manager. The package managers report one line per file
+    // (owned or not, on either output stream), so each line is resolved on its own and a line reporting an unowned file only marks the file it names.
+    // Files the output does not account for are queried again on their own, so none of them are silently dropped.
+    public PackageDetailsResult getPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final List<File> dependencyFiles) {
+        final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
+        final Set<PackageDetails> dependencyDetails = new HashSet<>();
+        final Set<File> unRecognizedDependencyFiles = new HashSet<>();
+        final Map<String, File> dependencyFilesByPath = new HashMap<>();
+        final List<String> batchGetOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+        for (final File dependencyFile : dependencyFiles) {
+            dependencyFilesByPath.put(dependencyFile.getAbsolutePath(), dependencyFile);
+            batchGetOwnerArgs.add(dependencyFile.getAbsolutePath());
+        }
+
+        final ExecutableOutput queryPackageResult;
+        try {
+            queryPackageResult = executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), batchGetOwnerArgs);
+        } catch (final ExecutableRunnerException e) {
+            logger.debug(String.format("Error with %d dependency files when running %s", dependencyFiles.size(), packageManagerInfo.getPkgMgrCmdString()));
+            logger.error(String.format("Error executing %s: %s", packageManagerInfo.getPkgMgrCmdString(), e.getMessage()));
+            return new PackageDetailsResult(dependencyDetails, unRecognizedDependencyFiles);
+        }
+
+        final Set<File> reportedDependencyFiles = new HashSet<>();
+        int unattributedOwnerLines = 0;
+        final List<String> queryPackageOutputLines = new ArrayList<>();
+        queryPackageOutputLines.addAll(Arrays.asList(queryPackageResult.getStandardOutput().split("\n")));
+        queryPackageOutputLines.addAll(Arrays.asList(queryPackageResult.getErrorOutput().split("\n")));
+        for (final String queryPackageOutputLine : queryPackageOutputLines) {
+            try {
+                if (resolveOwnershipLine(currentPackageManager, workingDirectory, executableRunner, queryPackageOutputLine, dependencyFilesByPath, reportedDependencyFiles, dependencyDetails, unRecognizedDependencyFiles)) {
+                    unattributedOwnerLines++;
+                }
+            } catch (final ExecutableRunnerException e) {
+                logger.error(String.format("Error executing %s: %s", packageManagerInfo.getPkgMgrCmdString(), e.getMessage()));
+            }
+        }
+
+        // Owner lines that name no file (rpm's) can account for as many files as there are such lines; when there are fewer lines than
+        // files still unaccounted for, the output cannot say which files were left out.
+        final List<File> unreportedDependencyFiles = new ArrayList<>();
+        for (final File dependencyFile : dependencyFiles) {
+            if (!reportedDependencyFiles.contains(dependencyFile)) {
+                unreportedDependencyFiles.add(dependencyFile);
+            }
+        }
+        if (unattributedOwnerLines < unreportedDependencyFiles.size()) {
+            for (final File unreportedDependencyFile : unreportedDependencyFiles) {
+                final PackageDetailsResult singleFileResult = getPackages(currentPackageManager, workingDirectory, executableRunner, unreportedDependencyFile);
+                if (singleFileResult.getFoundPackages().isEmpty() && singleFileResult.getUnRecognizedDependencyFiles().isEmpty()) {
+                    logger.debug(String.format("%s is not recognized by the linux package manager (no owner reported)", unreportedDependencyFile.getAbsolutePath()));
+                    unRecognizedDependencyFiles.add(unreportedDependencyFile);
+                }
+                dependencyDetails.addAll(singleFileResult.getFoundPackages());
+                unRecognizedDependencyFiles.addAll(singleFileResult.getUnRecognizedDependencyFiles());
+            }
+        }
+        return new PackageDetailsResult(dependencyDetails, unRecognizedDependencyFiles);
+    }
+
+    // Returns true when the line resolved to packages without naming any of the queried files.
+    private boolean resolveOwnershipLine(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final String queryPackageOutputLine,
+        final Map<String, File> dependencyFilesByPath, final Set<File> reportedDependencyFiles, final Set<PackageDetails> dependencyDetails, final Set<File> unRecognizedDependencyFiles) throws ExecutableRunnerException {
+        if (StringUtils.isBlank(queryPackageOutputLine)) {
+            return false;
+        }
+        final Set<File> namedDependencyFiles = new HashSet<>();
+        for (final String token : queryPackageOutputLine.trim().split("\\s+")) {
+            final File dependencyFile = dependencyFilesByPath.get(StringUtils.stripEnd(token, ":,"));
+            if (dependencyFile != null) {
+                namedDependencyFiles.add(dependencyFile);
+            }
+        }
+        reportedDependencyFiles.addAll(namedDependencyFiles);
+        try {
+            final List<PackageDetails> packageDetails = currentPackageManager.getPackageResolver().resolvePackages(currentPackageManager.getPackageManagerInfo(), executableRunner, workingDirectory, queryPackageOutputLine);
+            dependencyDetails.addAll(packageDetails);
+            return namedDependencyFiles.isEmpty() && !packageDetails.isEmpty();
+        } catch (final NotOwnedByAnyPkgException notOwnedException) {
+            for (final File dependencyFile : namedDependencyFiles) {
+                logger.debug(String.format("%s is not recognized by the linux package manager (%s)", dependencyFile.getAbsolutePath(), notOwnedException.getMessage()));
+                unRecognizedDependencyFiles.add(dependencyFile);
+            }
+            return false;
+        }
+    }
+
     public PackageDetailsResult getPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final File dependencyFile) {
         final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
         final Set<PackageDetails> dependencyDetails = new HashSet<>();
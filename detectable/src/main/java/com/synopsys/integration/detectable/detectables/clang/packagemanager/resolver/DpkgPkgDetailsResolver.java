@@ -10,7 +10,9 @@ package com.synopsys.integration.detectable.detectables.clang.packagemanager.res
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
@@ -27,13 +29,23 @@ public class DpkgPkgDetailsResolver {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private static final int PKG_INFO_LINE_LABEL_POSITION = 0;
     private static final int PKG_INFO_LINE_VALUE_POSITION = 1;
+    // Many dependency files belong to the same package, so each package's details are only queried once. The resolver can be shared by
+    // extractions running in parallel.
+    private final Map<String, Optional<PackageDetails>> resolvedPackageDetails = new ConcurrentHashMap<>();
 
     public Optional<PackageDetails> resolvePackageDetails(ClangPackageManagerInfo currentPackageManager, DetectableExecutableRunner executableRunner, File workingDirectory, NameArchitecture packageNameArchitecture) {
+        String packageArg = constructPackageArg(packageNameArchitecture.getName(), packageNameArchitecture.getArchitecture().orElse(null));
+        Optional<PackageDetails> resolved = resolvedPackageDetails.get(packageArg);
+        if (resolved != null) {
+            return resolved;
+        }
         try {
             List<String> args = new ArrayList<>(currentPackageManager.getPkgInfoArgs().get());
-            args.add(constructPackageArg(packageNameArchitecture.getName(), packageNameArchitecture.getArchitecture().orElse(null)));
+            args.add(packageArg);
             ExecutableOutput packageInfoOutput = executableRunner.execute(workingDirectory, currentPackageManager.getPkgMgrCmdString(), args);
-            return parsePackageDetailsFromInfoOutput(packageNameArchitecture.getName(), packageInfoOutput.getStandardOutput());
+            Optional<PackageDetails> packageDetails = parsePackageDetailsFromInfoOutput(packageNameArchitecture.getName(), packageInfoOutput.getStandardOutput());
+            resolvedPackageDetails.put(packageArg, packageDetails);
+            return packageDetails;
         } catch (ExecutableRunnerException e) {
             logger.warn(String.format("Error executing %s to get package info: %s", currentPackageManager.getPkgMgrName(), e.getMessage()));
         }
@@ -69,14 +69,8 @@ public class RpmPackageManagerResolver implements ClangPackageManagerResolver {
             throw new NotOwnedByAnyPkgException(queryOutputLine);
         }
         if (queryOutputLine.contains("epoch:") && queryOutputLine.contains("name:") && queryOutputLine.contains("version:") && queryOutputLine.contains("arch:")) {
-            int indexOfSecondPkgVariant = queryOutputLine.indexOf('{', 1);
-            if (indexOfSecondPkgVariant < 0) {
-                // This line contains a single package variant; it's fine as-is
-                return Optional.of(queryOutputLine);
-            } else {
-                // This line contains multiple package variants; return first variant
-                return Optional.of(queryOutputLine.substring(0, indexOfSecondPkgVariant));
-            }
+            // The query format ends each package with a newline, so every package variant owning the file is on a line of its own
+            return Optional.of(queryOutputLine);
         } else {
             // This line contains no package
             return Optional.empty();
@@ -26,14 +26,16 @@ public class GoModCliDetectable extends Detectable {
     private final FileFinder fileFinder;
     private final GoResolver goResolver;
     private final GoModCliExtractor goModCliExtractor;
+    private final GoModCliDetectableOptions options;
 
     private ExecutableTarget goExe;
 
-    public GoModCliDetectable(DetectableEnvironment environment, FileFinder fileFinder, GoResolver goResolver, GoModCliExtractor goModCliExtractor) {
+    public GoModCliDetectable(DetectableEnvironment environment, FileFinder fileFinder, GoResolver goResolver, GoModCliExtractor goModCliExtractor, GoModCliDetectableOptions options) {
         super(environment);
         this.fileFinder = fileFinder;
         this.goResolver = goResolver;
         this.goModCliExtractor = goModCliExtractor;
+        this.options = options;
     }
 
     @Override
@@ -52,6 +54,6 @@ public class GoModCliDetectable extends Detectable {
 
     @Override
     public Extraction extract(ExtractionEnvironment extractionEnvironment) {
-        return goModCliExtractor.extract(environment.getDirectory(), goExe);
+        return goModCliExtractor.extract(environment.getDirectory(), goExe, options.isConcurrentCommands());
     }
 }
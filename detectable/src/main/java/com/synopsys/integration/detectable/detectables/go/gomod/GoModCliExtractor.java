@@ -10,12 +10,22 @@ package com.synopsys.integration.detectable.detectables.go.gomod;
 import java.io.File;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
 
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.executable.ExecutableRunnerException;
 
 public class GoModCliExtractor {
+    // go list -m, go version followed by go list -m -u -json all, go mod why -m all and go mod graph each run on their own thread.
+    private static final int INDEPENDENT_GO_COMMANDS = 4;
+
     private final GoModCommandExecutor goModCommandExecutor;
     private final GoModGraphTransformer goModGraphTransformer;
     private final GoModGraphParser goModGraphParser;
@@ -29,17 +39,50 @@ public class GoModCliExtractor {
     }
 
     public Extraction extract(File directory, ExecutableTarget goExe) {
+        return extract(directory, goExe, false);
+    }
+
+    // When the commands are not concurrent they run one at a time in the order they are submitted. go mod graph is submitted last because its
+    // output is parsed while go writes it, which needs the modules, replacements and exclusions from the other commands.
+    public Extraction extract(File directory, ExecutableTarget goExe, boolean concurrentCommands) {
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrentCommands ? INDEPENDENT_GO_COMMANDS : 1);
         try {
-            List<String> listOutput = goModCommandExecutor.generateGoListOutput(directory, goExe);
-            List<String> listUJsonOutput = goModCommandExecutor.generateGoListUJsonOutput(directory, goExe);
-            List<String> modGraphOutput = goModCommandExecutor.generateGoModGraphOutput(directory, goExe);
-            List<String> modWhyOutput = goModCommandExecutor.generateGoModWhyOutput(directory, goExe);
-            Set<String> moduleExclusionList = goModWhyParser.createModuleExclusionList(modWhyOutput);
-            List<String> finalModGraphOutput = goModGraphTransformer.transformGoModGraphOutput(modGraphOutput, listUJsonOutput);
-            List<CodeLocation> codeLocations = goModGraphParser.parseListAndGoModGraph(listOutput, finalModGraphOutput, moduleExclusionList);
+            Future<List<String>> listOutput = executorService.submit(() -> goModCommandExecutor.generateGoListOutput(directory, goExe));
+            Future<List<String>> listUJsonOutput = executorService.submit(() -> goModCommandExecutor.generateGoListUJsonOutput(directory, goExe));
+            Future<List<String>> modWhyOutput = executorService.submit(() -> goModCommandExecutor.generateGoModWhyOutput(directory, goExe));
+            Future<List<CodeLocation>> modGraphCodeLocations = executorService.submit(() -> {
+                List<String> modules = waitForCommand(listOutput);
+                UnaryOperator<String> modGraphLineTransformer = goModGraphTransformer.createGoModGraphLineTransformer(waitForCommand(listUJsonOutput));
+                Set<String> moduleExclusionList = goModWhyParser.createModuleExclusionList(waitForCommand(modWhyOutput));
+                return goModCommandExecutor.generateGoModGraphOutput(directory, goExe,
+                    modGraphOutput -> goModGraphParser.parseListAndGoModGraph(modules, modGraphOutput.lines().map(modGraphLineTransformer), moduleExclusionList));
+            });
+
+            List<CodeLocation> codeLocations = waitForCommand(modGraphCodeLocations);
             return new Extraction.Builder().success(codeLocations).build();//no project info - hoping git can help with that.
         } catch (Exception e) {
             return new Extraction.Builder().exception(e).build();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private <T> T waitForCommand(Future<T> commandOutput) throws ExecutableRunnerException, DetectableException {
+        try {
+            return commandOutput.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DetectableException("Interrupted while waiting for a go command.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ExecutableRunnerException) {
+                throw (ExecutableRunnerException) cause;
+            } else if (cause instanceof DetectableException) {
+                throw (DetectableException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new DetectableException("A go command failed: " + cause.getMessage(), cause);
         }
     }
 }
@@ -21,6 +21,8 @@ import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.ExecutableUtils;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutputProcessor;
 import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
@@ -57,8 +59,16 @@ public class GoModCommandExecutor {
         return new ArrayList<>();
     }
 
-    List<String> generateGoModGraphOutput(File directory, ExecutableTarget goExe) throws ExecutableRunnerException, DetectableException {
-        return execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH, "mod", "graph");
+    // The graph is usually the largest output, so it is handed to the processor while go writes it rather than collected first.
+    <T> T generateGoModGraphOutput(File directory, ExecutableTarget goExe, ExecutableOutputProcessor<T> modGraphProcessor) throws ExecutableRunnerException, DetectableException {
+        try {
+            return executableRunner.executeSuccessfully(ExecutableUtils.createFromTarget(directory, goExe, "mod", "graph"), modGraphProcessor);
+        } catch (ExecutableFailedException e) {
+            if (e.getExecutableException() != null) {
+                throw e.getExecutableException();
+            }
+            throw new DetectableException(FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH + e.getReturnCode());
+        }
     }
 
     List<String> generateGoModWhyOutput(File directory, ExecutableTarget goExe) {
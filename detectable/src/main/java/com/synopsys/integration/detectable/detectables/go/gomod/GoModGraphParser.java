@@ -10,12 +10,11 @@ package com.synopsys.integration.detectable.detectables.go.gomod;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
@@ -31,18 +30,8 @@ public class GoModGraphParser {
         this.externalIdFactory = externalIdFactory;
     }
 
-    DependencyGraph parseGoModGraph(List<String> goModGraph, String rootModule, Set<String> moduleExclusionList) {
-        MutableDependencyGraph mutableDependencyGraph = new MutableMapDependencyGraph();
-
-        for (String line : goModGraph) {
-            //example: github.com/gomods/athens cloud.google.com/go@v0.26.0
-            addDependencyToGraph(mutableDependencyGraph, line, rootModule, moduleExclusionList);
-        }
-
-        return mutableDependencyGraph;
-    }
-
-    private void addDependencyToGraph(MutableDependencyGraph mutableDependencyGraph, String line, String rootModule, Set<String> moduleExclusionList) {
+    private void addDependencyToGraphs(List<String> rootModules, List<MutableDependencyGraph> graphs, String line, Set<String> moduleExclusionList) {
+        //example: github.com/gomods/athens cloud.google.com/go@v0.26.0
         String[] parts = line.split(" ");
         if (parts.length != 2) {
             logger.warn("Unknown graph line format: {}", line);
@@ -51,18 +40,26 @@ public class GoModGraphParser {
         String fromModule = parts[0];
         String toModule = parts[1];
         Dependency to = parseDependency(toModule);
+        boolean includeToDependency = !moduleExclusionList.contains(to.getName());
+        if (!includeToDependency) {
+            return;
+        }
 
-        Predicate<String> includeModule = moduleName -> !moduleExclusionList.contains(moduleName);
-        boolean includeToDependency = includeModule.test(to.getName());
-        boolean addToRoot = rootModule.equals(fromModule) && includeToDependency;
-        if (addToRoot) {
-            mutableDependencyGraph.addChildToRoot(to);
-        } else {
-            Dependency from = parseDependency(fromModule);
-            boolean includeFromDependency = includeModule.test(from.getName());
-            boolean addChildToParent = includeToDependency && includeFromDependency;
-            if (addChildToParent) {
-                mutableDependencyGraph.addChildWithParent(to, from);
+        // The from dependency is only needed by graphs whose root is a different module, so it is parsed at most once and only when first needed.
+        Dependency from = null;
+        boolean includeFromDependency = false;
+        for (int i = 0; i < rootModules.size(); i++) {
+            MutableDependencyGraph mutableDependencyGraph = graphs.get(i);
+            if (rootModules.get(i).equals(fromModule)) {
+                mutableDependencyGraph.addChildToRoot(to);
+            } else {
+                if (from == null) {
+                    from = parseDependency(fromModule);
+                    includeFromDependency = !moduleExclusionList.contains(from.getName());
+                }
+                if (includeFromDependency) {
+                    mutableDependencyGraph.addChildWithParent(to, from);
+                }
             }
         }
     }
@@ -88,10 +85,21 @@ public class GoModGraphParser {
     }
 
     public List<CodeLocation> parseListAndGoModGraph(List<String> listOutput, List<String> modGraphOutput, Set<String> moduleExclusionList) {
+        return parseListAndGoModGraph(listOutput, modGraphOutput.stream(), moduleExclusionList);
+    }
+
+    // Builds the graph of every module in a single pass over the go mod graph lines, so the output is never held in full or read once per module.
+    public List<CodeLocation> parseListAndGoModGraph(List<String> listOutput, Stream<String> modGraphOutput, Set<String> moduleExclusionList) {
+        List<MutableDependencyGraph> graphs = new ArrayList<>(listOutput.size());
+        for (int i = 0; i < listOutput.size(); i++) {
+            graphs.add(new MutableMapDependencyGraph());
+        }
+        modGraphOutput.forEach(line -> addDependencyToGraphs(listOutput, graphs, line, moduleExclusionList));
+
         List<CodeLocation> codeLocations = new ArrayList<>();
-        for (String module : listOutput) {
-            DependencyGraph graph = parseGoModGraph(modGraphOutput, module, moduleExclusionList);
-            codeLocations.add(new CodeLocation(graph, externalIdFactory.createNameVersionExternalId(Forge.GOLANG, module, null)));
+        for (int i = 0; i < listOutput.size(); i++) {
+            String module = listOutput.get(i);
+            codeLocations.add(new CodeLocation(graphs.get(i), externalIdFactory.createNameVersionExternalId(Forge.GOLANG, module, null)));
         }
         return codeLocations;
     }
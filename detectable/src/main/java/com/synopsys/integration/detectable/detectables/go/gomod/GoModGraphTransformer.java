@@ -9,6 +9,7 @@ package com.synopsys.integration.detectable.detectables.go.gomod;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 
@@ -19,31 +20,24 @@ public class GoModGraphTransformer {
         this.replacementDataExtractor = replacementDataExtractor;
     }
 
-    List<String> transformGoModGraphOutput(List<String> modGraphOutput, List<String> listUJsonOutput) throws DetectableException {
-        if (!listUJsonOutput.isEmpty()) {
-            Map<String, String> replacementData = replacementDataExtractor.extractReplacementData(listUJsonOutput);
+    // Applies every replacement to one go mod graph line at a time, so the graph can be transformed as it is parsed.
+    UnaryOperator<String> createGoModGraphLineTransformer(List<String> listUJsonOutput) throws DetectableException {
+        if (listUJsonOutput.isEmpty()) {
+            return UnaryOperator.identity();
+        }
+        Map<String, String> replacementData = replacementDataExtractor.extractReplacementData(listUJsonOutput);
+        if (replacementData.isEmpty()) {
+            return UnaryOperator.identity();
+        }
+        return line -> transformGoModGraphLine(line, replacementData);
+    }
 
-            for (String line : modGraphOutput) {
-                int indexOfLine = modGraphOutput.indexOf(line);
-                boolean hasBeenModified = false;
-                for (Map.Entry<String, String> replacement : replacementData.entrySet()) {
-                    String newLine;
-                    boolean shouldModify;
-                    if (hasBeenModified) {
-                        newLine = modGraphOutput.get(indexOfLine).replace(replacement.getKey(), replacement.getValue());
-                        shouldModify = !modGraphOutput.get(indexOfLine).equals(newLine);
-                    } else {
-                        newLine = line.replace(replacement.getKey(), replacement.getValue());
-                        shouldModify = !line.equals(newLine);
-                    }
-                    if (shouldModify) {
-                        modGraphOutput.set(indexOfLine, newLine);
-                        hasBeenModified = true;
-                    }
-                }
-            }
+    private String transformGoModGraphLine(String line, Map<String, String> replacementData) {
+        String transformedLine = line;
+        for (Map.Entry<String, String> replacement : replacementData.entrySet()) {
+            transformedLine = transformedLine.replace(replacement.getKey(), replacement.getValue());
         }
-        return modGraphOutput;
+        return transformedLine;
     }
 
 }
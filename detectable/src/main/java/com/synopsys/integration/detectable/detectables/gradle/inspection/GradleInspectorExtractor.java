@@ -10,8 +10,15 @@ package com.synopsys.integration.detectable.detectables.gradle.inspection;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -47,7 +54,8 @@ public class GradleInspectorExtractor {
         this.gradleRootMetadataParser = gradleRootMetadataParser;
     }
 
-    public Extraction extract(File directory, ExecutableTarget gradleExe, @Nullable String gradleCommand, ProxyInfo proxyInfo, File gradleInspector, File outputDirectory) throws ExecutableFailedException {
+    public Extraction extract(File directory, ExecutableTarget gradleExe, @Nullable String gradleCommand, ProxyInfo proxyInfo, File gradleInspector, File outputDirectory, int reportThreads)
+        throws ExecutableFailedException {
         try {
             gradleRunner.runGradleDependencies(directory, gradleExe, gradleInspector, gradleCommand, proxyInfo, outputDirectory);
 
@@ -58,12 +66,7 @@ public class GradleInspectorExtractor {
             String projectName = null;
             String projectVersion = null;
             if (reportFiles != null) {
-                reportFiles.stream()
-                    .map(gradleReportParser::parseReport)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .map(gradleReportTransformer::transform)
-                    .forEach(codeLocations::add);
+                codeLocations.addAll(parseReports(reportFiles, reportThreads));
 
                 if (rootProjectMetadataFile != null) {
                     Optional<NameVersion> projectNameVersion = gradleRootMetadataParser.parseRootProjectNameVersion(rootProjectMetadataFile);
@@ -86,4 +89,39 @@ public class GradleInspectorExtractor {
         }
     }
 
+    // Each report is parsed and transformed on its own thread. The code locations are collected by report path, so they are returned in the same
+    // order no matter which report finishes first.
+    private Collection<CodeLocation> parseReports(List<File> reportFiles, int reportThreads) {
+        Map<String, CodeLocation> codeLocationsByReport = new ConcurrentSkipListMap<>();
+
+        int threads = Math.max(1, Math.min(reportThreads, reportFiles.size()));
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> reportFutures = new ArrayList<>(reportFiles.size());
+            for (File reportFile : reportFiles) {
+                reportFutures.add(executorService.submit(() -> gradleReportParser.parseReport(reportFile)
+                                                                   .map(gradleReportTransformer::transform)
+                                                                   .ifPresent(codeLocation -> codeLocationsByReport.put(reportFile.getAbsolutePath(), codeLocation))));
+            }
+            for (Future<?> reportFuture : reportFutures) {
+                waitForReport(reportFuture);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        return codeLocationsByReport.values();
+    }
+
+    private void waitForReport(Future<?> reportFuture) {
+        try {
+            reportFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while parsing gradle reports.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to parse a gradle report: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
 }
@@ -16,11 +16,17 @@ public class GradleInspectorOptions {
     private final String gradleBuildCommand;
     private final GradleInspectorScriptOptions gradleInspectorScriptOptions;
     private final ProxyInfo proxyInfo;
+    private final int parallelProcessors;
 
     public GradleInspectorOptions(final String gradleBuildCommand, final GradleInspectorScriptOptions gradleInspectorScriptOptions, final ProxyInfo proxyInfo) {
+        this(gradleBuildCommand, gradleInspectorScriptOptions, proxyInfo, 1);
+    }
+
+    public GradleInspectorOptions(final String gradleBuildCommand, final GradleInspectorScriptOptions gradleInspectorScriptOptions, final ProxyInfo proxyInfo, final int parallelProcessors) {
         this.gradleBuildCommand = gradleBuildCommand;
         this.gradleInspectorScriptOptions = gradleInspectorScriptOptions;
         this.proxyInfo = proxyInfo;
+        this.parallelProcessors = parallelProcessors;
     }
 
     public Optional<String> getGradleBuildCommand() {
@@ -34,4 +40,9 @@ public class GradleInspectorOptions {
     public ProxyInfo getproxyInfo() {
         return proxyInfo;
     }
+
+    // The number of dependency graph reports parsed at the same time.
+    public int getParallelProcessors() {
+        return parallelProcessors;
+    }
 }
@@ -13,10 +13,7 @@ import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -39,13 +36,17 @@ public class GradleReportParser {
 
     private final GradleReportConfigurationParser gradleReportConfigurationParser = new GradleReportConfigurationParser();
 
+    // Configuration sections are separated by blank lines. The first line of a section is its header, and every following line is parsed into the
+    // configuration as soon as it is read, so a section is never held in memory. A configuration is only added once it has at least one line.
     public Optional<GradleReport> parseReport(final File reportFile) {
         GradleReport gradleReport = new GradleReport();
         boolean processingMetaData = false;
-        final List<String> configurationLines = new ArrayList<>();
+        boolean processingSection = false;
+        String configurationHeader = null;
+        GradleConfiguration configuration = null;
         try (final InputStream dependenciesInputStream = new FileInputStream(reportFile); final BufferedReader reader = new BufferedReader(new InputStreamReader(dependenciesInputStream, StandardCharsets.UTF_8))) {
-            while (reader.ready()) {
-                final String line = reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
                 /*
                   The meta data section will be at the end of the file after all of the "gradle dependencies" output
                  */
@@ -63,15 +64,20 @@ public class GradleReportParser {
                 }
 
                 if (StringUtils.isBlank(line)) {
-                    parseConfigurationLines(configurationLines, gradleReport);
-                    configurationLines.clear();
-                } else {
-                    configurationLines.add(line);
+                    processingSection = false;
+                    configurationHeader = null;
+                    configuration = null;
+                } else if (!processingSection) {
+                    processingSection = true;
+                    configurationHeader = isConfigurationHeader(line) ? line : null;
+                } else if (configurationHeader != null) {
+                    if (configuration == null) {
+                        configuration = gradleReportConfigurationParser.parseHeader(configurationHeader);
+                        gradleReport.getConfigurations().add(configuration);
+                    }
+                    gradleReportConfigurationParser.addDependencyLine(configuration, line);
                 }
-
             }
-
-            parseConfigurationLines(configurationLines, gradleReport);
         } catch (final Exception e) {
             logger.debug(String.format("Failed to read report file: %s", reportFile.getAbsolutePath()), e);
             gradleReport = null;
@@ -92,20 +98,11 @@ public class GradleReportParser {
         }
     }
 
-    private void parseConfigurationLines(final List<String> configurationLines, final GradleReport gradleReport) {
-        if (configurationLines.size() > 1 && isConfigurationHeader(configurationLines)) {
-            final String header = configurationLines.get(0);
-            final List<String> dependencyTree = configurationLines.stream().skip(1).collect(Collectors.toList());
-            final GradleConfiguration configuration = gradleReportConfigurationParser.parse(header, dependencyTree);
-            gradleReport.getConfigurations().add(configuration);
-        }
-    }
-
-    private boolean isConfigurationHeader(final List<String> lines) {
-        if (lines.get(0).contains(" - ")) {
+    private boolean isConfigurationHeader(final String line) {
+        if (line.contains(" - ")) {
             return true;
         } else {
-            return StringUtils.isAlphanumeric(lines.get(0));
+            return StringUtils.isAlphanumeric(line);
         }
     }
 }
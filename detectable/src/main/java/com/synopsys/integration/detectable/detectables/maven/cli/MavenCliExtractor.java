@@ -7,12 +7,33 @@
  */
 package com.synopsys.integration.detectable.detectables.maven.cli;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
 
 import com.synopsys.integration.common.util.Bds;
 import com.synopsys.integration.common.util.parse.CommandParser;
@@ -22,9 +43,15 @@ import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
 import com.synopsys.integration.detectable.extraction.Extraction;
-import com.synopsys.integration.executable.ExecutableOutput;
+import com.synopsys.integration.executable.Executable;
 
 public class MavenCliExtractor {
+    private static final String TREE_FILE_SUFFIX = "-dependency-tree.txt";
+    private static final String TREE_FILE_WRITTEN_PREFIX = "Wrote dependency tree to:";
+    private static final String PLUGIN_PROJECT_SEPARATOR = " @ ";
+    private static final String ANSI_ESCAPE_PATTERN = "\u001B\\[[;\\d]*m";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final DetectableExecutableRunner executableRunner;
     private final MavenCodeLocationPackager mavenCodeLocationPackager;
     private final CommandParser commandParser;
@@ -36,23 +63,40 @@ public class MavenCliExtractor {
     }
 
     //TODO: Limit 'extractors' to 'execute' and 'read', delegate all other work.
-    public Extraction extract(File directory, ExecutableTarget mavenExe, MavenCliExtractorOptions mavenCliExtractorOptions) throws ExecutableFailedException {
+    public Extraction extract(File directory, ExecutableTarget mavenExe, MavenCliExtractorOptions mavenCliExtractorOptions, File outputDirectory) throws ExecutableFailedException {
 
         List<String> commandArguments = commandParser.parseCommandString(mavenCliExtractorOptions.getMavenBuildCommand().orElse("")).stream()
                                             .filter(arg -> !arg.equals("dependency:tree"))
                                             .collect(Collectors.toList());
 
         commandArguments.add("dependency:tree");
-        commandArguments.add("-T1"); // Force maven to use a single thread to ensure the tree output is in the correct order.
-
-        ExecutableOutput mvnExecutableResult = executableRunner.executeSuccessfully(ExecutableUtils.createFromTarget(directory, mavenExe, commandArguments));
+        if (mavenCliExtractorOptions.isPerModuleOutput()) {
+            // Every module writes its tree to its own file, so maven is free to build modules with as many threads as the build command asks for.
+            // Maven evaluates the project expressions in the output file for each module.
+            File treeFile = new File(outputDirectory, "${project.groupId}-${project.artifactId}" + TREE_FILE_SUFFIX);
+            commandArguments.add("-DoutputFile=" + treeFile.getAbsolutePath());
+        } else {
+            commandArguments.add("-T1"); // Force maven to use a single thread to ensure the tree output is in the correct order.
+        }
 
-        List<String> mavenOutput = mvnExecutableResult.getStandardOutputAsList();
+        Executable mavenExecutable = ExecutableUtils.createFromTarget(directory, mavenExe, commandArguments);
         List<String> excludedScopes = mavenCliExtractorOptions.getMavenExcludedScopes();
         List<String> includedScopes = mavenCliExtractorOptions.getMavenIncludedScopes();
         List<String> excludedModules = mavenCliExtractorOptions.getMavenExcludedModules();
         List<String> includedModules = mavenCliExtractorOptions.getMavenIncludedModules();
-        List<MavenParseResult> mavenResults = mavenCodeLocationPackager.extractCodeLocations(directory.toString(), mavenOutput, excludedScopes, includedScopes, excludedModules, includedModules);
+        List<MavenParseResult> mavenResults;
+        if (mavenCliExtractorOptions.isPerModuleOutput()) {
+            // The log only names the tree files here, the trees themselves are read from the files. Only the lines naming a tree file or starting a
+            // module's tree are kept while maven runs.
+            List<String> mavenOutput = executableRunner.executeSuccessfully(mavenExecutable, this::readTreeFileAndModuleStartLines);
+            List<File> treeFiles = findTreeFiles(mavenOutput, outputDirectory);
+            List<MavenParseResult> moduleResults = parseTreeFiles(directory.toString(), treeFiles, mavenCliExtractorOptions.getParallelProcessors(), excludedScopes, includedScopes, excludedModules, includedModules);
+            mavenResults = orderModules(moduleResults, findRootArtifactId(directory), findModuleStartOrder(mavenOutput));
+        } else {
+            // The trees are parsed while maven writes them so the log of a large build is never held in memory.
+            mavenResults = executableRunner.executeSuccessfully(mavenExecutable,
+                mavenOutput -> mavenCodeLocationPackager.extractCodeLocations(directory.toString(), mavenOutput, excludedScopes, includedScopes, excludedModules, includedModules));
+        }
 
         List<CodeLocation> codeLocations = Bds.of(mavenResults)
                                                .map(MavenParseResult::getCodeLocation)
@@ -69,4 +113,119 @@ public class MavenCliExtractor {
         return builder.build();
     }
 
+    private List<String> readTreeFileAndModuleStartLines(BufferedReader mavenOutput) {
+        return mavenOutput.lines()
+                   .map(line -> line.replaceAll(ANSI_ESCAPE_PATTERN, ""))
+                   .filter(line -> line.contains(TREE_FILE_WRITTEN_PREFIX) || mavenCodeLocationPackager.isProjectSection(line))
+                   .collect(Collectors.toList());
+    }
+
+    // The plugin logs every file it writes. The files found in the output directory are only used when nothing was logged.
+    private List<File> findTreeFiles(List<String> mavenOutput, File outputDirectory) {
+        List<File> treeFiles = mavenOutput.stream()
+                                   .map(line -> StringUtils.substringAfter(line, TREE_FILE_WRITTEN_PREFIX).trim())
+                                   .filter(StringUtils::isNotBlank)
+                                   .map(File::new)
+                                   .filter(File::isFile)
+                                   .distinct()
+                                   .collect(Collectors.toList());
+        if (treeFiles.isEmpty()) {
+            logger.debug("Maven did not log the dependency tree files it wrote, using the files found in the output directory.");
+            File[] foundFiles = outputDirectory.listFiles((dir, name) -> name.endsWith(TREE_FILE_SUFFIX));
+            if (foundFiles != null) {
+                treeFiles = Arrays.stream(foundFiles)
+                                .sorted()
+                                .collect(Collectors.toList());
+            }
+        }
+        return treeFiles;
+    }
+
+    private List<MavenParseResult> parseTreeFiles(String sourcePath, List<File> treeFiles, int parseThreads, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules) {
+        List<MavenParseResult> mavenResults = new ArrayList<>();
+
+        int threads = Math.max(1, Math.min(parseThreads, treeFiles.size()));
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Optional<MavenParseResult>>> parseFutures = new ArrayList<>(treeFiles.size());
+            for (File treeFile : treeFiles) {
+                parseFutures.add(executorService.submit(() -> {
+                    try (BufferedReader treeReader = Files.newBufferedReader(treeFile.toPath(), StandardCharsets.UTF_8)) {
+                        return mavenCodeLocationPackager.extractCodeLocation(sourcePath, treeReader, excludedScopes, includedScopes, excludedModules, includedModules);
+                    }
+                }));
+            }
+            for (Future<Optional<MavenParseResult>> parseFuture : parseFutures) {
+                waitForTreeFile(parseFuture).ifPresent(mavenResults::add);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        return mavenResults;
+    }
+
+    // Modules finish in no particular order when maven builds with several threads, so the results are ordered before the project is named after
+    // the first one: the module of the pom in the source directory comes first, then the modules in the order maven started their trees.
+    private List<MavenParseResult> orderModules(List<MavenParseResult> moduleResults, Optional<String> rootArtifactId, List<String> moduleStartOrder) {
+        Comparator<MavenParseResult> rootFirst = Comparator.comparing(result -> !rootArtifactId.filter(artifactId -> artifactId.equals(result.getProjectName())).isPresent());
+        Comparator<MavenParseResult> startOrder = Comparator.comparingInt(result -> {
+            int startIndex = moduleStartOrder.indexOf(result.getProjectName());
+            return startIndex == -1 ? Integer.MAX_VALUE : startIndex;
+        });
+        return moduleResults.stream()
+                   .sorted(rootFirst.thenComparing(startOrder).thenComparing(MavenParseResult::getProjectName, Comparator.nullsLast(Comparator.naturalOrder())))
+                   .collect(Collectors.toList());
+    }
+
+    // Each module logs "--- maven-dependency-plugin:<version>:tree (default-cli) @ <artifactId> ---" when its tree is started.
+    private List<String> findModuleStartOrder(List<String> mavenOutput) {
+        return mavenOutput.stream()
+                   .filter(mavenCodeLocationPackager::isProjectSection)
+                   .map(line -> StringUtils.substringAfterLast(line, PLUGIN_PROJECT_SEPARATOR))
+                   .map(line -> StringUtils.substringBefore(line, " ---").trim())
+                   .filter(StringUtils::isNotBlank)
+                   .distinct()
+                   .collect(Collectors.toList());
+    }
+
+    private Optional<String> findRootArtifactId(File directory) {
+        File pomFile = new File(directory, "pom.xml");
+        if (!pomFile.isFile()) {
+            return Optional.empty();
+        }
+        try {
+            // Only the artifact id is needed, so the pom is read without a doctype, external entities or includes.
+            DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+            documentBuilderFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            documentBuilderFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            documentBuilderFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            documentBuilderFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+            documentBuilderFactory.setXIncludeAware(false);
+            documentBuilderFactory.setExpandEntityReferences(false);
+            Element project = documentBuilderFactory.newDocumentBuilder().parse(pomFile).getDocumentElement();
+            NodeList projectChildren = project.getChildNodes();
+            for (int i = 0; i < projectChildren.getLength(); i++) {
+                Node child = projectChildren.item(i);
+                if ("artifactId".equals(child.getNodeName())) {
+                    return Optional.of(child.getTextContent().trim()).filter(StringUtils::isNotBlank);
+                }
+            }
+        } catch (IOException | SAXException | ParserConfigurationException e) {
+            logger.debug(String.format("Could not read the artifact id from %s, the modules will be ordered by when maven started them.", pomFile.getAbsolutePath()), e);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<MavenParseResult> waitForTreeFile(Future<Optional<MavenParseResult>> parseFuture) {
+        try {
+            return parseFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while parsing maven dependency trees.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to parse a maven dependency tree: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
 }
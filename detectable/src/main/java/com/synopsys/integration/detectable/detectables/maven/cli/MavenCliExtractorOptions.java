@@ -16,13 +16,27 @@ public class MavenCliExtractorOptions {
     private final List<String> mavenIncludedScopes;
     private final List<String> mavenExcludedModules;
     private final List<String> mavenIncludedModules;
+    private final boolean perModuleOutput;
+    private final int parallelProcessors;
 
     public MavenCliExtractorOptions(String mavenBuildCommand, List<String> mavenExcludedScopes, List<String> mavenIncludedScopes, List<String> mavenExcludedModules, List<String> mavenIncludedModules) {
+        this(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules, false);
+    }
+
+    public MavenCliExtractorOptions(String mavenBuildCommand, List<String> mavenExcludedScopes, List<String> mavenIncludedScopes, List<String> mavenExcludedModules, List<String> mavenIncludedModules,
+        boolean perModuleOutput) {
+        this(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules, perModuleOutput, 1);
+    }
+
+    public MavenCliExtractorOptions(String mavenBuildCommand, List<String> mavenExcludedScopes, List<String> mavenIncludedScopes, List<String> mavenExcludedModules, List<String> mavenIncludedModules,
+        boolean perModuleOutput, int parallelProcessors) {
         this.mavenBuildCommand = mavenBuildCommand;
         this.mavenExcludedScopes = mavenExcludedScopes;
         this.mavenIncludedScopes = mavenIncludedScopes;
         this.mavenExcludedModules = mavenExcludedModules;
         this.mavenIncludedModules = mavenIncludedModules;
+        this.perModuleOutput = perModuleOutput;
+        this.parallelProcessors = parallelProcessors;
     }
 
     public Optional<String> getMavenBuildCommand() {
@@ -44,4 +58,13 @@ public class MavenCliExtractorOptions {
     public List<String> getMavenIncludedModules() {
         return mavenIncludedModules;
     }
+
+    public boolean isPerModuleOutput() {
+        return perModuleOutput;
+    }
+
+    // The number of module tree files parsed at the same time in per module output mode.
+    public int getParallelProcessors() {
+        return parallelProcessors;
+    }
 }
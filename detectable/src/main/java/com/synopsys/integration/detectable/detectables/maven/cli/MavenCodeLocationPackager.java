@@ -7,12 +7,15 @@
  */
 package com.synopsys.integration.detectable.detectables.maven.cli;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
-import java.util.Stack;
-import java.util.regex.Pattern;
+import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -37,18 +40,18 @@ public class MavenCodeLocationPackager {
     public static final String ORPHAN_LIST_PARENT_NODE_GROUP = "none";
     public static final String ORPHAN_LIST_PARENT_NODE_VERSION = "none";
 
-    private static final String END_OF_TREE_PATTERN_STRING = "^-*< .* >-*$";
-    private final Pattern endOfTreePattern = Pattern.compile(END_OF_TREE_PATTERN_STRING);
     private final ExternalIdFactory externalIdFactory;
     private List<MavenParseResult> codeLocations = new ArrayList<>();
     private MavenParseResult currentMavenProject = null;
-    private Stack<Dependency> dependencyParentStack = new Stack<>();
+    private Deque<Dependency> dependencyParentStack = new ArrayDeque<>();
     // in-scope components found in an out-of-scope tree go in the orphans list
     private final List<Dependency> orphans = new ArrayList<>();
     private boolean parsingProjectSection;
     private int level;
     private boolean inOutOfScopeTree = false;
     private MutableDependencyGraph currentGraph = null;
+    private ExcludedIncludedWildcardFilter modulesFilter;
+    private ExcludedIncludedWildcardFilter scopeFilter;
 
     public MavenCodeLocationPackager(ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
@@ -56,80 +59,143 @@ public class MavenCodeLocationPackager {
 
     // mavenOutput should be the full output of mvn dependency:tree (no scope applied); scope filtering is now done by this method
     public List<MavenParseResult> extractCodeLocations(String sourcePath, List<String> mavenOutput, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules) {
-        ExcludedIncludedWildcardFilter modulesFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedModules, includedModules);
-        ExcludedIncludedWildcardFilter scopeFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedScopes, includedScopes);
-        codeLocations = new ArrayList<>();
-        currentMavenProject = null;
-        dependencyParentStack = new Stack<>();
-        parsingProjectSection = false;
-        currentGraph = new MutableMapDependencyGraph();
-
-        level = 0;
+        startParsing(false, excludedScopes, includedScopes, excludedModules, includedModules);
         for (String currentLine : mavenOutput) {
-            String line = currentLine.trim();
+            parseLogLine(sourcePath, currentLine);
+        }
+        addOrphansToGraph(currentGraph, orphans);
 
-            if (shouldSkipLine(line)) {
-                continue;
-            }
+        return codeLocations;
+    }
 
-            line = trimLogLevel(line);
+    // Parses the output one line at a time as it is read, so the full output of a large build never has to be held in memory.
+    public List<MavenParseResult> extractCodeLocations(String sourcePath, BufferedReader mavenOutput, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules)
+        throws IOException {
+        startParsing(false, excludedScopes, includedScopes, excludedModules, includedModules);
+        String currentLine;
+        while ((currentLine = mavenOutput.readLine()) != null) {
+            parseLogLine(sourcePath, currentLine);
+        }
+        addOrphansToGraph(currentGraph, orphans);
 
-            if (parsingProjectSection && currentMavenProject == null) {
-                initializeCurrentMavenProject(modulesFilter, sourcePath, line);
-                continue;
-            }
+        return codeLocations;
+    }
 
-            boolean finished = line.contains("--------") || endOfTreePattern.matcher(line).matches();
-            if (finished) {
-                currentMavenProject = null;
-                dependencyParentStack.clear();
-                parsingProjectSection = false;
-                level = 0;
-                continue;
-            }
+    // treeFile should be the file a single module wrote with dependency:tree -DoutputFile: the project line followed by its tree, without the log
+    // level or the plugin section line. Each call parses with its own packager, so the trees of several modules can be parsed at the same time.
+    public Optional<MavenParseResult> extractCodeLocation(String sourcePath, BufferedReader treeFile, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules)
+        throws IOException {
+        return new MavenCodeLocationPackager(externalIdFactory).parseModuleTree(sourcePath, treeFile, excludedScopes, includedScopes, excludedModules, includedModules);
+    }
 
-            int previousLevel = level;
-            String cleanedLine = calculateCurrentLevelAndCleanLine(line);
-            ScopedDependency dependency = textToDependency(cleanedLine);
-            if (null == dependency) {
+    private Optional<MavenParseResult> parseModuleTree(String sourcePath, BufferedReader treeFile, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules)
+        throws IOException {
+        startParsing(true, excludedScopes, includedScopes, excludedModules, includedModules);
+        String currentLine;
+        while ((currentLine = treeFile.readLine()) != null) {
+            // Only the end is trimmed, the leading spaces of a line are part of its indentation.
+            String line = StringUtils.stripEnd(currentLine, null);
+            if (StringUtils.isBlank(line)) {
                 continue;
             }
-            if (currentMavenProject != null) {
-                populateGraphDependencies(scopeFilter, dependency, previousLevel);
-            }
+            parseTreeLine(sourcePath, line);
         }
         addOrphansToGraph(currentGraph, orphans);
 
-        return codeLocations;
+        return codeLocations.stream().findFirst();
     }
 
-    private boolean shouldSkipLine(String line) {
-        if (!isLineRelevant(line)) {
-            return true;
+    private void startParsing(boolean parsingProjectSection, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules) {
+        modulesFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedModules, includedModules);
+        scopeFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedScopes, includedScopes);
+        codeLocations = new ArrayList<>();
+        currentMavenProject = null;
+        dependencyParentStack = new ArrayDeque<>();
+        this.parsingProjectSection = parsingProjectSection;
+        currentGraph = new MutableMapDependencyGraph();
+        level = 0;
+    }
+
+    private void parseLogLine(String sourcePath, String currentLine) {
+        String line = currentLine.trim();
+        // The log level is found once per line, the content after it is what every other check looks at.
+        int endOfLogLevel = indexOfEndOfSegments(line, "[", "INFO", "]");
+        if (endOfLogLevel == -1) {
+            return;
+        }
+        String content = removeLeadingSpace(line.substring(endOfLogLevel));
+        if (shouldSkipContent(content)) {
+            return;
         }
-        line = trimLogLevel(line);
-        if (StringUtils.isBlank(line)) {
+        parseTreeLine(sourcePath, content);
+    }
+
+    private void parseTreeLine(String sourcePath, String line) {
+        if (parsingProjectSection && currentMavenProject == null) {
+            initializeCurrentMavenProject(sourcePath, line);
+            return;
+        }
+
+        boolean finished = line.contains("--------") || isEndOfTree(line);
+        if (finished) {
+            currentMavenProject = null;
+            dependencyParentStack.clear();
+            parsingProjectSection = false;
+            level = 0;
+            return;
+        }
+
+        int previousLevel = level;
+        String cleanedLine = calculateCurrentLevelAndCleanLine(line);
+        ScopedDependency dependency = textToDependency(cleanedLine);
+        if (null == dependency) {
+            return;
+        }
+        if (currentMavenProject != null) {
+            populateGraphDependencies(dependency, previousLevel);
+        }
+    }
+
+    private boolean shouldSkipContent(String content) {
+        if (StringUtils.isBlank(content) || content.contains("Downloaded") || content.contains("Downloading")) {
             return true;
         }
-        if (isProjectSection(line)) {
+        if (isProjectSection(content)) {
             parsingProjectSection = true;
             return true;
         }
         if (!parsingProjectSection) {
             return true;
         }
-        if (isDependencyTreeUpdates(line)) {
-            return true;
+        return isDependencyTreeUpdates(content);
+    }
+
+    // Matches the "----< group:artifact >----" line maven 3.6 prints before each module, with or without the dashes around it.
+    private boolean isEndOfTree(String line) {
+        int start = 0;
+        int end = line.length();
+        while (start < end && line.charAt(start) == '-') {
+            start++;
         }
-        return false;
+        while (end > start && line.charAt(end - 1) == '-') {
+            end--;
+        }
+        return end - start >= 4 && line.startsWith("< ", start) && line.startsWith(" >", end - 2);
     }
 
-    private void initializeCurrentMavenProject(ExcludedIncludedWildcardFilter modulesFilter, String sourcePath, String line) {
+    private String removeLeadingSpace(String line) {
+        if (line.startsWith(" ")) {
+            return line.substring(1);
+        }
+        return line;
+    }
+
+    private void initializeCurrentMavenProject(String sourcePath, String line) {
         // this is the first line of a new code location, the following lines will be the tree of dependencies for this code location
         currentGraph = new MutableMapDependencyGraph();
         MavenParseResult mavenProject = createMavenParseResult(sourcePath, line, currentGraph);
         if (null != mavenProject && modulesFilter.shouldInclude(mavenProject.getProjectName())) {
-            logger.trace(String.format("Project: %s", mavenProject.getProjectName()));
+            logger.trace("Project: {}", mavenProject.getProjectName());
             this.currentMavenProject = mavenProject;
             codeLocations.add(mavenProject);
         } else {
@@ -141,19 +207,17 @@ public class MavenCodeLocationPackager {
         }
     }
 
-    private void populateGraphDependencies(ExcludedIncludedWildcardFilter scopeFilter, ScopedDependency dependency, int previousLevel) {
+    private void populateGraphDependencies(ScopedDependency dependency, int previousLevel) {
         if (level == 1) {
             // a direct dependency, clear the stack and add this as a potential parent for the next line
             if (scopeFilter.shouldInclude(dependency.scope)) {
-                logger.trace(String
-                                 .format("Level 1 component %s:%s:%s:%s is in scope; adding it to hierarchy root", dependency.getExternalId().getGroup(), dependency.getExternalId().getName(), dependency.getExternalId().getVersion(),
-                                     dependency.scope));
+                logger.trace("Level 1 component {}:{}:{}:{} is in scope; adding it to hierarchy root", dependency.getExternalId().getGroup(), dependency.getExternalId().getName(), dependency.getExternalId().getVersion(),
+                    dependency.scope);
                 currentGraph.addChildToRoot(dependency);
                 inOutOfScopeTree = false;
             } else {
-                logger.trace(String.format("Level 1 component %s:%s:%s:%s is a top-level out-of-scope component; entering non-scoped tree", dependency.getExternalId().getGroup(), dependency.getExternalId().getName(),
-                    dependency.getExternalId().getVersion(),
-                    dependency.scope));
+                logger.trace("Level 1 component {}:{}:{}:{} is a top-level out-of-scope component; entering non-scoped tree", dependency.getExternalId().getGroup(), dependency.getExternalId().getName(),
+                    dependency.getExternalId().getVersion(), dependency.scope);
                 inOutOfScopeTree = true;
             }
             dependencyParentStack.clear();
@@ -163,31 +227,31 @@ public class MavenCodeLocationPackager {
             if (level == previousLevel) {
                 // a sibling of the previous dependency
                 dependencyParentStack.pop();
-                addDependencyIfInScope(currentGraph, orphans, scopeFilter, inOutOfScopeTree, dependencyParentStack.peek(), dependency);
+                addDependencyIfInScope(currentGraph, orphans, scopeFilter, inOutOfScopeTree, dependencyParentStack.getFirst(), dependency);
                 dependencyParentStack.push(dependency);
             } else if (level > previousLevel) {
                 // a child of the previous dependency
-                addDependencyIfInScope(currentGraph, orphans, scopeFilter, inOutOfScopeTree, dependencyParentStack.peek(), dependency);
+                addDependencyIfInScope(currentGraph, orphans, scopeFilter, inOutOfScopeTree, dependencyParentStack.getFirst(), dependency);
                 dependencyParentStack.push(dependency);
             } else {
                 // a child of a dependency further back than 1 line
                 for (int i = previousLevel; i >= level; i--) {
                     dependencyParentStack.pop();
                 }
-                addDependencyIfInScope(currentGraph, orphans, scopeFilter, inOutOfScopeTree, dependencyParentStack.peek(), dependency);
+                addDependencyIfInScope(currentGraph, orphans, scopeFilter, inOutOfScopeTree, dependencyParentStack.getFirst(), dependency);
                 dependencyParentStack.push(dependency);
             }
         }
     }
 
     private void addOrphansToGraph(MutableDependencyGraph graph, List<Dependency> orphans) {
-        logger.trace(String.format("# orphans: %d", orphans.size()));
+        logger.trace("# orphans: {}", orphans.size());
         if (orphans.size() > 0) {
             Dependency orphanListParent = createOrphanListParentDependency();
-            logger.trace(String.format("adding orphan list parent dependency: %s", orphanListParent.getExternalId().toString()));
+            logger.trace("adding orphan list parent dependency: {}", orphanListParent.getExternalId());
             graph.addChildToRoot(orphanListParent);
             for (Dependency dependency : orphans) {
-                logger.trace(String.format("adding orphan: %s", dependency.getExternalId().toString()));
+                logger.trace("adding orphan: {}", dependency.getExternalId());
                 graph.addParentWithChild(orphanListParent, dependency);
             }
         }
@@ -197,13 +261,12 @@ public class MavenCodeLocationPackager {
         ScopedDependency dependency) {
         if (scopeFilter.shouldInclude(dependency.scope)) {
             if (inOutOfScopeTree) {
-                logger.trace(
-                    String.format("component %s:%s:%s:%s is in scope but in a nonScope tree; adding it to orphans", dependency.getExternalId().getGroup(), dependency.getExternalId().getName(), dependency.getExternalId().getVersion(),
-                        dependency.scope));
+                logger.trace("component {}:{}:{}:{} is in scope but in a nonScope tree; adding it to orphans", dependency.getExternalId().getGroup(), dependency.getExternalId().getName(), dependency.getExternalId().getVersion(),
+                    dependency.scope);
                 orphans.add(dependency);
             } else {
-                logger.trace(String.format("component %s:%s:%s:%s is in scope and in an in-scope tree; adding it to hierarchy", dependency.getExternalId().getGroup(), dependency.getExternalId().getName(),
-                    dependency.getExternalId().getVersion(), dependency.scope));
+                logger.trace("component {}:{}:{}:{} is in scope and in an in-scope tree; adding it to hierarchy", dependency.getExternalId().getGroup(), dependency.getExternalId().getName(),
+                    dependency.getExternalId().getVersion(), dependency.scope);
                 currentGraph.addParentWithChild(parent, dependency);
             }
         }
@@ -223,16 +286,25 @@ public class MavenCodeLocationPackager {
     }
 
     public String calculateCurrentLevelAndCleanLine(String line) {
+        // The indentation is a run of segments at the start of the line, one segment for each level.
         level = 0;
-        String cleanedLine = line;
-        for (String pattern : indentationStrings) {
-            while (cleanedLine.contains(pattern)) {
-                level++;
-                cleanedLine = cleanedLine.replaceFirst(Pattern.quote(pattern), "");
-            }
+        int start = 0;
+        String indentation;
+        while ((indentation = findIndentationAt(line, start)) != null) {
+            level++;
+            start += indentation.length();
         }
 
-        return cleanedLine;
+        return line.substring(start);
+    }
+
+    private String findIndentationAt(String line, int offset) {
+        for (String indentation : indentationStrings) {
+            if (line.startsWith(indentation, offset)) {
+                return indentation;
+            }
+        }
+        return null;
     }
 
     private Dependency createOrphanListParentDependency() {
@@ -317,18 +389,17 @@ public class MavenCodeLocationPackager {
     }
 
     public boolean isGav(String componentText) {
-        String debugMessage = String.format("%s does not look like a GAV we recognize", componentText);
         String[] gavParts = componentText.split(":");
         if (gavParts.length >= 4) {
             for (String part : gavParts) {
                 if (StringUtils.isBlank(part)) {
-                    logger.debug(debugMessage);
+                    logger.debug("{} does not look like a GAV we recognize", componentText);
                     return false;
                 }
             }
             return true;
         }
-        logger.debug(debugMessage);
+        logger.debug("{} does not look like a GAV we recognize", componentText);
         return false;
     }
 
@@ -349,19 +420,15 @@ public class MavenCodeLocationPackager {
             endOfSegments = 0;
         }
 
-        String editableLine = line;
         for (String segment : segments) {
-            int index = editableLine.indexOf(segment);
+            // search from right after the previous segment so we are only looking at the remainder of the line for the next segment
+            int index = line.indexOf(segment, endOfSegments);
             // If the string does not contain the segment indexOf returns -1
             if (index == -1) {
                 endOfSegments = -1;
                 break;
             }
-            // Add the index to the total to keep track of the index in the original String
-            endOfSegments += (index + segment.length());
-
-            // cut the string off right after the segment we just found so we are only looking at the remainder of the line for the next segment
-            editableLine = editableLine.substring(index + segment.length());
+            endOfSegments = index + segment.length();
         }
         return endOfSegments;
     }
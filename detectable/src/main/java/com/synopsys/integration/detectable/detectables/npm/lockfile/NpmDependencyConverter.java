@@ -7,7 +7,6 @@
  */
 package com.synopsys.integration.detectable.detectables.npm.lockfile;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -20,10 +19,9 @@ import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmDependency;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmLockfileContents;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmProject;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmRequires;
-import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLock;
-import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLockDependency;
 import com.synopsys.integration.detectable.detectables.npm.packagejson.model.PackageJson;
 
 public class NpmDependencyConverter {
@@ -31,13 +29,9 @@ public class NpmDependencyConverter {
 
     public NpmDependencyConverter(ExternalIdFactory externalIdFactory) {this.externalIdFactory = externalIdFactory;}
 
-    public NpmProject convertLockFile(PackageLock packageLock, @Nullable PackageJson packageJson) {
-        NpmProject project = new NpmProject(packageLock.name, packageLock.version);
-
-        if (packageLock.dependencies != null) {
-            List<NpmDependency> children = convertPackageMapToDependencies(null, packageLock.dependencies);
-            project.addAllResolvedDependencies(children);
-        }
+    public NpmProject convertLockFile(NpmLockfileContents lockfileContents, @Nullable PackageJson packageJson) {
+        NpmProject project = new NpmProject(lockfileContents.getName(), lockfileContents.getVersion());
+        lockfileContents.getDependencies().ifPresent(project::addAllResolvedDependencies);
 
         if (packageJson != null) {
             if (packageJson.dependencies != null) {
@@ -54,31 +48,7 @@ public class NpmDependencyConverter {
         return project;
     }
 
-    public List<NpmDependency> convertPackageMapToDependencies(NpmDependency parent, Map<String, PackageLockDependency> packageLockDependencyMap) {
-        List<NpmDependency> children = new ArrayList<>();
-
-        if (packageLockDependencyMap == null || packageLockDependencyMap.size() == 0) {
-            return children;
-        }
-
-        for (Map.Entry<String, PackageLockDependency> packageEntry : packageLockDependencyMap.entrySet()) {
-            String packageName = packageEntry.getKey();
-            PackageLockDependency packageLockDependency = packageEntry.getValue();
-
-            NpmDependency dependency = createNpmDependency(packageName, packageLockDependency.version, packageLockDependency.dev);
-            dependency.setParent(parent);
-            children.add(dependency);
-
-            List<NpmRequires> requires = convertNameVersionMapToRequires(packageLockDependency.requires);
-            dependency.addAllRequires(requires);
-
-            List<NpmDependency> grandChildren = convertPackageMapToDependencies(dependency, packageLockDependency.dependencies);
-            dependency.addAllDependencies(grandChildren);
-        }
-        return children;
-    }
-
-    private NpmDependency createNpmDependency(String name, String version, Boolean isDev) {
+    public NpmDependency createNpmDependency(String name, String version, Boolean isDev) {
         ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, name, version);
         Dependency graphDependency = new Dependency(name, version, externalId);
         boolean dev = false;
@@ -10,8 +10,10 @@ package com.synopsys.integration.detectable.detectables.npm.lockfile;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
-import org.apache.commons.io.FileUtils;
+import org.jetbrains.annotations.Nullable;
 
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
@@ -28,14 +30,20 @@ public class NpmLockfileExtractor {
     packageJson is optional
      */
     public Extraction extract(File lockfile, File packageJson, boolean includeDevDependencies) {
+        return extract(lockfile.toPath(), packageJson != null ? packageJson.toPath() : null, includeDevDependencies);
+    }
+
+    /*
+    packageJson is optional, the lockfile is streamed rather than read into memory
+     */
+    public Extraction extract(Path lockfile, @Nullable Path packageJson, boolean includeDevDependencies) {
         try {
-            String lockText = FileUtils.readFileToString(lockfile, StandardCharsets.UTF_8);
             String packageText = null;
             if (packageJson != null) {
-                packageText = FileUtils.readFileToString(packageJson, StandardCharsets.UTF_8);
+                packageText = new String(Files.readAllBytes(packageJson), StandardCharsets.UTF_8);
             }
 
-            NpmParseResult result = npmLockfileParser.parse(packageText, lockText, includeDevDependencies);
+            NpmParseResult result = npmLockfileParser.parse(packageText, lockfile, includeDevDependencies);
 
             return new Extraction.Builder()
                        .success(result.getCodeLocation())
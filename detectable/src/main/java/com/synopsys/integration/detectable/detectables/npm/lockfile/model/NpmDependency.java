@@ -9,7 +9,9 @@ package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.synopsys.integration.bdio.model.dependency.Dependency;
@@ -30,6 +32,7 @@ public class NpmDependency {
     private NpmDependency parent;
     private final List<NpmRequires> requires = new ArrayList<>();
     private final List<NpmDependency> dependencies = new ArrayList<>();
+    private final Map<String, NpmDependency> dependenciesByName = new HashMap<>();
 
     public Optional<NpmDependency> getParent() {
         return Optional.ofNullable(parent);
@@ -45,6 +48,9 @@ public class NpmDependency {
 
     public void addAllDependencies(final Collection<NpmDependency> dependencies) {
         this.dependencies.addAll(dependencies);
+        for (final NpmDependency dependency : dependencies) {
+            dependenciesByName.putIfAbsent(dependency.getName(), dependency);
+        }
     }
 
     public List<NpmRequires> getRequires() {
@@ -55,6 +61,11 @@ public class NpmDependency {
         return dependencies;
     }
 
+    // Returns the first dependency with the given name directly under this dependency.
+    public Optional<NpmDependency> findDependency(final String name) {
+        return Optional.ofNullable(dependenciesByName.get(name));
+    }
+
     public String getName() {
         return name;
     }
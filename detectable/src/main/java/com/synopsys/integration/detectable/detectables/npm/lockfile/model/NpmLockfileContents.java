@@ -0,0 +1,44 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+// The parts of a package-lock.json or npm-shrinkwrap.json that are kept while it is streamed, with its dependencies already converted.
+public class NpmLockfileContents {
+    @Nullable
+    private final String name;
+    @Nullable
+    private final String version;
+    @Nullable
+    private final List<NpmDependency> dependencies;
+
+    public NpmLockfileContents(@Nullable String name, @Nullable String version, @Nullable List<NpmDependency> dependencies) {
+        this.name = name;
+        this.version = version;
+        this.dependencies = dependencies;
+    }
+
+    @Nullable
+    public String getName() {
+        return name;
+    }
+
+    @Nullable
+    public String getVersion() {
+        return version;
+    }
+
+    // Empty when the lockfile did not have a 'dependencies' section.
+    public Optional<List<NpmDependency>> getDependencies() {
+        return Optional.ofNullable(dependencies);
+    }
+}
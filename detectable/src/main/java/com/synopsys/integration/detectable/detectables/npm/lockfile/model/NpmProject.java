@@ -9,7 +9,10 @@ package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public class NpmProject {
     private final String name;
@@ -19,6 +22,7 @@ public class NpmProject {
     private final List<NpmRequires> declaredDependencies = new ArrayList<>();
 
     private final List<NpmDependency> resolvedDependencies = new ArrayList<>();
+    private final Map<String, NpmDependency> resolvedDependenciesByName = new HashMap<>();
 
     public NpmProject(String name, String version) {
         this.name = name;
@@ -35,6 +39,9 @@ public class NpmProject {
 
     public void addAllResolvedDependencies(Collection<NpmDependency> resolvedDependencies) {
         this.resolvedDependencies.addAll(resolvedDependencies);
+        for (NpmDependency resolvedDependency : resolvedDependencies) {
+            resolvedDependenciesByName.putIfAbsent(resolvedDependency.getName(), resolvedDependency);
+        }
     }
 
     public String getName() {
@@ -56,4 +63,9 @@ public class NpmProject {
     public List<NpmDependency> getResolvedDependencies() {
         return resolvedDependencies;
     }
+
+    // Returns the first resolved dependency with the given name directly under the project.
+    public Optional<NpmDependency> findResolvedDependency(String name) {
+        return Optional.ofNullable(resolvedDependenciesByName.get(name));
+    }
 }
@@ -1,25 +0,0 @@
-/*
- * detectable
- *
- * Copyright (c) 2021 Synopsys, Inc.
- *
- * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
- */
-package com.synopsys.integration.detectable.detectables.npm.lockfile.model;
-
-import java.util.Map;
-
-import com.google.gson.annotations.SerializedName;
-
-public class
-
-PackageLock {
-    @SerializedName("name")
-    public String name;
-
-    @SerializedName("version")
-    public String version;
-
-    @SerializedName("dependencies")
-    public Map<String, PackageLockDependency> dependencies;
-}
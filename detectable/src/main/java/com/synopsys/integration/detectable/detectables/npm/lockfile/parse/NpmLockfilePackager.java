@@ -7,8 +7,16 @@
  */
 package com.synopsys.integration.detectable.detectables.npm.lockfile.parse;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jetbrains.annotations.Nullable;
@@ -16,6 +24,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.MalformedJsonException;
 import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
@@ -25,10 +36,10 @@ import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmDependencyConverter;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmDependency;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmLockfileContents;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmProject;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmRequires;
-import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLock;
 import com.synopsys.integration.detectable.detectables.npm.packagejson.model.PackageJson;
 import com.synopsys.integration.util.NameVersion;
 
@@ -46,20 +57,41 @@ public class NpmLockfilePackager {
         return parse(packageJsonText, lockFileText, includeDevDependencies, new ArrayList<>());
     }
 
-    public NpmParseResult parse(@Nullable String packageJsonText, String lockFileText, boolean includeDevDependencies, List<NameVersion> externalDependencies) {
+    public NpmParseResult parse(@Nullable String packageJsonText, String lockFileText, boolean includeDevDependencies, List<NameVersion> externalDependencyList) {
+        try (Reader lockFileReader = new StringReader(lockFileText)) {
+            return parse(packageJsonText, lockFileReader, includeDevDependencies, externalDependencyList);
+        } catch (MalformedJsonException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    public NpmParseResult parse(@Nullable String packageJsonText, Path lockFile, boolean includeDevDependencies) throws IOException {
+        return parse(packageJsonText, lockFile, includeDevDependencies, new ArrayList<>());
+    }
+
+    public NpmParseResult parse(@Nullable String packageJsonText, Path lockFile, boolean includeDevDependencies, List<NameVersion> externalDependencyList) throws IOException {
+        try (Reader lockFileReader = Files.newBufferedReader(lockFile, StandardCharsets.UTF_8)) {
+            return parse(packageJsonText, lockFileReader, includeDevDependencies, externalDependencyList);
+        }
+    }
+
+    public NpmParseResult parse(@Nullable String packageJsonText, Reader lockFileReader, boolean includeDevDependencies, List<NameVersion> externalDependencyList) throws IOException {
         MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
+        Map<String, NameVersion> externalDependencies = indexExternalDependencies(externalDependencyList);
 
         Optional<PackageJson> packageJson = Optional.ofNullable(packageJsonText)
                                                 .map(content -> gson.fromJson(content, PackageJson.class));
 
-        PackageLock packageLock = gson.fromJson(lockFileText, PackageLock.class);
+        NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
+        NpmLockfileContents lockfileContents = new NpmLockfileReader(dependencyConverter).read(lockFileReader);
 
         logger.debug("Processing project.");
-        if (packageLock.dependencies != null) {
-            logger.debug(String.format("Found %d dependencies in the lockfile.", packageLock.dependencies.size()));
+        if (lockfileContents.getDependencies().isPresent()) {
+            logger.debug(String.format("Found %d dependencies in the lockfile.", lockfileContents.getDependencies().get().size()));
             //Convert to our custom format
-            NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
-            NpmProject project = dependencyConverter.convertLockFile(packageLock, packageJson.orElse(null));
+            NpmProject project = dependencyConverter.convertLockFile(lockfileContents, packageJson.orElse(null));
 
             //First we will recreate the graph from the resolved npm dependencies
             for (NpmDependency resolved : project.getResolvedDependencies()) {
@@ -69,9 +101,9 @@ public class NpmLockfilePackager {
             //Then we will add relationships between the project (root) and the graph
             boolean atLeastOneRequired = !project.getDeclaredDependencies().isEmpty() || !project.getDeclaredDevDependencies().isEmpty();
             if (atLeastOneRequired) {
-                addRootDependencies(project.getResolvedDependencies(), project.getDeclaredDependencies(), dependencyGraph, externalDependencies);
+                addRootDependencies(project, project.getDeclaredDependencies(), dependencyGraph, externalDependencies);
                 if (includeDevDependencies) {
-                    addRootDependencies(project.getResolvedDependencies(), project.getDeclaredDevDependencies(), dependencyGraph, externalDependencies);
+                    addRootDependencies(project, project.getDeclaredDevDependencies(), dependencyGraph, externalDependencies);
                 }
             } else {
                 project.getResolvedDependencies()
@@ -89,15 +121,15 @@ public class NpmLockfilePackager {
         if (packageJson.isPresent()) {
             projectId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, packageJson.get().name, packageJson.get().version);
         } else {
-            projectId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, packageLock.name, packageLock.version);
+            projectId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, lockfileContents.getName(), lockfileContents.getVersion());
         }
         CodeLocation codeLocation = new CodeLocation(dependencyGraph, projectId);
         return new NpmParseResult(projectId.getName(), projectId.getVersion(), codeLocation);
     }
 
-    private void addRootDependencies(List<NpmDependency> resolvedDependencies, List<NpmRequires> requires, MutableDependencyGraph dependencyGraph, final List<NameVersion> externalDependencies) {
+    private void addRootDependencies(NpmProject project, List<NpmRequires> requires, MutableDependencyGraph dependencyGraph, Map<String, NameVersion> externalDependencies) {
         for (NpmRequires dependency : requires) {
-            Dependency resolved = lookupProjectOrExternal(dependency.getName(), resolvedDependencies, externalDependencies);
+            Dependency resolved = lookupProjectOrExternal(dependency.getName(), project, externalDependencies);
             if (resolved != null) {
                 dependencyGraph.addChildToRoot(resolved);
             } else {
@@ -106,7 +138,7 @@ public class NpmLockfilePackager {
         }
     }
 
-    private void transformTreeToGraph(NpmDependency npmDependency, NpmProject npmProject, MutableDependencyGraph dependencyGraph, boolean includeDevDependencies, final List<NameVersion> externalDependencies) {
+    private void transformTreeToGraph(NpmDependency npmDependency, NpmProject npmProject, MutableDependencyGraph dependencyGraph, boolean includeDevDependencies, Map<String, NameVersion> externalDependencies) {
         if (!shouldIncludeDependency(npmDependency, includeDevDependencies)) {
             return;
         }
@@ -125,37 +157,37 @@ public class NpmLockfilePackager {
         npmDependency.getDependencies().forEach(child -> transformTreeToGraph(child, npmProject, dependencyGraph, includeDevDependencies, externalDependencies));
     }
 
-    private Dependency lookupProjectOrExternal(String name, List<NpmDependency> projectResolvedDependencies, final List<NameVersion> externalDependencies) {
-        Dependency projectDependency = firstDependencyWithName(projectResolvedDependencies, name);
-        if (projectDependency != null) {
-            return projectDependency;
+    private Dependency lookupProjectOrExternal(String name, NpmProject project, Map<String, NameVersion> externalDependencies) {
+        Optional<NpmDependency> projectDependency = project.findResolvedDependency(name);
+        if (projectDependency.isPresent()) {
+            return projectDependency.get().getGraphDependency();
         } else {
-            Optional<NameVersion> externalNameVersion = externalDependencies.stream().filter(it -> it.getName().equals(name)).findFirst();
+            Optional<NameVersion> externalNameVersion = Optional.ofNullable(externalDependencies.get(name));
             return externalNameVersion.map(nameVersion -> new Dependency(nameVersion.getName(), nameVersion.getVersion(),
                 externalIdFactory.createNameVersionExternalId(Forge.NPMJS, nameVersion.getName(), nameVersion.getVersion()))).orElse(null);
         }
     }
 
     //returns the first dependency in the following order: directly under this dependency, under a parent, under the project, under external dependencies
-    private Dependency lookupDependency(String name, NpmDependency npmDependency, NpmProject project, final List<NameVersion> externalDependencies) {
-        Dependency resolved = firstDependencyWithName(npmDependency.getDependencies(), name);
-
-        if (resolved != null) {
-            return resolved;
-        } else if (npmDependency.getParent().isPresent()) {
-            return lookupDependency(name, npmDependency.getParent().get(), project, externalDependencies);
-        } else {
-            return lookupProjectOrExternal(name, project.getResolvedDependencies(), externalDependencies);
+    private Dependency lookupDependency(String name, NpmDependency npmDependency, NpmProject project, Map<String, NameVersion> externalDependencies) {
+        NpmDependency current = npmDependency;
+        while (current != null) {
+            Optional<NpmDependency> resolved = current.findDependency(name);
+            if (resolved.isPresent()) {
+                return resolved.get().getGraphDependency();
+            }
+            current = current.getParent().orElse(null);
         }
+        return lookupProjectOrExternal(name, project, externalDependencies);
     }
 
-    private Dependency firstDependencyWithName(List<NpmDependency> dependencies, String name) {
-        for (NpmDependency current : dependencies) {
-            if (current.getName().equals(name)) {
-                return current.getGraphDependency();
-            }
+    // Keeps the first external dependency for each name, matching the order the list would be searched in.
+    private Map<String, NameVersion> indexExternalDependencies(List<NameVersion> externalDependencies) {
+        Map<String, NameVersion> externalDependenciesByName = new HashMap<>();
+        for (NameVersion externalDependency : externalDependencies) {
+            externalDependenciesByName.putIfAbsent(externalDependency.getName(), externalDependency);
         }
-        return null;
+        return externalDependenciesByName;
     }
 
     private boolean shouldIncludeDependency(NpmDependency packageLockDependency, boolean includeDevDependencies) {
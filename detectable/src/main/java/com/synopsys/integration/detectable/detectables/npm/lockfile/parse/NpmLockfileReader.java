@@ -0,0 +1,155 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.npm.lockfile.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmDependencyConverter;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmDependency;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmLockfileContents;
+
+// Streams a lockfile and builds the npm dependencies as it goes, so only the dependencies (not the lockfile text or a copy of its json tree) are held in memory.
+// Reads the name, version and dependencies (each with its version, dev flag, requires and nested dependencies), everything else (resolved, integrity, the lockfile version 2 'packages' section...) is skipped.
+public class NpmLockfileReader {
+    private final NpmDependencyConverter dependencyConverter;
+
+    public NpmLockfileReader(NpmDependencyConverter dependencyConverter) {
+        this.dependencyConverter = dependencyConverter;
+    }
+
+    public NpmLockfileContents read(Reader lockFileReader) throws IOException {
+        JsonReader jsonReader = new JsonReader(lockFileReader);
+        jsonReader.setLenient(true);
+
+        String name = null;
+        String version = null;
+        List<NpmDependency> dependencies = null;
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String key = jsonReader.nextName();
+            if ("name".equals(key)) {
+                name = nextNullableString(jsonReader);
+            } else if ("version".equals(key)) {
+                version = nextNullableString(jsonReader);
+            } else if ("dependencies".equals(key)) {
+                dependencies = readDependencies(jsonReader);
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+
+        return new NpmLockfileContents(name, version, dependencies);
+    }
+
+    @Nullable
+    private List<NpmDependency> readDependencies(JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() == JsonToken.NULL) {
+            jsonReader.nextNull();
+            return null;
+        }
+
+        List<NpmDependency> dependencies = new ArrayList<>();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String packageName = jsonReader.nextName();
+            if (jsonReader.peek() == JsonToken.NULL) {
+                jsonReader.nextNull();
+                continue;
+            }
+            dependencies.add(readDependency(packageName, jsonReader));
+        }
+        jsonReader.endObject();
+        return dependencies;
+    }
+
+    // Children are read before their parent exists (the fields can come in any order), so their parent is set once the parent is created.
+    private NpmDependency readDependency(String packageName, JsonReader jsonReader) throws IOException {
+        String version = null;
+        Boolean dev = null;
+        Map<String, String> requires = Collections.emptyMap();
+        List<NpmDependency> children = Collections.emptyList();
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String key = jsonReader.nextName();
+            if ("version".equals(key)) {
+                version = nextNullableString(jsonReader);
+            } else if ("dev".equals(key)) {
+                dev = nextNullableBoolean(jsonReader);
+            } else if ("requires".equals(key)) {
+                requires = readRequires(jsonReader);
+            } else if ("dependencies".equals(key)) {
+                List<NpmDependency> readChildren = readDependencies(jsonReader);
+                children = readChildren != null ? readChildren : Collections.emptyList();
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+
+        NpmDependency dependency = dependencyConverter.createNpmDependency(packageName, version, dev);
+        dependency.addAllRequires(dependencyConverter.convertNameVersionMapToRequires(requires));
+        for (NpmDependency child : children) {
+            child.setParent(dependency);
+        }
+        dependency.addAllDependencies(children);
+        return dependency;
+    }
+
+    private Map<String, String> readRequires(JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+            jsonReader.skipValue();
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> requires = new LinkedHashMap<>();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String requiredName = jsonReader.nextName();
+            requires.put(requiredName, nextNullableString(jsonReader));
+        }
+        jsonReader.endObject();
+        return requires;
+    }
+
+    @Nullable
+    private String nextNullableString(JsonReader jsonReader) throws IOException {
+        JsonToken token = jsonReader.peek();
+        if (token == JsonToken.NULL) {
+            jsonReader.nextNull();
+            return null;
+        } else if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(jsonReader.nextBoolean());
+        }
+        return jsonReader.nextString();
+    }
+
+    @Nullable
+    private Boolean nextNullableBoolean(JsonReader jsonReader) throws IOException {
+        JsonToken token = jsonReader.peek();
+        if (token == JsonToken.NULL) {
+            jsonReader.nextNull();
+            return null;
+        } else if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(jsonReader.nextString());
+        }
+        return jsonReader.nextBoolean();
+    }
+}
@@ -9,14 +9,11 @@ package com.synopsys.integration.detectable.detectables.yarn;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.List;
 import java.util.Optional;
 
-import org.apache.commons.io.FileUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -74,9 +71,7 @@ public class YarnLockExtractor {
     }
 
     private YarnLock readYarnLock(File yarnLockFile) throws IOException {
-        List<String> yarnLockLines = FileUtils.readLines(yarnLockFile, StandardCharsets.UTF_8);
-        YarnLock yarnLock = yarnLockParser.parseYarnLock(yarnLockLines);
-        return yarnLock;
+        return yarnLockParser.parseYarnLock(yarnLockFile);
     }
 
     @Nullable
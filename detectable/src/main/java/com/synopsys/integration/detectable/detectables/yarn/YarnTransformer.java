@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -64,7 +65,7 @@ public class YarnTransformer {
                 }
             }
         }
-        return graphBuilder.build(getLazyBuilderHandler(externalDependencies, yarnLockResult));
+        return graphBuilder.build(getLazyBuilderHandler(indexExternalDependencies(externalDependencies), yarnLockResult));
     }
 
     private Predicate<String> getEverythingQualifiesCheck() {
@@ -116,9 +117,18 @@ public class YarnTransformer {
         }
     }
 
-    private LazyBuilderMissingExternalIdHandler getLazyBuilderHandler(List<NameVersion> externalDependencies, YarnLockResult yarnLockResult) {
+    // The first external dependency with a given name is the one used, as when the list was searched in order.
+    private Map<String, NameVersion> indexExternalDependencies(List<NameVersion> externalDependencies) {
+        Map<String, NameVersion> externalDependenciesByName = new HashMap<>(externalDependencies.size());
+        for (NameVersion externalDependency : externalDependencies) {
+            externalDependenciesByName.putIfAbsent(externalDependency.getName(), externalDependency);
+        }
+        return externalDependenciesByName;
+    }
+
+    private LazyBuilderMissingExternalIdHandler getLazyBuilderHandler(Map<String, NameVersion> externalDependenciesByName, YarnLockResult yarnLockResult) {
         return (dependencyId, lazyDependencyInfo) -> {
-            Optional<NameVersion> externalDependency = externalDependencies.stream().filter(it -> it.getName().equals(lazyDependencyInfo.getName())).findFirst();
+            Optional<NameVersion> externalDependency = Optional.ofNullable(lazyDependencyInfo.getName()).map(externalDependenciesByName::get);
             Optional<ExternalId> externalId = externalDependency.map(it -> generateComponentExternalId(it.getName(), it.getVersion()));
             if (externalId.isPresent()) {
                 return externalId.get();
@@ -7,8 +7,14 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn.parse;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import javax.annotation.Nullable;
 
@@ -17,40 +23,88 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntry;
-import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryParseResult;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockStringPool;
 
 public class YarnLockParser {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final YarnLockLineAnalyzer yarnLockLineAnalyzer;
     private final YarnLockEntryParser yarnLockEntryParser;
-    @Nullable
-    private String yarnLockFileFormatVersion = null;
 
-    public YarnLockParser(YarnLockEntryParser yarnLockEntryParser) {
+    public YarnLockParser(YarnLockLineAnalyzer yarnLockLineAnalyzer, YarnLockEntryParser yarnLockEntryParser) {
+        this.yarnLockLineAnalyzer = yarnLockLineAnalyzer;
         this.yarnLockEntryParser = yarnLockEntryParser;
     }
 
+    public YarnLockParser(YarnLockEntryParser yarnLockEntryParser) {
+        this(new YarnLockLineAnalyzer(), yarnLockEntryParser);
+    }
+
+    public YarnLock parseYarnLock(File yarnLockFile) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(yarnLockFile.toPath(), StandardCharsets.UTF_8)) {
+            return parseYarnLock(reader);
+        }
+    }
+
+    public YarnLock parseYarnLock(BufferedReader yarnLockReader) throws IOException {
+        YarnLockParseState parseState = new YarnLockParseState();
+        String line;
+        while ((line = yarnLockReader.readLine()) != null) {
+            parseState.addLine(line);
+        }
+        return parseState.finish();
+    }
+
     public YarnLock parseYarnLock(List<String> yarnLockFileAsList) {
-        List<YarnLockEntry> entries = new ArrayList<>();
-        int lineIndex = 0;
-        while (lineIndex < yarnLockFileAsList.size()) {
-            YarnLockEntryParseResult entryParseResult = yarnLockEntryParser.parseNextEntry(yarnLockFileAsList, lineIndex);
-            if (entryParseResult.getYarnLockEntry().isPresent()) {
-                YarnLockEntry entry = entryParseResult.getYarnLockEntry().get();
-                if (entry.isMetadataEntry()) {
-                    yarnLockFileFormatVersion = entry.getVersion();
-                } else {
-                    entries.add(entry);
-                }
-            }
-            lineIndex = entryParseResult.getLastParsedLineIndex();
-            lineIndex++;
+        YarnLockParseState parseState = new YarnLockParseState();
+        for (String line : yarnLockFileAsList) {
+            parseState.addLine(line);
         }
-        return new YarnLock(yarnLockFileFormatVersion, isYarn1Project(yarnLockFileFormatVersion), entries);
+        return parseState.finish();
     }
 
     private boolean isYarn1Project(String yarnLockFileFormatVersion) {
         logger.debug("yarn.lock file format version: {}", yarnLockFileFormatVersion);
         return StringUtils.isBlank(yarnLockFileFormatVersion) || ("1".equals(yarnLockFileFormatVersion));
     }
+
+    // Only the lines of the entry being read are held; an entry ends at the first unindented line once it is complete,
+    // which is where YarnLockEntryParser would stop if it were given the whole file.
+    private class YarnLockParseState {
+        private final List<YarnLockEntry> entries = new ArrayList<>();
+        private final List<String> entryLines = new ArrayList<>();
+        private final YarnLockStringPool stringPool = new YarnLockStringPool();
+        @Nullable
+        private String yarnLockFileFormatVersion = null;
+
+        private void addLine(String line) {
+            if (!entryLines.isEmpty() && yarnLockLineAnalyzer.measureIndentDepth(line) == 0) {
+                Optional<YarnLockEntry> entry = parseEntryLines();
+                if (entry.isPresent()) {
+                    addEntry(entry.get());
+                    entryLines.clear();
+                }
+            }
+            entryLines.add(line);
+        }
+
+        private YarnLock finish() {
+            if (!entryLines.isEmpty()) {
+                parseEntryLines().ifPresent(this::addEntry);
+            }
+            return new YarnLock(yarnLockFileFormatVersion, isYarn1Project(yarnLockFileFormatVersion), entries);
+        }
+
+        private Optional<YarnLockEntry> parseEntryLines() {
+            return yarnLockEntryParser.parseNextEntry(entryLines, 0, stringPool).getYarnLockEntry();
+        }
+
+        private void addEntry(YarnLockEntry entry) {
+            if (entry.isMetadataEntry()) {
+                yarnLockFileFormatVersion = entry.getVersion();
+            } else {
+                entries.add(entry);
+            }
+        }
+    }
 }
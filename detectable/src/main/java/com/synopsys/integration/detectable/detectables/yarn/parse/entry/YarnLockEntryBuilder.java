@@ -16,13 +16,22 @@ import java.util.Optional;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockDependency;
 
 public class YarnLockEntryBuilder {
+    private final YarnLockStringPool stringPool;
     private boolean metadataEntry = false;
     private final List<YarnLockEntryId> ids = new LinkedList<>();
     private String version;
     private final Map<String, YarnLockDependency> dependencies = new HashMap<>();
 
+    public YarnLockEntryBuilder() {
+        this(new YarnLockStringPool());
+    }
+
+    public YarnLockEntryBuilder(YarnLockStringPool stringPool) {
+        this.stringPool = stringPool;
+    }
+
     public YarnLockEntryBuilder addId(YarnLockEntryId id) {
-        ids.add(id);
+        ids.add(new YarnLockEntryId(stringPool.intern(id.getName()), stringPool.intern(id.getVersion())));
         return this;
     }
 
@@ -32,12 +41,13 @@ public class YarnLockEntryBuilder {
     }
 
     public YarnLockEntryBuilder setVersion(String version) {
-        this.version = version;
+        this.version = stringPool.intern(version);
         return this;
     }
 
     public YarnLockEntryBuilder addDependency(YarnLockDependency dependency) {
-        dependencies.put(dependency.getName(), dependency);
+        String name = stringPool.intern(dependency.getName());
+        dependencies.put(name, new YarnLockDependency(name, stringPool.intern(dependency.getVersion()), dependency.isOptional()));
         return this;
     }
 
@@ -23,7 +23,12 @@ public class YarnLockEntryParser {
     }
 
     public YarnLockEntryParseResult parseNextEntry(List<String> yarnLockFileLines, int entryStartIndex) {
-        YarnLockEntryBuilder yarnLockEntryBuilder = new YarnLockEntryBuilder();
+        return parseNextEntry(yarnLockFileLines, entryStartIndex, new YarnLockStringPool());
+    }
+
+    // Entries parsed with the same string pool share their name and version strings.
+    public YarnLockEntryParseResult parseNextEntry(List<String> yarnLockFileLines, int entryStartIndex, YarnLockStringPool stringPool) {
+        YarnLockEntryBuilder yarnLockEntryBuilder = new YarnLockEntryBuilder(stringPool);
         int fileLineIndex = entryStartIndex;
         int entryLineIndex = 0;
         while (fileLineIndex < yarnLockFileLines.size()) {
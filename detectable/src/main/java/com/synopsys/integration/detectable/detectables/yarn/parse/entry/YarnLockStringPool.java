@@ -0,0 +1,28 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.yarn.parse.entry;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+// Names and versions repeat throughout a yarn.lock (every entry that depends on a package repeats its name and range),
+// so one pool is shared by every entry of a parse and each distinct value is only kept once. A pool is not thread safe and is not shared between parses.
+public class YarnLockStringPool {
+    private final Map<String, String> pool = new HashMap<>();
+
+    @Nullable
+    public String intern(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        String pooled = pool.putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+}
@@ -9,19 +9,33 @@ package com.synopsys.integration.detectable.detectables.yarn.workspace;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import com.synopsys.integration.bdio.model.dependencyid.StringDependencyId;
+import com.synopsys.integration.detectable.detectables.yarn.YarnTransformer;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockDependency;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntry;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryId;
 
 public class YarnWorkspaces {
     private final Collection<YarnWorkspace> workspaces;
+    // Lookups are by workspace name; each index holds the position of the first workspace with that name, so the first match wins as it would scanning the workspaces in order.
+    private final List<YarnWorkspace> orderedWorkspaces;
+    private final Map<String, Integer> positionsByName = new HashMap<>();
+    private final Map<String, Integer> positionsByDependencyIdName = new HashMap<>();
     public static final YarnWorkspaces EMPTY = new YarnWorkspaces(new ArrayList<>(0));
 
     public YarnWorkspaces(Collection<YarnWorkspace> workspaces) {
         this.workspaces = workspaces;
+        this.orderedWorkspaces = new ArrayList<>(workspaces);
+        for (int position = 0; position < orderedWorkspaces.size(); position++) {
+            YarnWorkspace workspace = orderedWorkspaces.get(position);
+            positionsByName.putIfAbsent(workspace.getName().orElse(""), position);
+            positionsByDependencyIdName.putIfAbsent(String.valueOf(workspace.getName().orElse(null)), position);
+        }
     }
 
     public Collection<YarnWorkspace> getWorkspaces() {
@@ -29,26 +43,36 @@ public class YarnWorkspaces {
     }
 
     public Optional<YarnWorkspace> lookup(YarnLockDependency yarnLockDependency) {
-        return lookup(w -> w.matches(yarnLockDependency));
+        return lookup(yarnLockDependency.getName(), yarnLockDependency.getVersion());
     }
 
     public Optional<YarnWorkspace> lookup(YarnLockEntry yarnLockEntry) {
-        return lookup(w -> w.matches(yarnLockEntry));
+        int firstPosition = Integer.MAX_VALUE;
+        for (YarnLockEntryId yarnLockEntryId : yarnLockEntry.getIds()) {
+            firstPosition = Math.min(firstPosition, positionsByName.getOrDefault(yarnLockEntryId.getName(), Integer.MAX_VALUE));
+        }
+        return matchingWorkspace(firstPosition).filter(workspace -> workspace.matches(yarnLockEntry));
     }
 
     public Optional<YarnWorkspace> lookup(String name, String version) {
-        return lookup(w -> w.matches(name, version));
+        return matchingWorkspace(positionsByName.getOrDefault(name, Integer.MAX_VALUE)).filter(workspace -> workspace.matches(name, version));
     }
 
+    // A dependency id matches a workspace when it starts with the workspace name and the separator, so every name the id could start with is looked up.
     public Optional<YarnWorkspace> lookup(StringDependencyId dependencyId) {
-        return lookup(w -> w.matches(dependencyId));
+        String dependencyIdString = dependencyId.getValue();
+        int firstPosition = Integer.MAX_VALUE;
+        int separatorIndex = dependencyIdString.indexOf(YarnTransformer.STRING_ID_NAME_VERSION_SEPARATOR);
+        while (separatorIndex >= 0) {
+            firstPosition = Math.min(firstPosition, positionsByDependencyIdName.getOrDefault(dependencyIdString.substring(0, separatorIndex), Integer.MAX_VALUE));
+            separatorIndex = dependencyIdString.indexOf(YarnTransformer.STRING_ID_NAME_VERSION_SEPARATOR, separatorIndex + 1);
+        }
+        return matchingWorkspace(firstPosition).filter(workspace -> workspace.matches(dependencyId));
     }
 
-    private Optional<YarnWorkspace> lookup(Predicate<YarnWorkspace> p) {
-        for (YarnWorkspace candidateWorkspace : workspaces) {
-            if (p.test(candidateWorkspace)) {
-                return Optional.of(candidateWorkspace);
-            }
+    private Optional<YarnWorkspace> matchingWorkspace(int position) {
+        if (position < orderedWorkspaces.size()) {
+            return Optional.of(orderedWorkspaces.get(position));
         }
         return Optional.empty();
     }
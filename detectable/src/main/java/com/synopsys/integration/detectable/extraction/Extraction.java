@@ -67,6 +67,10 @@ public class Extraction {
         return Optional.empty();
     }
 
+    public Map<ExtractionMetadata, Object> getMetaData() {
+        return metaData;
+    }
+
     public boolean isSuccess() {
         return this.result == ExtractionResultType.SUCCESS;
     }
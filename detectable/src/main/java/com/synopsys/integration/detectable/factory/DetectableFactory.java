@@ -16,6 +16,7 @@ import org.xml.sax.SAXException;
 import com.google.gson.Gson;
 import com.synopsys.integration.bdio.BdioTransformer;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.common.util.finder.DirectoryListingFileFinder;
 import com.synopsys.integration.common.util.finder.FileFinder;
 import com.synopsys.integration.common.util.parse.CommandParser;
 import com.synopsys.integration.detectable.DetectableEnvironment;
@@ -54,7 +55,7 @@ import com.synopsys.integration.detectable.detectables.bitbake.BitbakeExtractor;
 import com.synopsys.integration.detectable.detectables.bitbake.BitbakeRecipesToLayerMapConverter;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeGraphTransformer;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeRecipesParser;
-import com.synopsys.integration.detectable.detectables.bitbake.parse.GraphParserTransformer;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.TaskDependsStreamingParser;
 import com.synopsys.integration.detectable.detectables.cargo.CargoDetectable;
 import com.synopsys.integration.detectable.detectables.cargo.CargoExtractor;
 import com.synopsys.integration.detectable.detectables.cargo.parse.CargoLockParser;
@@ -119,6 +120,7 @@ import com.synopsys.integration.detectable.detectables.go.gogradle.GoGradleDetec
 import com.synopsys.integration.detectable.detectables.go.gogradle.GoGradleExtractor;
 import com.synopsys.integration.detectable.detectables.go.gogradle.GoGradleLockParser;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliDetectable;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliDetectableOptions;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliExtractor;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCommandExecutor;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModGraphParser;
@@ -259,171 +261,178 @@ public class DetectableFactory {
     }
 
     public BazelDetectable createBazelDetectable(DetectableEnvironment environment, BazelDetectableOptions bazelDetectableOptions, BazelResolver bazelResolver) {
-        return new BazelDetectable(environment, fileFinder, bazelExtractor(), bazelResolver, bazelDetectableOptions);
+        return new BazelDetectable(environment, fileFinderFor(environment), bazelExtractor(), bazelResolver, bazelDetectableOptions);
     }
 
     public BitbakeDetectable createBitbakeDetectable(DetectableEnvironment environment, BitbakeDetectableOptions bitbakeDetectableOptions, BashResolver bashResolver) {
-        return new BitbakeDetectable(environment, fileFinder, bitbakeDetectableOptions, bitbakeExtractor(), bashResolver);
+        return new BitbakeDetectable(environment, fileFinderFor(environment), bitbakeDetectableOptions, bitbakeExtractor(), bashResolver);
     }
 
     public CargoDetectable createCargoDetectable(DetectableEnvironment environment) {
-        return new CargoDetectable(environment, fileFinder, cargoExtractor());
+        return new CargoDetectable(environment, fileFinderFor(environment), cargoExtractor());
     }
 
     public ClangDetectable createClangDetectable(DetectableEnvironment environment, ClangDetectableOptions clangDetectableOptions) {
-        return new ClangDetectable(environment, executableRunner, fileFinder, clangPackageManagerFactory().createPackageManagers(), clangExtractor(), clangDetectableOptions, clangPackageManagerRunner());
+        return new ClangDetectable(environment, executableRunner, fileFinderFor(environment), clangPackageManagerFactory().createPackageManagers(), clangExtractor(), clangDetectableOptions, clangPackageManagerRunner());
     }
 
     public ComposerLockDetectable createComposerDetectable(DetectableEnvironment environment, ComposerLockDetectableOptions composerLockDetectableOptions) {
-        return new ComposerLockDetectable(environment, fileFinder, composerLockExtractor(), composerLockDetectableOptions);
+        return new ComposerLockDetectable(environment, fileFinderFor(environment), composerLockExtractor(), composerLockDetectableOptions);
     }
 
     public CondaCliDetectable createCondaCliDetectable(DetectableEnvironment environment, CondaResolver condaResolver, CondaCliDetectableOptions condaCliDetectableOptions) {
-        return new CondaCliDetectable(environment, fileFinder, condaResolver, condaCliExtractor(), condaCliDetectableOptions);
+        return new CondaCliDetectable(environment, fileFinderFor(environment), condaResolver, condaCliExtractor(), condaCliDetectableOptions);
     }
 
     public CpanCliDetectable createCpanCliDetectable(DetectableEnvironment environment, CpanResolver cpanResolver, CpanmResolver cpanmResolver) {
-        return new CpanCliDetectable(environment, fileFinder, cpanResolver, cpanmResolver, cpanCliExtractor());
+        return new CpanCliDetectable(environment, fileFinderFor(environment), cpanResolver, cpanmResolver, cpanCliExtractor());
     }
 
     public GemlockDetectable createGemlockDetectable(DetectableEnvironment environment) {
-        return new GemlockDetectable(environment, fileFinder, gemlockExtractor());
+        return new GemlockDetectable(environment, fileFinderFor(environment), gemlockExtractor());
     }
 
     public GitParseDetectable createGitParseDetectable(DetectableEnvironment environment) {
-        return new GitParseDetectable(environment, fileFinder, gitParseExtractor());
+        return new GitParseDetectable(environment, fileFinderFor(environment), gitParseExtractor());
     }
 
     public GitCliDetectable createGitCliDetectable(DetectableEnvironment environment, GitResolver gitResolver) {
-        return new GitCliDetectable(environment, fileFinder, gitCliExtractor(), gitResolver);
+        return new GitCliDetectable(environment, fileFinderFor(environment), gitCliExtractor(), gitResolver);
     }
 
-    public GoModCliDetectable createGoModCliDetectable(DetectableEnvironment environment, GoResolver goResolver) {
-        return new GoModCliDetectable(environment, fileFinder, goResolver, goModCliExtractor());
+    public GoModCliDetectable createGoModCliDetectable(DetectableEnvironment environment, GoResolver goResolver, GoModCliDetectableOptions goModCliDetectableOptions) {
+        return new GoModCliDetectable(environment, fileFinderFor(environment), goResolver, goModCliExtractor(), goModCliDetectableOptions);
     }
 
     public GoDepLockDetectable createGoLockDetectable(DetectableEnvironment environment) {
-        return new GoDepLockDetectable(environment, fileFinder, goDepExtractor());
+        return new GoDepLockDetectable(environment, fileFinderFor(environment), goDepExtractor());
     }
 
     public GoVndrDetectable createGoVndrDetectable(DetectableEnvironment environment) {
-        return new GoVndrDetectable(environment, fileFinder, goVndrExtractor());
+        return new GoVndrDetectable(environment, fileFinderFor(environment), goVndrExtractor());
     }
 
     public GoVendorDetectable createGoVendorDetectable(DetectableEnvironment environment) {
-        return new GoVendorDetectable(environment, fileFinder, goVendorExtractor());
+        return new GoVendorDetectable(environment, fileFinderFor(environment), goVendorExtractor());
     }
 
     public GoGradleDetectable createGoGradleDetectable(DetectableEnvironment environment) {
-        return new GoGradleDetectable(environment, fileFinder, goGradleExtractor());
+        return new GoGradleDetectable(environment, fileFinderFor(environment), goGradleExtractor());
     }
 
     public GradleDetectable createGradleDetectable(DetectableEnvironment environment, GradleInspectorOptions gradleInspectorOptions, GradleInspectorResolver gradleInspectorResolver, GradleResolver gradleResolver) {
-        return new GradleDetectable(environment, fileFinder, gradleResolver, gradleInspectorResolver, gradleInspectorExtractor(), gradleInspectorOptions);
+        return new GradleDetectable(environment, fileFinderFor(environment), gradleResolver, gradleInspectorResolver, gradleInspectorExtractor(), gradleInspectorOptions);
     }
 
     public GradleParseDetectable createGradleParseDetectable(DetectableEnvironment environment) {
-        return new GradleParseDetectable(environment, fileFinder, gradleParseExtractor());
+        return new GradleParseDetectable(environment, fileFinderFor(environment), gradleParseExtractor());
     }
 
     public GemspecParseDetectable createGemspecParseDetectable(DetectableEnvironment environment, GemspecParseDetectableOptions gemspecParseDetectableOptions) {
-        return new GemspecParseDetectable(environment, fileFinder, gemspecExtractor(), gemspecParseDetectableOptions);
+        return new GemspecParseDetectable(environment, fileFinderFor(environment), gemspecExtractor(), gemspecParseDetectableOptions);
     }
 
     public MavenPomDetectable createMavenPomDetectable(DetectableEnvironment environment, MavenResolver mavenResolver, MavenCliExtractorOptions mavenCliExtractorOptions) {
-        return new MavenPomDetectable(environment, fileFinder, mavenResolver, mavenCliExtractor(), mavenCliExtractorOptions);
+        return new MavenPomDetectable(environment, fileFinderFor(environment), mavenResolver, mavenCliExtractor(), mavenCliExtractorOptions);
     }
 
     public MavenPomWrapperDetectable createMavenPomWrapperDetectable(DetectableEnvironment environment, MavenResolver mavenResolver, MavenCliExtractorOptions mavenCliExtractorOptions) {
-        return new MavenPomWrapperDetectable(environment, fileFinder, mavenResolver, mavenCliExtractor(), mavenCliExtractorOptions);
+        return new MavenPomWrapperDetectable(environment, fileFinderFor(environment), mavenResolver, mavenCliExtractor(), mavenCliExtractorOptions);
     }
 
     public MavenParseDetectable createMavenParseDetectable(DetectableEnvironment environment, MavenParseOptions mavenParseOptions) {
-        return new MavenParseDetectable(environment, fileFinder, mavenParseExtractor(), mavenParseOptions);
+        return new MavenParseDetectable(environment, fileFinderFor(environment), mavenParseExtractor(), mavenParseOptions);
     }
 
     public ConanLockfileDetectable createConanLockfileDetectable(DetectableEnvironment environment, ConanLockfileExtractorOptions conanLockfileExtractorOptions) {
-        return new ConanLockfileDetectable(environment, fileFinder, conanLockfileExtractor(), conanLockfileExtractorOptions);
+        return new ConanLockfileDetectable(environment, fileFinderFor(environment), conanLockfileExtractor(), conanLockfileExtractorOptions);
     }
 
     public ConanCliDetectable createConanCliDetectable(DetectableEnvironment environment, ConanResolver conanResolver, ConanCliExtractorOptions conanCliExtractorOptions) {
-        return new ConanCliDetectable(environment, fileFinder, conanResolver, conanCliExtractor(), conanCliExtractorOptions);
+        return new ConanCliDetectable(environment, fileFinderFor(environment), conanResolver, conanCliExtractor(), conanCliExtractorOptions);
     }
 
     public NpmCliDetectable createNpmCliDetectable(DetectableEnvironment environment, NpmResolver npmResolver, NpmCliExtractorOptions npmCliExtractorOptions) {
-        return new NpmCliDetectable(environment, fileFinder, npmResolver, npmCliExtractor(), npmPackageJsonDiscoverer(), npmCliExtractorOptions);
+        return new NpmCliDetectable(environment, fileFinderFor(environment), npmResolver, npmCliExtractor(), npmPackageJsonDiscoverer(), npmCliExtractorOptions);
     }
 
     public NpmPackageLockDetectable createNpmPackageLockDetectable(DetectableEnvironment environment, NpmLockfileOptions npmLockfileOptions) {
-        return new NpmPackageLockDetectable(environment, fileFinder, npmLockfileExtractor(), npmLockfileOptions);
+        return new NpmPackageLockDetectable(environment, fileFinderFor(environment), npmLockfileExtractor(), npmLockfileOptions);
     }
 
     public NugetProjectDetectable createNugetProjectDetectable(DetectableEnvironment environment, NugetInspectorOptions nugetInspectorOptions, NugetInspectorResolver nugetInspectorResolver) {
-        return new NugetProjectDetectable(environment, fileFinder, nugetInspectorOptions, nugetInspectorResolver, nugetInspectorExtractor());
+        return new NugetProjectDetectable(environment, fileFinderFor(environment), nugetInspectorOptions, nugetInspectorResolver, nugetInspectorExtractor());
     }
 
     public NpmShrinkwrapDetectable createNpmShrinkwrapDetectable(DetectableEnvironment environment, NpmLockfileOptions npmLockfileOptions) {
-        return new NpmShrinkwrapDetectable(environment, fileFinder, npmLockfileExtractor(), npmLockfileOptions);
+        return new NpmShrinkwrapDetectable(environment, fileFinderFor(environment), npmLockfileExtractor(), npmLockfileOptions);
     }
 
     public NpmPackageJsonParseDetectable createNpmPackageJsonParseDetectable(DetectableEnvironment environment, NpmPackageJsonParseDetectableOptions npmPackageJsonParseDetectableOptions) {
-        return new NpmPackageJsonParseDetectable(environment, fileFinder, packageJsonExtractor(), npmPackageJsonParseDetectableOptions);
+        return new NpmPackageJsonParseDetectable(environment, fileFinderFor(environment), packageJsonExtractor(), npmPackageJsonParseDetectableOptions);
     }
 
     public NugetSolutionDetectable createNugetSolutionDetectable(DetectableEnvironment environment, NugetInspectorOptions nugetInspectorOptions, NugetInspectorResolver nugetInspectorResolver) {
-        return new NugetSolutionDetectable(environment, fileFinder, nugetInspectorResolver, nugetInspectorExtractor(), nugetInspectorOptions);
+        return new NugetSolutionDetectable(environment, fileFinderFor(environment), nugetInspectorResolver, nugetInspectorExtractor(), nugetInspectorOptions);
     }
 
     public PackratLockDetectable createPackratLockDetectable(DetectableEnvironment environment) {
-        return new PackratLockDetectable(environment, fileFinder, packratLockExtractor());
+        return new PackratLockDetectable(environment, fileFinderFor(environment), packratLockExtractor());
     }
 
     public PearCliDetectable createPearCliDetectable(DetectableEnvironment environment, PearCliDetectableOptions pearCliDetectableOptions, PearResolver pearResolver) {
-        return new PearCliDetectable(environment, fileFinder, pearResolver, pearCliExtractor(), pearCliDetectableOptions);
+        return new PearCliDetectable(environment, fileFinderFor(environment), pearResolver, pearCliExtractor(), pearCliDetectableOptions);
     }
 
     public PipenvDetectable createPipenvDetectable(DetectableEnvironment environment, PipenvDetectableOptions pipenvDetectableOptions, PythonResolver pythonResolver, PipenvResolver pipenvResolver) {
-        return new PipenvDetectable(environment, pipenvDetectableOptions, fileFinder, pythonResolver, pipenvResolver, pipenvExtractor());
+        return new PipenvDetectable(environment, pipenvDetectableOptions, fileFinderFor(environment), pythonResolver, pipenvResolver, pipenvExtractor());
     }
 
     public PipInspectorDetectable createPipInspectorDetectable(DetectableEnvironment environment, PipInspectorDetectableOptions pipInspectorDetectableOptions, PipInspectorResolver pipInspectorResolver,
         PythonResolver pythonResolver,
         PipResolver pipResolver) {
-        return new PipInspectorDetectable(environment, fileFinder, pythonResolver, pipResolver, pipInspectorResolver, pipInspectorExtractor(), pipInspectorDetectableOptions);
+        return new PipInspectorDetectable(environment, fileFinderFor(environment), pythonResolver, pipResolver, pipInspectorResolver, pipInspectorExtractor(), pipInspectorDetectableOptions);
     }
 
     public PodlockDetectable createPodLockDetectable(DetectableEnvironment environment) {
-        return new PodlockDetectable(environment, fileFinder, podlockExtractor());
+        return new PodlockDetectable(environment, fileFinderFor(environment), podlockExtractor());
     }
 
     public PoetryDetectable createPoetryDetectable(DetectableEnvironment environment) {
-        return new PoetryDetectable(environment, fileFinder, poetryExtractor(), toolPoetrySectionParser());
+        return new PoetryDetectable(environment, fileFinderFor(environment), poetryExtractor(), toolPoetrySectionParser());
     }
 
     public RebarDetectable createRebarDetectable(DetectableEnvironment environment, Rebar3Resolver rebar3Resolver) {
-        return new RebarDetectable(environment, fileFinder, rebar3Resolver, rebarExtractor());
+        return new RebarDetectable(environment, fileFinderFor(environment), rebar3Resolver, rebarExtractor());
     }
 
     public SbtDetectable createSbtDetectable(DetectableEnvironment environment, SbtResolver sbtResolver, SbtResolutionCacheOptions sbtResolutionCacheOptions) {
-        return new SbtDetectable(environment, fileFinder, sbtResolutionCacheExtractor(), sbtResolutionCacheOptions, sbtResolver, sbtDotExtractor(), sbtPluginFinder());
+        return new SbtDetectable(environment, fileFinderFor(environment), sbtResolutionCacheExtractor(), sbtResolutionCacheOptions, sbtResolver, sbtDotExtractor(), sbtPluginFinder());
     }
 
     public SwiftCliDetectable createSwiftCliDetectable(DetectableEnvironment environment, SwiftResolver swiftResolver) {
-        return new SwiftCliDetectable(environment, fileFinder, swiftExtractor(), swiftResolver);
+        return new SwiftCliDetectable(environment, fileFinderFor(environment), swiftExtractor(), swiftResolver);
     }
 
     public YarnLockDetectable createYarnLockDetectable(DetectableEnvironment environment, YarnLockOptions yarnLockOptions) {
-        return new YarnLockDetectable(environment, fileFinder, yarnLockExtractor(yarnLockOptions));
+        return new YarnLockDetectable(environment, fileFinderFor(environment), yarnLockExtractor(yarnLockOptions));
     }
 
     public LernaDetectable createLernaDetectable(DetectableEnvironment environment, LernaResolver lernaResolver, NpmLockfileOptions npmLockfileOptions, YarnLockOptions yarnLockOptions, LernaOptions lernaOptions) {
-        return new LernaDetectable(environment, fileFinder, lernaResolver, lernaExtractor(npmLockfileOptions, yarnLockOptions, lernaOptions));
+        return new LernaDetectable(environment, fileFinderFor(environment), lernaResolver, lernaExtractor(npmLockfileOptions, yarnLockOptions, lernaOptions));
     }
 
     //#endregion
 
     //#region Utility
 
+    // Detectables search their own directory many times while deciding applicability, so when the directory was already listed they answer from that listing.
+    private FileFinder fileFinderFor(DetectableEnvironment environment) {
+        return environment.getDirectoryListing()
+                   .<FileFinder>map(directoryListing -> new DirectoryListingFileFinder(directoryListing, fileFinder))
+                   .orElse(fileFinder);
+    }
+
     private BazelExtractor bazelExtractor() {
         WorkspaceRuleChooser workspaceRuleChooser = new WorkspaceRuleChooser();
         return new BazelExtractor(executableRunner, externalIdFactory, workspaceRuleChooser);
@@ -739,7 +748,7 @@ public class DetectableFactory {
         YarnLockDependencySpecParser yarnLockDependencySpecParser = new YarnLockDependencySpecParser(yarnLockLineAnalyzer);
         YarnLockEntrySectionParserSet yarnLockEntryElementParser = new YarnLockEntrySectionParserSet(yarnLockLineAnalyzer, yarnLockDependencySpecParser);
         YarnLockEntryParser yarnLockEntryParser = new YarnLockEntryParser(yarnLockLineAnalyzer, yarnLockEntryElementParser);
-        return new YarnLockParser(yarnLockEntryParser);
+        return new YarnLockParser(yarnLockLineAnalyzer, yarnLockEntryParser);
     }
 
     private YarnTransformer yarnTransformer() {
@@ -771,11 +780,11 @@ public class DetectableFactory {
     }
 
     private BitbakeExtractor bitbakeExtractor() {
-        return new BitbakeExtractor(executableRunner, fileFinder, graphParserTransformer(), bitbakeGraphTransformer(), bitbakeRecipesParser(), bitbakeRecipesToLayerMap());
+        return new BitbakeExtractor(executableRunner, fileFinder, taskDependsStreamingParser(), bitbakeGraphTransformer(), bitbakeRecipesParser(), bitbakeRecipesToLayerMap());
     }
 
-    private GraphParserTransformer graphParserTransformer() {
-        return new GraphParserTransformer();
+    private TaskDependsStreamingParser taskDependsStreamingParser() {
+        return new TaskDependsStreamingParser();
     }
 
     private BitbakeGraphTransformer bitbakeGraphTransformer() {
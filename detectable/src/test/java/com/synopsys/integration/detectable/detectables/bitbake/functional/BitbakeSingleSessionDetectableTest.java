@@ -0,0 +1,82 @@
+package com.synopsys.integration.detectable.detectables.bitbake.functional;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.ExecutableTarget;
+import com.synopsys.integration.detectable.detectables.bitbake.BitbakeDetectableOptions;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.functional.DetectableFunctionalTest;
+import com.synopsys.integration.detectable.util.graph.NameVersionGraphAssert;
+import com.synopsys.integration.executable.ExecutableOutput;
+
+public class BitbakeSingleSessionDetectableTest extends DetectableFunctionalTest {
+    public BitbakeSingleSessionDetectableTest() throws IOException {
+        super("bitbake-single-session");
+    }
+
+    @Override
+    protected void setup() throws IOException {
+        addFile("oe-init-build-env");
+        String sourceCommand = "source " + getSourceDirectory().toFile().getCanonicalPath() + File.separator + "oe-init-build-env; ";
+
+        // The session's bash is not really run, so the copy of the first package's task-depends.dot is created up front. The second package produces none.
+        String outputDirectory = getOutputDirectory().toFile().getCanonicalPath() + File.separator;
+        addOutputFile(Paths.get("task-depends-0.dot"), Arrays.asList(
+            "digraph depends {",
+            "\"acl.do_build\" [label = \"acl do_build\\n:2.2.52-r0\\n/home/bit/poky/meta/recipes-support/attr/acl_2.2.52.bb\"]",
+            "\"acl.do_package\" -> \"attr.do_packagedata\"",
+            "\"attr.do_build\" [label = \"attr do_build\\n:2.4.47-r0\\n/home/bit/poky/meta/recipes-support/attr/attr_2.4.47.bb\"]",
+            "}"
+        ));
+        ExecutableOutput bitbakeGOutput = createStandardOutput("");
+        String bitbakeCommands = "bitbake -g core-image-minimal && cp task-depends.dot '" + outputDirectory + "task-depends-0.dot'; "
+                                     + "bitbake -g missing-image && cp task-depends.dot '" + outputDirectory + "task-depends-1.dot'";
+        addExecutableOutput(bitbakeGOutput, "bash", "-c", sourceCommand + bitbakeCommands);
+
+        ExecutableOutput bitbakeShowRecipesOutput = createStandardOutput(
+            "=== Available recipes: ===",
+            "acl:",
+            "  meta                 2.2.52",
+            "attr:",
+            "  meta                 2.4.47"
+        );
+        addExecutableOutput(bitbakeShowRecipesOutput, "bash", "-c", sourceCommand + "bitbake-layers show-recipes");
+    }
+
+    @NotNull
+    @Override
+    public Detectable create(@NotNull DetectableEnvironment detectableEnvironment) {
+        return detectableFactory.createBitbakeDetectable(
+            detectableEnvironment,
+            new BitbakeDetectableOptions("oe-init-build-env", new ArrayList<>(), Arrays.asList("core-image-minimal", "missing-image"), 0, true),
+            () -> ExecutableTarget.forCommand("bash")
+        );
+    }
+
+    @Override
+    public void assertExtraction(@NotNull Extraction extraction) {
+        Assertions.assertEquals(1, extraction.getCodeLocations().size());
+
+        NameVersionGraphAssert graphAssert = new NameVersionGraphAssert(Forge.YOCTO, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(2);
+
+        ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        ExternalId aclExternalId = externalIdFactory.createYoctoExternalId("meta", "acl", "2.2.52-r0");
+        ExternalId attrExternalId = externalIdFactory.createYoctoExternalId("meta", "attr", "2.4.47-r0");
+        graphAssert.hasRootDependency(aclExternalId);
+        graphAssert.hasRootDependency(attrExternalId);
+        graphAssert.hasParentChildRelationship(aclExternalId, attrExternalId);
+    }
+}
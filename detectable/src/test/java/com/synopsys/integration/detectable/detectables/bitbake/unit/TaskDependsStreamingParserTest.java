@@ -0,0 +1,95 @@
+package com.synopsys.integration.detectable.detectables.bitbake.unit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGraph;
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeNode;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.TaskDependsStreamingParser;
+
+@UnitTest
+public class TaskDependsStreamingParserTest {
+    private static final String TASK_DEPENDS = String.join("\n", Arrays.asList(
+        "digraph depends {",
+        "\"acl.do_build\" [label=\"acl do_build\\n:2.2.52-r0\\n/home/bit/poky/meta/recipes-support/attr/acl_2.2.52.bb\"]",
+        "\"acl.do_build\" -> \"acl.do_package_qa\"",
+        "\"acl.do_package\" -> \"attr.do_packagedata\"",
+        "\"attr.do_build\" [label=\"attr do_build\\n:2.4.47-r0\\n/home/bit/poky/meta/recipes-support/attr/attr_2.4.47.bb\"]",
+        "\"attr.do_build\" -> \"base-files.do_package_write_rpm\"",
+        "\"attr.do_build\" -> \"base-passwd.do_package_write_rpm\"",
+        "\"base-files.do_build\" [label=\"base-files do_build\\n:3.0.14-r89\\n/home/bit/poky/meta/recipes-core/base-files/base-files_3.0.14.bb\"]",
+        "\"base-passwd.do_build\" [label=\"base-passwd do_build\\n:3.5.29-r0\\n/home/bit/poky/meta/recipes-core/base-passwd/base-passwd_3.5.29.bb\"]",
+        "\"virtual/kernel.do_build\" -> \"base-files.do_build\"",
+        "}"
+    ));
+
+    @Test
+    public void collapsesTasksIntoPackages() throws IOException {
+        BitbakeGraph bitbakeGraph = parse(TASK_DEPENDS);
+
+        Map<String, String> expected = new TreeMap<>();
+        expected.put("acl", "2.2.52-r0 [attr]");
+        expected.put("attr", "2.4.47-r0 [base-files, base-passwd]");
+        expected.put("base-files", "3.0.14-r89 []");
+        expected.put("base-passwd", "3.5.29-r0 []");
+        expected.put("virtual/kernel", "null [base-files]");
+        Assertions.assertEquals(expected, describe(bitbakeGraph));
+    }
+
+    @Test
+    public void parsedVersionFromLabel() throws IOException {
+        BitbakeGraph bitbakeGraph = parse("\"name.do_build\" [label=\"name do_build\\n:version\\n/some/path/to.bb\"]");
+
+        Assertions.assertEquals(1, bitbakeGraph.getNodes().size());
+        Assertions.assertEquals("version", bitbakeGraph.getNodes().get(0).getVersion().get());
+    }
+
+    @Test
+    public void removedQuotesFromName() throws IOException {
+        BitbakeGraph bitbakeGraph = parse("\"quotes\\\"removed.do_build\" [label=\"example\\n:example\\n/example\"]");
+
+        Assertions.assertEquals(1, bitbakeGraph.getNodes().size());
+        Assertions.assertEquals("quotesremoved", bitbakeGraph.getNodes().get(0).getName());
+    }
+
+    @Test
+    public void ignoresEdgeAttributesAndTaskEdgesWithinAPackage() throws IOException {
+        String taskDepends = String.join("\n", Arrays.asList(
+            "digraph depends {",
+            "\"acl.do_build\" [label=\"acl do_build\\n:2.2.52-r0\\n/acl_2.2.52.bb\", shape=box]",
+            "\"acl.do_build\" -> \"acl.do_package_qa\" [style=dashed]",
+            "\"acl.do_package\" -> \"attr.do_packagedata\" [style=dotted]",
+            "}"
+        ));
+
+        BitbakeGraph bitbakeGraph = parse(taskDepends);
+
+        Assertions.assertEquals(2, bitbakeGraph.getNodes().size());
+        BitbakeNode acl = bitbakeGraph.getNodes().get(0);
+        Assertions.assertEquals("acl", acl.getName());
+        Assertions.assertEquals("2.2.52-r0", acl.getVersion().orElse(null));
+        Assertions.assertEquals(1, acl.getChildren().size());
+        Assertions.assertTrue(acl.getChildren().contains("attr"), "acl must depend on attr");
+    }
+
+    private BitbakeGraph parse(String taskDepends) throws IOException {
+        return new TaskDependsStreamingParser().parse(new BufferedReader(new StringReader(taskDepends)));
+    }
+
+    private Map<String, String> describe(BitbakeGraph bitbakeGraph) {
+        Map<String, String> description = new TreeMap<>();
+        for (BitbakeNode node : bitbakeGraph.getNodes()) {
+            description.put(node.getName(), node.getVersion().orElse(null) + " " + new TreeSet<>(node.getChildren()));
+        }
+        return description;
+    }
+}
@@ -1,10 +1,16 @@
 package com.synopsys.integration.detectable.detectables.clang.unit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -100,6 +106,139 @@ public class ClangPackageManagerRunnerTest {
         testNonPkgOwnedIncludeFile(packageManagerInfo, packageResolver, pkgOwnerPattern);
     }
 
+    @Test
+    public void testDpkgBatchedOwnershipQuery() throws ExecutableRunnerException {
+        ClangPackageManagerInfo packageManagerInfo = ClangPackageManagerInfoFactory.standardFactory().dpkg();
+        ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver()));
+        File secondDependencyFile = new File("/usr/include/X11/Intrinsic.h");
+        File unownedDependencyFile = new File("/home/user/project/local.h");
+
+        File workingDirectory = new File("test");
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+
+        List<String> batchGetOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+        batchGetOwnerArgs.add(dependencyFile.getAbsolutePath());
+        batchGetOwnerArgs.add(secondDependencyFile.getAbsolutePath());
+        batchGetOwnerArgs.add(unownedDependencyFile.getAbsolutePath());
+        String ownerOutput = String.format("libxt-dev:amd64: %s\nlibxt-dev:amd64: %s\n", dependencyFile.getAbsolutePath(), secondDependencyFile.getAbsolutePath());
+        String ownerErrorOutput = String.format("dpkg-query: no path found matching pattern %s\n", unownedDependencyFile.getAbsolutePath());
+        Mockito.when(executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), batchGetOwnerArgs)).thenReturn(new ExecutableOutput(1, ownerOutput, ownerErrorOutput));
+
+        List<String> getDetailsArgs = new ArrayList<>(packageManagerInfo.getPkgInfoArgs().get());
+        getDetailsArgs.add("libxt-dev:amd64");
+        String detailsOutput = "Package: libxt-dev\nArchitecture: amd64\nVersion: 1:1.1.5-1\nStatus: install ok installed\n";
+        Mockito.when(executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getDetailsArgs)).thenReturn(new ExecutableOutput(0, detailsOutput, ""));
+
+        ClangPackageManagerRunner runner = new ClangPackageManagerRunner();
+        PackageDetailsResult result = runner.getAllPackages(currentPackageManager, workingDirectory, executableRunner, new LinkedHashSet<>(Arrays.asList(dependencyFile, secondDependencyFile, unownedDependencyFile)));
+
+        assertEquals(1, result.getFoundPackages().size());
+        assertEquals("libxt-dev", result.getFoundPackages().iterator().next().getPackageName());
+        assertEquals(1, result.getUnRecognizedDependencyFiles().size());
+        assertEquals(unownedDependencyFile, result.getUnRecognizedDependencyFiles().iterator().next());
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), batchGetOwnerArgs);
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getDetailsArgs);
+    }
+
+    @Test
+    public void testRpmBatchedOwnershipQuery() throws ExecutableRunnerException {
+        ClangPackageManagerInfo packageManagerInfo = ClangPackageManagerInfoFactory.standardFactory().rpm();
+        ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, new RpmPackageManagerResolver(new Gson()));
+        File secondDependencyFile = new File("/usr/include/openssl/ssl.h");
+        File unownedDependencyFile = new File("/home/user/project/local.h");
+
+        File workingDirectory = new File("test");
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+
+        List<String> batchGetOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+        batchGetOwnerArgs.add(dependencyFile.getAbsolutePath());
+        batchGetOwnerArgs.add(unownedDependencyFile.getAbsolutePath());
+        batchGetOwnerArgs.add(secondDependencyFile.getAbsolutePath());
+        // The query format ends every package with a newline, so each file gets its own line.
+        String ownerOutput = "{ epoch: \"(none)\", name: \"libXt-devel\", version: \"1.1.5-3.el7\", arch: \"x86_64\" }\n"
+                                 + String.format("file %s is not owned by any package\n", unownedDependencyFile.getAbsolutePath())
+                                 + "{ epoch: \"1\", name: \"openssl-devel\", version: \"1.0.2k-19.el7\", arch: \"x86_64\" }\n";
+        Mockito.when(executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), batchGetOwnerArgs)).thenReturn(new ExecutableOutput(1, ownerOutput, ""));
+
+        ClangPackageManagerRunner runner = new ClangPackageManagerRunner();
+        PackageDetailsResult result = runner.getAllPackages(currentPackageManager, workingDirectory, executableRunner, new LinkedHashSet<>(Arrays.asList(dependencyFile, unownedDependencyFile, secondDependencyFile)));
+
+        assertEquals(2, result.getFoundPackages().size());
+        Set<String> packageVersions = result.getFoundPackages().stream()
+                                          .map(packageDetails -> packageDetails.getPackageName() + " " + packageDetails.getPackageVersion())
+                                          .collect(Collectors.toSet());
+        assertEquals(new HashSet<>(Arrays.asList("libXt-devel 1.1.5-3.el7", "openssl-devel 1:1.0.2k-19.el7")), packageVersions);
+        assertEquals(1, result.getUnRecognizedDependencyFiles().size());
+        assertEquals(unownedDependencyFile, result.getUnRecognizedDependencyFiles().iterator().next());
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), batchGetOwnerArgs);
+    }
+
+    @Test
+    public void testDpkgBatchedFileWithoutOutputIsUnrecognized() throws ExecutableRunnerException {
+        ClangPackageManagerInfo packageManagerInfo = ClangPackageManagerInfoFactory.standardFactory().dpkg();
+        ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver()));
+        File unreportedDependencyFile = new File("/usr/include/X11/Intrinsic.h");
+
+        File workingDirectory = new File("test");
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+
+        List<String> batchGetOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+        batchGetOwnerArgs.add(dependencyFile.getAbsolutePath());
+        batchGetOwnerArgs.add(unreportedDependencyFile.getAbsolutePath());
+        String ownerOutput = String.format("libxt-dev:amd64: %s\n", dependencyFile.getAbsolutePath());
+        Mockito.when(executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), batchGetOwnerArgs)).thenReturn(new ExecutableOutput(0, ownerOutput, ""));
+
+        List<String> singleGetOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+        singleGetOwnerArgs.add(unreportedDependencyFile.getAbsolutePath());
+        Mockito.when(executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), singleGetOwnerArgs)).thenReturn(new ExecutableOutput(0, "", ""));
+
+        List<String> getDetailsArgs = new ArrayList<>(packageManagerInfo.getPkgInfoArgs().get());
+        getDetailsArgs.add("libxt-dev:amd64");
+        String detailsOutput = "Package: libxt-dev\nArchitecture: amd64\nVersion: 1:1.1.5-1\nStatus: install ok installed\n";
+        Mockito.when(executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), getDetailsArgs)).thenReturn(new ExecutableOutput(0, detailsOutput, ""));
+
+        ClangPackageManagerRunner runner = new ClangPackageManagerRunner();
+        PackageDetailsResult result = runner.getAllPackages(currentPackageManager, workingDirectory, executableRunner, new LinkedHashSet<>(Arrays.asList(dependencyFile, unreportedDependencyFile)));
+
+        assertEquals(1, result.getFoundPackages().size());
+        assertEquals(1, result.getUnRecognizedDependencyFiles().size());
+        assertEquals(unreportedDependencyFile, result.getUnRecognizedDependencyFiles().iterator().next());
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), singleGetOwnerArgs);
+    }
+
+    @Test
+    public void testRpmReportsEveryPackageVariant() throws ExecutableRunnerException {
+        ClangPackageManagerInfo packageManagerInfo = ClangPackageManagerInfoFactory.standardFactory().rpm();
+        ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, new RpmPackageManagerResolver(new Gson()));
+
+        File workingDirectory = new File("test");
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+
+        List<String> batchGetOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+        batchGetOwnerArgs.add(dependencyFile.getAbsolutePath());
+        String ownerOutput = "{ epoch: \"(none)\", name: \"libXt-devel\", version: \"1.1.5-3.el7\", arch: \"i686\" }\n"
+                                 + "{ epoch: \"(none)\", name: \"libXt-devel\", version: \"1.1.5-3.el7\", arch: \"x86_64\" }\n";
+        Mockito.when(executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), batchGetOwnerArgs)).thenReturn(new ExecutableOutput(0, ownerOutput, ""));
+
+        ClangPackageManagerRunner runner = new ClangPackageManagerRunner();
+        PackageDetailsResult result = runner.getAllPackages(currentPackageManager, workingDirectory, executableRunner, new LinkedHashSet<>(Arrays.asList(dependencyFile)));
+
+        Set<String> packageArchitectures = result.getFoundPackages().stream()
+                                               .map(PackageDetails::getPackageArch)
+                                               .collect(Collectors.toSet());
+        assertEquals(new HashSet<>(Arrays.asList("i686", "x86_64")), packageArchitectures);
+        assertEquals(0, result.getUnRecognizedDependencyFiles().size());
+        Mockito.verify(executableRunner, Mockito.times(1)).execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), batchGetOwnerArgs);
+    }
+
+    @Test
+    public void testRpmQueryFormatEndsEachPackageWithNewline() {
+        ClangPackageManagerInfo packageManagerInfo = ClangPackageManagerInfoFactory.standardFactory().rpm();
+        List<String> getOwnerArgs = packageManagerInfo.getPkgMgrGetOwnerCmdArgs();
+
+        assertTrue(getOwnerArgs.get(getOwnerArgs.size() - 1).endsWith("\\n"));
+    }
+
     private void testNonPkgOwnedIncludeFile(ClangPackageManagerInfo packageManagerInfo, ClangPackageManagerResolver packageResolver,
         String pkgMgrOwnerQueryResultPattern) throws ExecutableRunnerException {
 
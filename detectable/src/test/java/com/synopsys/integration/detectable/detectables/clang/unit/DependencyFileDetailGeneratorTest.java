@@ -26,6 +26,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -33,6 +36,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import com.synopsys.integration.bdio.model.Forge;
@@ -60,6 +64,26 @@ public class DependencyFileDetailGeneratorTest {
         Assertions.assertEquals(0, fileDetailsSet.size());
     }
 
+    @Test
+    public void testSharedDependenciesAreMerged(@TempDir final Path tempDir) throws IOException {
+        final File sharedHeader = Files.createFile(tempDir.resolve("shared.h")).toFile();
+        final File firstHeader = Files.createFile(tempDir.resolve("first.h")).toFile();
+        final File secondHeader = Files.createFile(tempDir.resolve("second.h")).toFile();
+
+        final CompileCommand firstCommand = new CompileCommand();
+        firstCommand.file = "first.c";
+        final CompileCommand secondCommand = new CompileCommand();
+        secondCommand.file = "second.c";
+        final FilePathGenerator filePathGenerator = Mockito.mock(FilePathGenerator.class);
+        Mockito.when(filePathGenerator.fromCompileCommand(null, firstCommand, true)).thenReturn(Arrays.asList(sharedHeader.getPath(), firstHeader.getPath(), "does_not_exist.h"));
+        Mockito.when(filePathGenerator.fromCompileCommand(null, secondCommand, true)).thenReturn(Arrays.asList(sharedHeader.getPath(), secondHeader.getPath(), ""));
+
+        final DependencyFileDetailGenerator dependencyFileDetailGenerator = new DependencyFileDetailGenerator(filePathGenerator);
+
+        final Set<File> fileDetailsSet = dependencyFileDetailGenerator.fromCompileCommands(Arrays.asList(firstCommand, secondCommand), null, true, 2);
+        assertEquals(new HashSet<>(Arrays.asList(sharedHeader, firstHeader, secondHeader)), fileDetailsSet);
+    }
+
     @Test
     public void testDependencyCreatedWithEachForge() {
         final File mockFile = Mockito.mock(File.class);
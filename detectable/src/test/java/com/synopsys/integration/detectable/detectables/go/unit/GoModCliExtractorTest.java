@@ -1,6 +1,8 @@
 package com.synopsys.integration.detectable.detectables.go.unit;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.StringReader;
 import java.util.Arrays;
 import java.util.List;
 
@@ -11,10 +13,13 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import com.google.gson.GsonBuilder;
+import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutputProcessor;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliExtractor;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCommandExecutor;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModGraphParser;
@@ -22,6 +27,7 @@ import com.synopsys.integration.detectable.detectables.go.gomod.GoModGraphTransf
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModWhyParser;
 import com.synopsys.integration.detectable.detectables.go.gomod.ReplacementDataExtractor;
 import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.util.graph.NameVersionGraphAssert;
 import com.synopsys.integration.executable.Executable;
 import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
@@ -29,7 +35,7 @@ import com.synopsys.integration.executable.ExecutableRunnerException;
 public class GoModCliExtractorTest {
 
     @Test
-    public void handleMultipleReplacementsForOneComponentTest() throws ExecutableRunnerException {
+    public void handleMultipleReplacementsForOneComponentTest() throws ExecutableRunnerException, ExecutableFailedException {
         DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
         File directory = new File("");
         ExecutableTarget goExe = ExecutableTarget.forFile(new File(""));
@@ -56,6 +62,7 @@ public class GoModCliExtractorTest {
             }
         };
         Mockito.doAnswer(executableAnswer).when(executableRunner).execute(Mockito.any(Executable.class));
+        streamOutputOfExecute(executableRunner);
         GoModGraphParser goModGraphParser = new GoModGraphParser(new ExternalIdFactory());
         GoModWhyParser goModWhyParser = new GoModWhyParser();
         GoModCommandExecutor goModCommandExecutor = new GoModCommandExecutor(executableRunner);
@@ -72,7 +79,7 @@ public class GoModCliExtractorTest {
     }
 
     @Test
-    public void handleGoModWhyExceptionTest() throws ExecutableRunnerException {
+    public void handleGoModWhyExceptionTest() throws ExecutableRunnerException, ExecutableFailedException {
         DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
         File directory = new File("");
         ExecutableTarget goExe = ExecutableTarget.forFile(new File(""));
@@ -102,6 +109,7 @@ public class GoModCliExtractorTest {
             }
         };
         Mockito.doAnswer(executableAnswer).when(executableRunner).execute(Mockito.any(Executable.class));
+        streamOutputOfExecute(executableRunner);
 
         GoModGraphParser goModGraphParser = new GoModGraphParser(new ExternalIdFactory());
         GoModWhyParser goModWhyParser = new GoModWhyParser();
@@ -118,6 +126,71 @@ public class GoModCliExtractorTest {
         Assertions.assertTrue(wasSuccessful);
     }
 
+    @Test
+    public void concurrentCommandsMatchSequentialCommandsTest() throws ExecutableRunnerException, ExecutableFailedException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.doAnswer(invocation -> {
+            List<String> commandLine = invocation.getArgument(0, Executable.class).getCommandWithArguments();
+            String arguments = String.join(" ", commandLine.subList(1, commandLine.size()));
+            switch (arguments) {
+                case "list -m":
+                    return new ExecutableOutput(0, String.join("\n", "github.com/gomods/athens", "github.com/sirupsen/logrus"), "");
+                case "version":
+                    return new ExecutableOutput(0, "go version go1.14.5 darwin/amd64", "");
+                case "list -mod=readonly -m -u -json all":
+                    return goListJsonOutput();
+                case "mod graph":
+                    return new ExecutableOutput(0, String.join("\n",
+                        "github.com/gomods/athens github.com/codegangsta/negroni@v1.0.0",
+                        "github.com/gomods/athens github.com/sirupsen/logrus@v1.1.1",
+                        "github.com/sirupsen/logrus github.com/davecgh/go-spew@v1.1.1",
+                        "github.com/sirupsen/logrus github.com/unused/module@v1.0.0"
+                    ), "");
+                case "mod why -m all":
+                    return new ExecutableOutput(0, "(main module does not need module github.com/unused/module)", "");
+                default:
+                    return new ExecutableOutput(1, "", "");
+            }
+        }).when(executableRunner).execute(Mockito.any(Executable.class));
+        streamOutputOfExecute(executableRunner);
+
+        GoModCliExtractor goModCliExtractor = new GoModCliExtractor(new GoModCommandExecutor(executableRunner), new GoModGraphParser(new ExternalIdFactory()),
+            new GoModGraphTransformer(new ReplacementDataExtractor(new GsonBuilder().create())), new GoModWhyParser());
+        ExecutableTarget goExe = ExecutableTarget.forCommand("go");
+
+        Extraction sequentialExtraction = goModCliExtractor.extract(new File(""), goExe, false);
+        Extraction concurrentExtraction = goModCliExtractor.extract(new File(""), goExe, true);
+
+        for (Extraction extraction : Arrays.asList(sequentialExtraction, concurrentExtraction)) {
+            Assertions.assertTrue(extraction.isSuccess());
+            Assertions.assertEquals(2, extraction.getCodeLocations().size());
+
+            NameVersionGraphAssert athensGraphAssert = new NameVersionGraphAssert(Forge.GOLANG, extraction.getCodeLocations().get(0).getDependencyGraph());
+            athensGraphAssert.hasRootSize(2);
+            athensGraphAssert.hasRootDependency("github.com/codegangsta/negroni", "v2.0.0");
+            athensGraphAssert.hasRootDependency("github.com/sirupsen/logrus", "v2.0.0");
+            athensGraphAssert.hasNoDependency("github.com/unused/module", "v1.0.0");
+
+            NameVersionGraphAssert logrusGraphAssert = new NameVersionGraphAssert(Forge.GOLANG, extraction.getCodeLocations().get(1).getDependencyGraph());
+            logrusGraphAssert.hasRootSize(1);
+            logrusGraphAssert.hasRootDependency("github.com/davecgh/go-spew", "v1.1.1");
+            logrusGraphAssert.hasNoDependency("github.com/unused/module", "v1.0.0");
+        }
+    }
+
+    // go mod graph is read through the streaming overload, which hands the processor the output the mocked execute returns.
+    private void streamOutputOfExecute(DetectableExecutableRunner executableRunner) throws ExecutableFailedException {
+        Mockito.doAnswer(invocation -> {
+            Executable executable = invocation.getArgument(0, Executable.class);
+            ExecutableOutputProcessor<?> outputProcessor = invocation.getArgument(1);
+            ExecutableOutput output = executableRunner.execute(executable);
+            if (output.getReturnCode() != 0) {
+                throw new ExecutableFailedException(executable, output);
+            }
+            return outputProcessor.process(new BufferedReader(new StringReader(output.getStandardOutput())));
+        }).when(executableRunner).executeSuccessfully(Mockito.any(Executable.class), Mockito.any());
+    }
+
     private ExecutableOutput goListOutput() {
         String standardOutput = String.join("\n", Arrays.asList(
             "git.daimler.com/c445/t1"
@@ -0,0 +1,84 @@
+package com.synopsys.integration.detectable.detectables.gradle.unit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.common.util.finder.FileFinder;
+import com.synopsys.integration.detectable.ExecutableTarget;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorExtractor;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleRunner;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportTransformer;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleRootMetadataParser;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.util.graph.MavenGraphAssert;
+
+@UnitTest
+public class GradleInspectorExtractorTest {
+    @Test
+    public void reportsParsedConcurrentlyAreSortedByReportPath(@TempDir Path outputDirectory) throws IOException, ExecutableFailedException {
+        List<File> reportFiles = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            reportFiles.add(writeReport(outputDirectory, String.format("project-%02d", i)));
+        }
+        Collections.shuffle(reportFiles);
+
+        FileFinder fileFinder = Mockito.mock(FileFinder.class);
+        Mockito.when(fileFinder.findFiles(outputDirectory.toFile(), "*_dependencyGraph.txt")).thenReturn(reportFiles);
+        GradleInspectorExtractor extractor = new GradleInspectorExtractor(fileFinder, Mockito.mock(GradleRunner.class), new GradleReportParser(), new GradleReportTransformer(new ExternalIdFactory()),
+            new GradleRootMetadataParser());
+
+        Extraction extraction = extractor.extract(outputDirectory.toFile(), ExecutableTarget.forCommand("gradle"), null, null, null, outputDirectory.toFile(), 4);
+
+        Assertions.assertTrue(extraction.isSuccess());
+        List<String> projectNames = extraction.getCodeLocations().stream()
+                                        .map(codeLocation -> codeLocation.getExternalId().map(externalId -> externalId.getName()).orElse(null))
+                                        .collect(Collectors.toList());
+        List<String> expectedProjectNames = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            expectedProjectNames.add(String.format("project-%02d", i));
+        }
+        Assertions.assertEquals(expectedProjectNames, projectNames);
+
+        for (CodeLocation codeLocation : extraction.getCodeLocations()) {
+            MavenGraphAssert graphAssert = new MavenGraphAssert(codeLocation.getDependencyGraph());
+            graphAssert.hasRootSize(1);
+            graphAssert.hasParentChildRelationship(graphAssert.hasRootDependency("some.group:parent:5.0.0"), graphAssert.hasDependency("some.group:child:2.2.2"));
+        }
+    }
+
+    private File writeReport(Path directory, String projectName) throws IOException {
+        List<String> lines = Arrays.asList(
+            "archives - no dependencies",
+            "No dependencies",
+            "",
+            "compile - Compile classpath for source set 'main'.",
+            "\\--- some.group:parent:5.0.0",
+            "     \\--- some.group:child:2.2.2",
+            "",
+            GradleReportParser.DETECT_META_DATA_HEADER,
+            GradleReportParser.PROJECT_GROUP_PREFIX + "com.example",
+            GradleReportParser.PROJECT_NAME_PREFIX + projectName,
+            GradleReportParser.PROJECT_VERSION_PREFIX + "1.0.0",
+            GradleReportParser.DETECT_META_DATA_FOOTER
+        );
+        return Files.write(directory.resolve(projectName + "_dependencyGraph.txt"), lines, StandardCharsets.UTF_8).toFile();
+    }
+}
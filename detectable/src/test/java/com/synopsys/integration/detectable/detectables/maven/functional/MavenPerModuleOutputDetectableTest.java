@@ -0,0 +1,97 @@
+package com.synopsys.integration.detectable.detectables.maven.functional;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.ExecutableTarget;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCliExtractorOptions;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.functional.DetectableFunctionalTest;
+import com.synopsys.integration.detectable.util.graph.NameVersionGraphAssert;
+import com.synopsys.integration.executable.ExecutableOutput;
+
+public class MavenPerModuleOutputDetectableTest extends DetectableFunctionalTest {
+    public MavenPerModuleOutputDetectableTest() throws IOException {
+        super("mavenpermodule");
+    }
+
+    @Override
+    protected void setup() throws IOException {
+        addFile(Paths.get("pom.xml"),
+            "<project>",
+            "    <groupId>com.example</groupId>",
+            "    <artifactId>parent</artifactId>",
+            "    <version>1.0.0</version>",
+            "</project>"
+        );
+
+        // Maven is not really run, so the files it would have written for each module are created up front.
+        String outputDirectory = getOutputDirectory().toFile().getAbsolutePath() + File.separator;
+        addOutputFile(Paths.get("com.example-parent-dependency-tree.txt"), Arrays.asList(
+            "com.example:parent:pom:1.0.0",
+            "\\- junit:junit:jar:4.12:test",
+            "   \\- org.hamcrest:hamcrest-core:jar:1.3:test"
+        ));
+        addOutputFile(Paths.get("com.example-core-dependency-tree.txt"), Arrays.asList(
+            "com.example:core:jar:1.0.0",
+            "+- org.apache.commons:commons-lang3:jar:3.11:compile",
+            "+- com.google.code.gson:gson:jar:2.8.6:compile",
+            "|  \\- com.example:gson-extras:jar:0.1:compile",
+            "\\- junit:junit:jar:4.12:test",
+            "   \\- org.hamcrest:hamcrest-core:jar:1.3:test"
+        ));
+        addOutputFile(Paths.get("com.example-samples-dependency-tree.txt"), Arrays.asList(
+            "com.example:samples:jar:1.0.0",
+            "\\- org.slf4j:slf4j-api:jar:1.7.30:compile"
+        ));
+
+        ExecutableOutput mavenOutput = createStandardOutput(
+            "[INFO] --- maven-dependency-plugin:3.1.2:tree (default-cli) @ core ---",
+            "[INFO] --- maven-dependency-plugin:3.1.2:tree (default-cli) @ samples ---",
+            "[INFO] Wrote dependency tree to: " + outputDirectory + "com.example-samples-dependency-tree.txt",
+            "[INFO] Wrote dependency tree to: " + outputDirectory + "com.example-core-dependency-tree.txt",
+            "[INFO] --- maven-dependency-plugin:3.1.2:tree (default-cli) @ parent ---",
+            "[INFO] Wrote dependency tree to: " + outputDirectory + "com.example-parent-dependency-tree.txt",
+            "[INFO] BUILD SUCCESS"
+        );
+        addExecutableOutput(mavenOutput, new File("maven").getAbsolutePath(), "-T", "4", "dependency:tree",
+            "-DoutputFile=" + outputDirectory + "${project.groupId}-${project.artifactId}-dependency-tree.txt");
+    }
+
+    @NotNull
+    @Override
+    public Detectable create(@NotNull DetectableEnvironment detectableEnvironment) {
+        MavenCliExtractorOptions mavenCliExtractorOptions = new MavenCliExtractorOptions("-T 4", Collections.singletonList("test"), Collections.emptyList(), Collections.singletonList("samples"), Collections.emptyList(), true, 2);
+        return detectableFactory.createMavenPomDetectable(detectableEnvironment, environment -> ExecutableTarget.forFile(new File("maven")), mavenCliExtractorOptions);
+    }
+
+    @Override
+    public void assertExtraction(@NotNull Extraction extraction) {
+        Assertions.assertEquals(2, extraction.getCodeLocations().size());
+        Assertions.assertEquals("parent", extraction.getProjectName());
+        Assertions.assertEquals("1.0.0", extraction.getProjectVersion());
+
+        ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        NameVersionGraphAssert parentGraphAssert = new NameVersionGraphAssert(Forge.MAVEN, extraction.getCodeLocations().get(0).getDependencyGraph());
+        parentGraphAssert.hasRootSize(0);
+
+        NameVersionGraphAssert coreGraphAssert = new NameVersionGraphAssert(Forge.MAVEN, extraction.getCodeLocations().get(1).getDependencyGraph());
+        coreGraphAssert.hasRootSize(2);
+        ExternalId gson = externalIdFactory.createMavenExternalId("com.google.code.gson", "gson", "2.8.6");
+        coreGraphAssert.hasRootDependency(externalIdFactory.createMavenExternalId("org.apache.commons", "commons-lang3", "3.11"));
+        coreGraphAssert.hasRootDependency(gson);
+        coreGraphAssert.hasParentChildRelationship(gson, externalIdFactory.createMavenExternalId("com.example", "gson-extras", "0.1"));
+        coreGraphAssert.hasNoDependency(externalIdFactory.createMavenExternalId("junit", "junit", "4.12"));
+    }
+}
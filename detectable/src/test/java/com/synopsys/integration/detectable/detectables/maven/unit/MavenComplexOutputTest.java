@@ -1,5 +1,8 @@
 package com.synopsys.integration.detectable.detectables.maven.unit;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -48,6 +51,21 @@ public class MavenComplexOutputTest {
 
         List<MavenParseResult> results = packager.extractCodeLocations("", getInput(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
 
+        assertResults(externalIdFactory, results);
+    }
+
+    @Test
+    public void testReadingOutput() throws IOException {
+        ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        MavenCodeLocationPackager packager = new MavenCodeLocationPackager(externalIdFactory);
+
+        BufferedReader mavenOutput = new BufferedReader(new StringReader(String.join(System.lineSeparator(), getInput())));
+        List<MavenParseResult> results = packager.extractCodeLocations("", mavenOutput, Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+        assertResults(externalIdFactory, results);
+    }
+
+    private void assertResults(ExternalIdFactory externalIdFactory, List<MavenParseResult> results) {
         NameVersionGraphAssert graphAssert = new NameVersionGraphAssert(Forge.MAVEN, results.get(0).getCodeLocation().getDependencyGraph());
         graphAssert.hasRootSize(1);
 
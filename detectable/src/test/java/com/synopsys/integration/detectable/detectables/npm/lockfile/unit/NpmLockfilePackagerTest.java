@@ -0,0 +1,165 @@
+package com.synopsys.integration.detectable.detectables.npm.lockfile.unit;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmDependencyConverter;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmDependency;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmProject;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmRequires;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.parse.NpmLockfilePackager;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.parse.NpmLockfileReader;
+import com.synopsys.integration.util.NameVersion;
+
+public class NpmLockfilePackagerTest {
+    private static final int PACKAGE_COUNT = 3000;
+
+    private final Gson gson = new Gson();
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    // Compares the indexed lookups against the linear scans they replaced on a large generated lockfile.
+    @UnitTest
+    public void largeLockfileResolvesLikeLinearLookup() throws IOException {
+        String lockFileText = createLargeLockFile();
+        List<NameVersion> externalDependencies = Collections.singletonList(new NameVersion("external", "5.0.0"));
+
+        NpmParseResult result = new NpmLockfilePackager(gson, externalIdFactory).parse(null, lockFileText, true, externalDependencies);
+
+        NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
+        NpmProject project = dependencyConverter.convertLockFile(new NpmLockfileReader(dependencyConverter).read(new StringReader(lockFileText)), null);
+        Map<ExternalId, Set<ExternalId>> expectedChildren = new HashMap<>();
+        for (NpmDependency resolved : project.getResolvedDependencies()) {
+            resolveLinearly(resolved, project, externalDependencies, expectedChildren);
+        }
+
+        DependencyGraph graph = result.getCodeLocation().getDependencyGraph();
+        Assertions.assertEquals(PACKAGE_COUNT + 1, graph.getRootDependencies().size());
+        for (Map.Entry<ExternalId, Set<ExternalId>> expected : expectedChildren.entrySet()) {
+            Assertions.assertEquals(expected.getValue(), graph.getChildrenExternalIdsForParent(expected.getKey()), "Children differ for " + expected.getKey());
+        }
+
+        ExternalId nestedParent = npmId("package-10", "1.0.10");
+        Assertions.assertTrue(graph.getChildrenExternalIdsForParent(nestedParent).contains(npmId("shared", "2.0.0")));
+        Assertions.assertTrue(graph.getChildrenExternalIdsForParent(npmId("package-0", "1.0.0")).contains(npmId("external", "5.0.0")));
+    }
+
+    @UnitTest
+    public void streamedLockfileReadsFieldsInAnyOrder(@TempDir Path tempDir) throws IOException {
+        String lockFileText = String.join("\n",
+            "{",
+            "  \"lockfileVersion\": 1,",
+            "  \"requires\": true,",
+            "  \"dependencies\": {",
+            "    \"parent\": {",
+            "      \"dependencies\": { \"child\": { \"version\": \"2.0.0\", \"integrity\": \"sha1-abc\" } },",
+            "      \"requires\": { \"child\": \"^2.0.0\" },",
+            "      \"version\": \"1.0.0\"",
+            "    },",
+            "    \"child\": { \"version\": \"1.0.0\", \"dev\": true }",
+            "  },",
+            "  \"name\": \"streamed\",",
+            "  \"version\": \"3.0.0\"",
+            "}");
+        Path lockFile = tempDir.resolve("package-lock.json");
+        Files.write(lockFile, lockFileText.getBytes(StandardCharsets.UTF_8));
+
+        NpmParseResult result = new NpmLockfilePackager(gson, externalIdFactory).parse(null, lockFile, false);
+
+        Assertions.assertEquals("streamed", result.getProjectName());
+        Assertions.assertEquals("3.0.0", result.getProjectVersion());
+        DependencyGraph graph = result.getCodeLocation().getDependencyGraph();
+        Assertions.assertEquals(Collections.singleton(npmId("child", "2.0.0")), graph.getChildrenExternalIdsForParent(npmId("parent", "1.0.0")));
+        Assertions.assertFalse(graph.getChildrenExternalIdsForParent(npmId("child", "1.0.0")).iterator().hasNext());
+    }
+
+    // Every package requires the next package and a shared package; every tenth package nests its own version of the shared package.
+    private String createLargeLockFile() {
+        Map<String, Object> dependencies = new LinkedHashMap<>();
+        dependencies.put("shared", packageEntry("1.0.0", Collections.emptyMap(), Collections.emptyMap()));
+        for (int i = 0; i < PACKAGE_COUNT; i++) {
+            Map<String, String> requires = new LinkedHashMap<>();
+            requires.put("package-" + ((i + 1) % PACKAGE_COUNT), "^1.0.0");
+            requires.put("shared", "*");
+            if (i == 0) {
+                requires.put("external", "^5.0.0");
+            }
+
+            Map<String, Object> nested = new LinkedHashMap<>();
+            if (i % 10 == 0) {
+                nested.put("shared", packageEntry("2.0.0", Collections.emptyMap(), Collections.emptyMap()));
+            }
+            dependencies.put("package-" + i, packageEntry("1.0." + i, requires, nested));
+        }
+
+        Map<String, Object> lockFile = new LinkedHashMap<>();
+        lockFile.put("name", "large-project");
+        lockFile.put("version", "1.0.0");
+        lockFile.put("dependencies", dependencies);
+        return gson.toJson(lockFile);
+    }
+
+    private Map<String, Object> packageEntry(String version, Map<String, String> requires, Map<String, Object> dependencies) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("version", version);
+        entry.put("requires", requires);
+        entry.put("dependencies", dependencies);
+        return entry;
+    }
+
+    private void resolveLinearly(NpmDependency npmDependency, NpmProject project, List<NameVersion> externalDependencies, Map<ExternalId, Set<ExternalId>> expectedChildren) {
+        Set<ExternalId> children = expectedChildren.computeIfAbsent(npmDependency.getGraphDependency().getExternalId(), key -> new HashSet<>());
+        for (NpmRequires required : npmDependency.getRequires()) {
+            ExternalId resolved = lookupLinearly(required.getName(), npmDependency, project, externalDependencies);
+            Assertions.assertNotNull(resolved, "No dependency found for package: " + required.getName());
+            children.add(resolved);
+        }
+        for (NpmDependency child : npmDependency.getDependencies()) {
+            resolveLinearly(child, project, externalDependencies, expectedChildren);
+        }
+    }
+
+    private ExternalId lookupLinearly(String name, NpmDependency npmDependency, NpmProject project, List<NameVersion> externalDependencies) {
+        List<List<NpmDependency>> levels = new ArrayList<>();
+        for (NpmDependency current = npmDependency; current != null; current = current.getParent().orElse(null)) {
+            levels.add(current.getDependencies());
+        }
+        levels.add(project.getResolvedDependencies());
+        for (List<NpmDependency> level : levels) {
+            for (NpmDependency candidate : level) {
+                if (candidate.getName().equals(name)) {
+                    return candidate.getGraphDependency().getExternalId();
+                }
+            }
+        }
+        return externalDependencies.stream()
+                   .filter(it -> it.getName().equals(name))
+                   .findFirst()
+                   .map(it -> npmId(it.getName(), it.getVersion()))
+                   .orElse(null);
+    }
+
+    private ExternalId npmId(String name, String version) {
+        return externalIdFactory.createNameVersionExternalId(Forge.NPMJS, name, version);
+    }
+}
@@ -3,6 +3,7 @@ package com.synopsys.integration.detectable.detectables.yarn.functional;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.io.FileUtils;
@@ -10,8 +11,12 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLock;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockDependency;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockLineAnalyzer;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntry;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryId;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryParseResult;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryParser;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockDependencySpecParser;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockEntrySectionParserSet;
@@ -34,4 +39,42 @@ public class YarnLockParserFunctionalTest {
         Assertions.assertEquals("zwitch", yarnLock.getEntries().get(4237).getIds().get(0).getName());
         Assertions.assertEquals("^1.0.0", yarnLock.getEntries().get(4237).getIds().get(0).getVersion());
     }
+
+    // The parser reads the file an entry at a time; it should find the same entries as the entry parser walking all of the file's lines.
+    @Test
+    void testReadingFileMatchesWholeFile() throws IOException {
+        File lockfile = FunctionalTestFiles.asFile("/yarn/lockfilev1/yarn.lock");
+        List<String> yarnLockLines = FileUtils.readLines(lockfile, StandardCharsets.UTF_8);
+        YarnLockLineAnalyzer yarnLockLineAnalyzer = new YarnLockLineAnalyzer();
+        YarnLockDependencySpecParser yarnLockDependencySpecParser = new YarnLockDependencySpecParser(yarnLockLineAnalyzer);
+        YarnLockEntrySectionParserSet yarnLockEntryElementParser = new YarnLockEntrySectionParserSet(yarnLockLineAnalyzer, yarnLockDependencySpecParser);
+        YarnLockEntryParser yarnLockEntryParser = new YarnLockEntryParser(yarnLockLineAnalyzer, yarnLockEntryElementParser);
+        YarnLockParser yarnLockParser = new YarnLockParser(yarnLockLineAnalyzer, yarnLockEntryParser);
+
+        List<YarnLockEntry> expected = new ArrayList<>();
+        int lineIndex = 0;
+        while (lineIndex < yarnLockLines.size()) {
+            YarnLockEntryParseResult entryParseResult = yarnLockEntryParser.parseNextEntry(yarnLockLines, lineIndex);
+            entryParseResult.getYarnLockEntry().ifPresent(expected::add);
+            lineIndex = entryParseResult.getLastParsedLineIndex() + 1;
+        }
+        YarnLock actual = yarnLockParser.parseYarnLock(lockfile);
+
+        Assertions.assertEquals(expected.size(), actual.getEntries().size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(describe(expected.get(i)), describe(actual.getEntries().get(i)));
+        }
+    }
+
+    private String describe(YarnLockEntry entry) {
+        StringBuilder description = new StringBuilder();
+        for (YarnLockEntryId id : entry.getIds()) {
+            description.append(id.getName()).append('@').append(id.getVersion()).append(' ');
+        }
+        description.append("version ").append(entry.getVersion());
+        for (YarnLockDependency dependency : entry.getDependencies()) {
+            description.append(' ').append(dependency.getName()).append('@').append(dependency.getVersion()).append(dependency.isOptional() ? "?" : "");
+        }
+        return description.toString();
+    }
 }
@@ -25,6 +25,9 @@ package com.synopsys.integration.detectable.detectables.yarn.unit;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -40,6 +43,7 @@ import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockLineAn
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockParser;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntry;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryId;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryParseResult;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryParser;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockDependencySpecParser;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockEntrySectionParserSet;
@@ -267,6 +271,133 @@ public class YarnLockParserTest {
         Assertions.assertFalse(dep.isOptional());
     }
 
+    @Test
+    void testReaderMatchesWholeFileYarn1() throws IOException {
+        List<String> yarnLockText = Arrays.asList(
+            "# THIS IS AN AUTOGENERATED FILE. DO NOT EDIT THIS FILE DIRECTLY.",
+            "# yarn lockfile v1",
+            "",
+            "",
+            "\"@apollo/client@^3.1.3\", \"@apollo/client@^3.1.4\":",
+            "  version \"3.3.6\"",
+            "  dependencies:",
+            "    \"@graphql-typed-document-node/core\" \"^3.0.0\"",
+            "    ms \"2.0.0\"",
+            "  optionalDependencies:",
+            "    fsevents \"^2.1.2\"",
+            "",
+            "no-version@1.0.0:",
+            "  resolved \"https://registry.yarnpkg.com/no-version/-/no-version-1.0.0.tgz\"",
+            "debug@2, debug@2.6.9, debug@^2.2.0:",
+            "  version \"2.6.9\"",
+            "  dependencies:",
+            "    ms \"2.0.0\"",
+            "ms@2.0.0:",
+            "  version \"2.0.0\""
+        );
+
+        YarnLock yarnLock = assertReaderMatchesWholeFile(yarnLockText);
+
+        Assertions.assertTrue(yarnLock.isYarn1Project());
+        Assertions.assertEquals(3, yarnLock.getEntries().size());
+    }
+
+    @Test
+    void testReaderMatchesWholeFileYarn2() throws IOException {
+        List<String> yarnLockText = Arrays.asList(
+            "# This file is generated by running \"yarn install\" inside your project.",
+            "",
+            "__metadata:",
+            "  version: 4",
+            "  cacheKey: 7",
+            "",
+            "\"@babel/code-frame@npm:^7.0.0, @babel/code-frame@npm:^7.12.13\":",
+            "  version: 7.12.13",
+            "  dependencies:",
+            "    \"@babel/highlight\": ^7.12.13",
+            "    should-be-optional: 1.0.0",
+            "  dependenciesMeta:",
+            "    should-be-optional:",
+            "      optional: true",
+            "  languageName: node",
+            "",
+            "\"@babel/highlight@npm:^7.12.13\":",
+            "  version: 7.13.10",
+            "  linkType: hard"
+        );
+
+        YarnLock yarnLock = assertReaderMatchesWholeFile(yarnLockText);
+
+        Assertions.assertFalse(yarnLock.isYarn1Project());
+        Assertions.assertEquals("4", yarnLock.getFileFormatVersion().orElse(null));
+        Assertions.assertEquals(2, yarnLock.getEntries().size());
+    }
+
+    @Test
+    void testNamesAndVersionsAreSharedBetweenEntries() {
+        List<String> yarnLockText = Arrays.asList(
+            "first@^1.0.0:",
+            "  version: 1.0.0",
+            "  dependencies:",
+            "    shared: ^2.0.0",
+            "",
+            "second@^1.0.0:",
+            "  version: 1.0.0",
+            "  dependencies:",
+            "    shared: ^2.0.0",
+            "",
+            "shared@^2.0.0:",
+            "  version: 2.0.0"
+        );
+
+        YarnLock yarnLock = createYarnLockParser().parseYarnLock(yarnLockText);
+
+        YarnLockDependency firstDependency = yarnLock.getEntries().get(0).getDependencies().get(0);
+        YarnLockDependency secondDependency = yarnLock.getEntries().get(1).getDependencies().get(0);
+        YarnLockEntryId sharedId = yarnLock.getEntries().get(2).getIds().get(0);
+        Assertions.assertSame(firstDependency.getName(), secondDependency.getName());
+        Assertions.assertSame(firstDependency.getName(), sharedId.getName());
+        Assertions.assertSame(firstDependency.getVersion(), sharedId.getVersion());
+        Assertions.assertSame(yarnLock.getEntries().get(0).getVersion(), yarnLock.getEntries().get(1).getVersion());
+    }
+
+    // The parser only holds one entry's lines at a time; it should find the same entries as the entry parser walking the whole file.
+    private YarnLock assertReaderMatchesWholeFile(List<String> yarnLockText) throws IOException {
+        YarnLock yarnLock = createYarnLockParser().parseYarnLock(new BufferedReader(new StringReader(String.join("\n", yarnLockText))));
+        Assertions.assertEquals(describeWholeFile(yarnLockText), describeEntries(yarnLock.getEntries()));
+        return yarnLock;
+    }
+
+    static List<String> describeWholeFile(List<String> yarnLockText) {
+        YarnLockEntryParser entryParser = createYarnLockEntryParser();
+        List<YarnLockEntry> entries = new ArrayList<>();
+        int lineIndex = 0;
+        while (lineIndex < yarnLockText.size()) {
+            YarnLockEntryParseResult entryParseResult = entryParser.parseNextEntry(yarnLockText, lineIndex);
+            entryParseResult.getYarnLockEntry()
+                .filter(entry -> !entry.isMetadataEntry())
+                .ifPresent(entries::add);
+            lineIndex = entryParseResult.getLastParsedLineIndex() + 1;
+        }
+        return describeEntries(entries);
+    }
+
+    static List<String> describeEntries(List<YarnLockEntry> entries) {
+        List<String> description = new ArrayList<>();
+        for (YarnLockEntry entry : entries) {
+            StringBuilder entryDescription = new StringBuilder();
+            for (YarnLockEntryId id : entry.getIds()) {
+                entryDescription.append(id.getName()).append('@').append(id.getVersion()).append(' ');
+            }
+            entryDescription.append("version ").append(entry.getVersion());
+            for (YarnLockDependency dependency : entry.getDependencies()) {
+                entryDescription.append(' ').append(dependency.getName()).append('@').append(dependency.getVersion()).append(dependency.isOptional() ? "?" : "");
+            }
+            description.add(entryDescription.toString());
+        }
+        return description;
+    }
+
     void assertEntry(YarnLock yarnLock, String idName, String idVersion, String resolvedVersion, YarnLockDependency... dependencies) {
         boolean found = false;
         for (YarnLockEntry entry : yarnLock.getEntries()) {
@@ -292,11 +423,16 @@ public class YarnLockParserTest {
 
     @NotNull
     private YarnLockParser createYarnLockParser() {
+        YarnLockEntryParser entryParser = createYarnLockEntryParser();
+        YarnLockParser yarnLockParser = new YarnLockParser(entryParser);
+        return yarnLockParser;
+    }
+
+    @NotNull
+    static YarnLockEntryParser createYarnLockEntryParser() {
         YarnLockLineAnalyzer lineAnalyzer = new YarnLockLineAnalyzer();
         YarnLockDependencySpecParser yarnLockDependencySpecParser = new YarnLockDependencySpecParser(lineAnalyzer);
         YarnLockEntrySectionParserSet yarnLockEntryElementParser = new YarnLockEntrySectionParserSet(lineAnalyzer, yarnLockDependencySpecParser);
-        YarnLockEntryParser entryParser = new YarnLockEntryParser(lineAnalyzer, yarnLockEntryElementParser);
-        YarnLockParser yarnLockParser = new YarnLockParser(entryParser);
-        return yarnLockParser;
+        return new YarnLockEntryParser(lineAnalyzer, yarnLockEntryElementParser);
     }
 }
@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.jetbrains.annotations.NotNull;
@@ -44,6 +45,8 @@ class YarnTransformerTest {
     private static ExternalIdFactory externalIdFactory;
     private static YarnTransformer yarnTransformer;
     private static final List<NameVersion> noWorkspaces = new LinkedList<>();
+    private static final int GENERATED_WORKSPACE_COUNT = 500;
+    private static final int GENERATED_PACKAGE_COUNT = 19500;
 
     @BeforeAll
     static void setup() {
@@ -221,6 +224,68 @@ class YarnTransformerTest {
         assertTrue(dependencyGraph.hasDependency(fooExternalId), "Missing the only expected dependency.");
     }
 
+    // Compares the indexed workspace lookups against scanning the workspaces in order, on a generated 500 workspace, 20k entry lock.
+    @Test
+    void testLargeMonorepoLookupsMatchLinearScan() throws MissingExternalIdException {
+        YarnLockResult yarnLockResult = buildLargeMonorepoYarnLockResult();
+        YarnWorkspaces workspaces = yarnLockResult.getWorkspaceData();
+        List<NameVersion> externalDependencies = new ArrayList<>();
+        for (int i = 0; i < GENERATED_WORKSPACE_COUNT; i++) {
+            externalDependencies.add(new NameVersion("external-" + i, "2.0." + i));
+        }
+
+        DependencyGraph dependencyGraph = yarnTransformer.generateDependencyGraph(yarnLockResult, false, false, externalDependencies, null);
+
+        for (YarnLockEntry entry : yarnLockResult.getYarnLock().getEntries()) {
+            assertEquals(lookupLinearly(workspaces, entry), workspaces.lookup(entry));
+            for (YarnLockDependency dependency : entry.getDependencies()) {
+                assertEquals(lookupLinearly(workspaces, dependency), workspaces.lookup(dependency));
+            }
+        }
+
+        ExternalId firstPackage = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "package-0", "1.0.0");
+        ExternalId secondPackage = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "package-1", "1.0.1");
+        assertTrue(dependencyGraph.getChildrenExternalIdsForParent(firstPackage).contains(secondPackage));
+        assertEquals(3, dependencyGraph.getChildrenExternalIdsForParent(firstPackage).size());
+    }
+
+    private Optional<YarnWorkspace> lookupLinearly(YarnWorkspaces workspaces, YarnLockEntry entry) {
+        return workspaces.getWorkspaces().stream().filter(workspace -> workspace.matches(entry)).findFirst();
+    }
+
+    private Optional<YarnWorkspace> lookupLinearly(YarnWorkspaces workspaces, YarnLockDependency dependency) {
+        return workspaces.getWorkspaces().stream().filter(workspace -> workspace.matches(dependency)).findFirst();
+    }
+
+    // Every package depends on the next package, a workspace and an external package; every workspace depends on a package.
+    private YarnLockResult buildLargeMonorepoYarnLockResult() {
+        PackageJson rawPackageJson = new PackageJson();
+        rawPackageJson.dependencies = new HashMap<>();
+        rawPackageJson.dependencies.put("package-0", "^1.0.0");
+        NullSafePackageJson packageJson = new NullSafePackageJson(rawPackageJson);
+
+        Collection<YarnWorkspace> workspaces = new ArrayList<>();
+        List<YarnLockEntry> yarnLockEntries = new ArrayList<>();
+        for (int i = 0; i < GENERATED_WORKSPACE_COUNT; i++) {
+            NameVersion workspace = new NameVersion("workspace-" + i, "1.0." + i);
+            addWorkspacePackageJson(workspaces, workspace, "package-" + i, "package-" + (i + 1));
+            List<YarnLockEntryId> workspaceEntryIds = Arrays.asList(new YarnLockEntryId(workspace.getName(), workspace.getVersion()),
+                new YarnLockEntryId(workspace.getName(), "workspace:packages/" + workspace.getName()));
+            List<YarnLockDependency> workspaceDependencies = Collections.singletonList(new YarnLockDependency("package-" + i, "^1.0.0", false));
+            yarnLockEntries.add(new YarnLockEntry(false, workspaceEntryIds, workspace.getVersion(), workspaceDependencies));
+        }
+        for (int i = 0; i < GENERATED_PACKAGE_COUNT; i++) {
+            String workspaceName = "workspace-" + (i % GENERATED_WORKSPACE_COUNT);
+            List<YarnLockDependency> dependencies = Arrays.asList(
+                new YarnLockDependency("package-" + ((i + 1) % GENERATED_PACKAGE_COUNT), "^1.0.0", false),
+                new YarnLockDependency(workspaceName, "workspace:packages/" + workspaceName, false),
+                new YarnLockDependency("external-" + (i % GENERATED_WORKSPACE_COUNT), "^2.0.0", false));
+            yarnLockEntries.add(new YarnLockEntry(false, Collections.singletonList(new YarnLockEntryId("package-" + i, "^1.0.0")), "1.0." + i, dependencies));
+        }
+        YarnLock yarnLock = new YarnLock("4", false, yarnLockEntries);
+        return new YarnLockResult(packageJson, new YarnWorkspaces(workspaces), yarnLock);
+    }
+
     @NotNull
     private YarnLockResult buildTestYarnLockResult(List<NameVersion> workspacesThatAreDependencies, List<NameVersion> workspacesThatAreNotDependencies, boolean yarn1project, boolean includeAllWorkspaceDependencies) {
         PackageJson rawPackageJson = new PackageJson();
@@ -14,6 +14,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.common.util.finder.DirectoryListing;
 import com.synopsys.integration.detector.rule.DetectorRule;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
 
@@ -24,13 +27,21 @@ public class DetectorEvaluationTree {
     private final DetectorRuleSet detectorRuleSet;
     private final List<DetectorEvaluation> orderedEvaluations;
     private final Set<DetectorEvaluationTree> children;
+    @Nullable
+    private final DirectoryListing directoryListing;
 
     public DetectorEvaluationTree(final File directory, final int depthFromRoot, final DetectorRuleSet detectorRuleSet, final List<DetectorEvaluation> orderedEvaluations, final Set<DetectorEvaluationTree> children) {
+        this(directory, depthFromRoot, detectorRuleSet, orderedEvaluations, children, null);
+    }
+
+    public DetectorEvaluationTree(final File directory, final int depthFromRoot, final DetectorRuleSet detectorRuleSet, final List<DetectorEvaluation> orderedEvaluations, final Set<DetectorEvaluationTree> children,
+        @Nullable final DirectoryListing directoryListing) {
         this.directory = directory;
         this.depthFromRoot = depthFromRoot;
         this.orderedEvaluations = orderedEvaluations;
         this.children = children;
         this.detectorRuleSet = detectorRuleSet;
+        this.directoryListing = directoryListing;
     }
 
     public List<DetectorEvaluationTree> asFlatList() {
@@ -74,4 +85,8 @@ public class DetectorEvaluationTree {
     public DetectorRuleSet getDetectorRuleSet() {
         return detectorRuleSet;
     }
+
+    public Optional<DirectoryListing> getDirectoryListing() {
+        return Optional.ofNullable(directoryListing);
+    }
 }
@@ -13,6 +13,7 @@ import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.common.util.finder.DirectoryListing;
 import com.synopsys.integration.detectable.Detectable;
 import com.synopsys.integration.detectable.DetectableEnvironment;
 import com.synopsys.integration.detectable.detectable.result.DetectableResult;
@@ -56,7 +57,7 @@ public class ApplicableEvaluator extends Evaluator {
             if (detectorEvaluation.isSearchable()) {
                 logger.trace("Searchable passed, will continue evaluating.");
                 //TODO: potential todo, this could be invoked as part of the rule - ie we make a DetectableEnvironmentCreatable and the file could be given to the creatable (detectorRule.createEnvironment(file)
-                DetectableEnvironment detectableEnvironment = new DetectableEnvironment(detectorEvaluationTree.getDirectory());
+                DetectableEnvironment detectableEnvironment = new DetectableEnvironment(detectorEvaluationTree.getDirectory(), detectorEvaluationTree.getDirectoryListing().orElse(null));
                 detectorEvaluation.setDetectableEnvironment(detectableEnvironment);
 
                 Detectable detectable = detectorRule.createDetectable(detectableEnvironment);
@@ -79,6 +80,9 @@ public class ApplicableEvaluator extends Evaluator {
             getDetectorEvaluatorListener().ifPresent(it -> it.applicableEnded(detectorEvaluation));
         }
 
+        // The listing is only shared with the applicable checks, so it is not held for the rest of the run.
+        detectorEvaluationTree.getDirectoryListing().ifPresent(DirectoryListing::release);
+
         if (!appliedSoFar.isEmpty()) {
             //TODO: Perfect log level also matters here. To little and we may appear stuck, but we may also be flooding the logs.
             logger.debug("Found ({}) applicable detectors in: {}", appliedSoFar.size(), detectorEvaluationTree.getDirectory());
@@ -14,10 +14,16 @@ import com.synopsys.integration.detector.rule.DetectorRule;
 public class DetectorEvaluationOptions {
     private final boolean forceNested;
     private final Predicate<DetectorRule> detectorFilter;
+    private final int extractionThreads;
 
     public DetectorEvaluationOptions(final boolean forceNested, final Predicate<DetectorRule> detectorFilter) {
+        this(forceNested, detectorFilter, 1);
+    }
+
+    public DetectorEvaluationOptions(final boolean forceNested, final Predicate<DetectorRule> detectorFilter, final int extractionThreads) {
         this.forceNested = forceNested;
         this.detectorFilter = detectorFilter;
+        this.extractionThreads = extractionThreads;
     }
 
     public boolean isForceNested() {
@@ -27,4 +33,8 @@ public class DetectorEvaluationOptions {
     public Predicate<DetectorRule> getDetectorFilter() {
         return detectorFilter;
     }
+
+    public int getExtractionThreads() {
+        return extractionThreads;
+    }
 }
@@ -11,6 +11,8 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.jetbrains.annotations.Nullable;
+
 import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
@@ -23,10 +25,15 @@ public class DetectorEvaluator {
     private ExtractionEvaluator extractionEvaluator;
 
     public DetectorEvaluator(DetectorEvaluationOptions evaluationOptions, Function<DetectorEvaluation, ExtractionEnvironment> extractionEnvironmentProvider, DiscoveryFilter discoveryFilter) {
+        this(evaluationOptions, extractionEnvironmentProvider, discoveryFilter, null);
+    }
+
+    public DetectorEvaluator(DetectorEvaluationOptions evaluationOptions, Function<DetectorEvaluation, ExtractionEnvironment> extractionEnvironmentProvider, DiscoveryFilter discoveryFilter,
+        @Nullable ExtractionCache extractionCache) {
         applicableEvaluator = new ApplicableEvaluator(evaluationOptions);
         extractableEvaluator = new ExtractableEvaluator(evaluationOptions, extractionEnvironmentProvider);
         discoveryEvaluator = new DiscoveryEvaluator(evaluationOptions, discoveryFilter);
-        extractionEvaluator = new ExtractionEvaluator(evaluationOptions);
+        extractionEvaluator = new ExtractionEvaluator(evaluationOptions, extractionCache);
     }
 
     public DetectorAggregateEvaluationResult evaluate(DetectorEvaluationTree rootEvaluation) {
@@ -0,0 +1,20 @@
+/*
+ * detector
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detector.evaluation;
+
+import java.util.Optional;
+
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+
+// Implementations may be called from several extraction threads at once.
+public interface ExtractionCache {
+    Optional<Extraction> findCachedExtraction(DetectorEvaluation detectorEvaluation);
+
+    void cacheExtraction(DetectorEvaluation detectorEvaluation);
+}
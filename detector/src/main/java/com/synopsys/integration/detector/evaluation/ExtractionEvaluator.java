@@ -7,6 +7,18 @@
  */
 package com.synopsys.integration.detector.evaluation;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,50 +30,162 @@ import com.synopsys.integration.detector.base.DetectorEvaluationTree;
 
 public class ExtractionEvaluator extends Evaluator {
     private Logger logger = LoggerFactory.getLogger(ExtractionEvaluator.class);
+    private final Object listenerLock = new Object();
+    @Nullable
+    private final ExtractionCache extractionCache;
 
     public ExtractionEvaluator(DetectorEvaluationOptions evaluationOptions) {
+        this(evaluationOptions, null);
+    }
+
+    public ExtractionEvaluator(DetectorEvaluationOptions evaluationOptions, @Nullable ExtractionCache extractionCache) {
         super(evaluationOptions);
+        this.extractionCache = extractionCache;
     }
 
     @Override
     protected DetectorEvaluationTree performEvaluation(DetectorEvaluationTree rootEvaluation) {
         logger.debug("Starting detector extraction.");
-        extractionEvaluation(rootEvaluation);
+        int extractionThreads = getEvaluationOptions().getExtractionThreads();
+        if (extractionThreads > 1) {
+            parallelExtractionEvaluation(rootEvaluation, extractionThreads);
+        } else {
+            extractionEvaluation(rootEvaluation);
+        }
         return rootEvaluation;
     }
 
     public void extractionEvaluation(DetectorEvaluationTree detectorEvaluationTree) {
         logger.trace("Extracting detectors in the directory: {}", detectorEvaluationTree.getDirectory());
         for (DetectorEvaluation detectorEvaluation : detectorEvaluationTree.getOrderedEvaluations()) {
-            if (detectorEvaluation.isExtractable() && detectorEvaluation.getExtractionEnvironment() != null) {
-
-                logger.trace("Detector was searchable, applicable and extractable, will perform extraction: {}", detectorEvaluation.getDetectorRule().getDescriptiveName());
-                Detectable detectable = detectorEvaluation.getDetectable();
-
-                getDetectorEvaluatorListener().ifPresent(it -> it.extractionStarted(detectorEvaluation));
-
-                Discovery discovery = detectorEvaluation.getDiscovery();
-                if (discovery != null && discovery.getExtraction() != null) {
-                    logger.debug("Extraction already completed during project discovery.");
-                    detectorEvaluation.setExtraction(discovery.getExtraction());
-                } else {
-                    try {
-                        Extraction extraction = detectable.extract(detectorEvaluation.getExtractionEnvironment());
-                        detectorEvaluation.setExtraction(extraction);
-                    } catch (Exception e) {
-                        detectorEvaluation.setExtraction(new Extraction.Builder().exception(e).build());
-                    }
-                }
+            if (shouldExtract(detectorEvaluation)) {
+                extract(detectorEvaluation);
+            }
+        }
+
+        for (DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
+            extractionEvaluation(childDetectorEvaluationTree);
+        }
+    }
 
-                getDetectorEvaluatorListener().ifPresent(it -> it.extractionEnded(detectorEvaluation));
+    // Each evaluation owns its extraction, so the tree (and everything built from it) is identical to a sequential run regardless of the order extractions finish in.
+    public void parallelExtractionEvaluation(DetectorEvaluationTree rootEvaluation, int extractionThreads) {
+        List<DetectorEvaluation> extractableEvaluations = new ArrayList<>();
+        collectExtractableEvaluations(rootEvaluation, extractableEvaluations);
+        logger.debug("Extracting {} detectors using {} threads.", extractableEvaluations.size(), extractionThreads);
 
-                logger.trace("Extraction result: {}", detectorEvaluation.wasExtractionSuccessful());
+        ExecutorService executorService = Executors.newFixedThreadPool(extractionThreads);
+        Map<DetectorEvaluation, Future<?>> extractionFutures = new LinkedHashMap<>();
+        try {
+            for (DetectorEvaluation detectorEvaluation : extractableEvaluations) {
+                extractionFutures.put(detectorEvaluation, executorService.submit(() -> extract(detectorEvaluation)));
+            }
+            for (Map.Entry<DetectorEvaluation, Future<?>> extractionFuture : extractionFutures.entrySet()) {
+                waitForExtraction(extractionFuture.getKey(), extractionFuture.getValue());
+            }
+        } catch (InterruptedException e) {
+            logger.debug("Interrupted while waiting for extractions, cancelling the remaining extractions.");
+            extractionFutures.values().forEach(extractionFuture -> extractionFuture.cancel(true));
+            awaitTermination(executorService);
+            Thread.currentThread().interrupt();
+            // Once the pool has terminated no worker can still set an extraction, so only the evaluations that never started (or never finished) are marked as interrupted.
+            for (DetectorEvaluation detectorEvaluation : extractionFutures.keySet()) {
+                if (detectorEvaluation.getExtraction() == null) {
+                    detectorEvaluation.setExtraction(new Extraction.Builder().exception(e).build());
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 
+    // Waits for the cancelled extractions to stop so that no listener is called after the evaluation returns. A further interrupt does not stop the wait.
+    private void awaitTermination(ExecutorService executorService) {
+        executorService.shutdownNow();
+        boolean interrupted = false;
+        while (!executorService.isTerminated()) {
+            try {
+                executorService.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void collectExtractableEvaluations(DetectorEvaluationTree detectorEvaluationTree, List<DetectorEvaluation> extractableEvaluations) {
+        for (DetectorEvaluation detectorEvaluation : detectorEvaluationTree.getOrderedEvaluations()) {
+            if (shouldExtract(detectorEvaluation)) {
+                extractableEvaluations.add(detectorEvaluation);
             }
         }
 
         for (DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
-            extractionEvaluation(childDetectorEvaluationTree);
+            collectExtractableEvaluations(childDetectorEvaluationTree, extractableEvaluations);
+        }
+    }
+
+    // The worker has finished once get returns, so an extraction that failed outside of the detectable can be recorded here without racing the worker.
+    private void waitForExtraction(DetectorEvaluation detectorEvaluation, Future<?> extractionFuture) throws InterruptedException {
+        try {
+            extractionFuture.get();
+        } catch (ExecutionException e) {
+            detectorEvaluation.setExtraction(new Extraction.Builder().exception(e).build());
+        }
+    }
+
+    private boolean shouldExtract(DetectorEvaluation detectorEvaluation) {
+        return detectorEvaluation.isExtractable() && detectorEvaluation.getExtractionEnvironment() != null;
+    }
+
+    private void extract(DetectorEvaluation detectorEvaluation) {
+        logger.trace("Detector was searchable, applicable and extractable, will perform extraction: {}", detectorEvaluation.getDetectorRule().getDescriptiveName());
+        Detectable detectable = detectorEvaluation.getDetectable();
+
+        // Listeners were written for a single extraction thread, so their events are never delivered concurrently.
+        synchronized (listenerLock) {
+            getDetectorEvaluatorListener().ifPresent(it -> it.extractionStarted(detectorEvaluation));
+        }
+
+        Discovery discovery = detectorEvaluation.getDiscovery();
+        if (discovery != null && discovery.getExtraction() != null) {
+            logger.debug("Extraction already completed during project discovery.");
+            detectorEvaluation.setExtraction(discovery.getExtraction());
+        } else {
+            Optional<Extraction> cachedExtraction = findCachedExtraction(detectorEvaluation);
+            if (cachedExtraction.isPresent()) {
+                logger.debug("Extraction restored from the extraction cache.");
+                detectorEvaluation.setExtraction(cachedExtraction.get());
+            } else {
+                try {
+                    Extraction extraction = detectable.extract(detectorEvaluation.getExtractionEnvironment());
+                    detectorEvaluation.setExtraction(extraction);
+                } catch (Exception e) {
+                    detectorEvaluation.setExtraction(new Extraction.Builder().exception(e).build());
+                }
+                cacheExtraction(detectorEvaluation);
+            }
+        }
+
+        synchronized (listenerLock) {
+            getDetectorEvaluatorListener().ifPresent(it -> it.extractionEnded(detectorEvaluation));
+        }
+
+        logger.trace("Extraction result: {}", detectorEvaluation.wasExtractionSuccessful());
+    }
+
+    private Optional<Extraction> findCachedExtraction(DetectorEvaluation detectorEvaluation) {
+        if (extractionCache == null || !detectorEvaluation.getDetectorRule().isCacheable()) {
+            return Optional.empty();
+        }
+        return extractionCache.findCachedExtraction(detectorEvaluation);
+    }
+
+    private void cacheExtraction(DetectorEvaluation detectorEvaluation) {
+        if (extractionCache != null && detectorEvaluation.getDetectorRule().isCacheable() && detectorEvaluation.wasExtractionSuccessful()) {
+            extractionCache.cacheExtraction(detectorEvaluation);
         }
     }
 }
@@ -8,26 +8,38 @@
 package com.synopsys.integration.detector.finder;
 
 import java.io.File;
-import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
-import java.util.HashSet;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.common.util.finder.DirectoryListing;
 import com.synopsys.integration.common.util.finder.FileFinder;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.rule.DetectorRule;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
 
 public class DetectorFinder {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     public Optional<DetectorEvaluationTree> findDetectors(final File initialDirectory, final DetectorRuleSet detectorRuleSet, final DetectorFinderOptions options, FileFinder fileFinder) {
+        if (options.getTraversalThreads() > 1) {
+            return findDetectorsInParallel(initialDirectory, detectorRuleSet, options);
+        }
         return findDetectors(initialDirectory, detectorRuleSet, 0, options, fileFinder);
     }
 
@@ -45,18 +57,100 @@ public class DetectorFinder {
         }
 
         logger.debug("Traversing directory: " + directory.getPath()); //TODO: Finding the perfect log level here is important. At INFO, we log a lot during a deep traversal but if we don't we might look stuck.
-        final List<DetectorEvaluation> evaluations = detectorRuleSet.getOrderedDetectorRules().stream()
-                                                         .map(DetectorEvaluation::new)
-                                                         .collect(Collectors.toList());
+        final List<DetectorEvaluation> evaluations = createEvaluations(detectorRuleSet);
 
-        final Set<DetectorEvaluationTree> children = new HashSet<>();
+        final Set<DetectorEvaluationTree> children = new LinkedHashSet<>();
 
-        final List<File> subDirectories = fileFinder.findFiles(directory, options.getFileFilter());
-        for (final File subDirectory : subDirectories) {
+        final List<File> directoryContents = fileFinder.findFiles(directory, file -> true);
+        for (final File subDirectory : directoryContents) {
+            if (!options.getFileFilter().test(subDirectory)) {
+                continue;
+            }
             final Optional<DetectorEvaluationTree> childEvaluationSet = findDetectors(subDirectory, detectorRuleSet, depth + 1, options, fileFinder);
             childEvaluationSet.ifPresent(children::add);
         }
 
-        return Optional.of(new DetectorEvaluationTree(directory, depth, detectorRuleSet, evaluations, children));
+        return Optional.of(new DetectorEvaluationTree(directory, depth, detectorRuleSet, evaluations, children, new DirectoryListing(directory, directoryContents)));
+    }
+
+    private Optional<DetectorEvaluationTree> findDetectorsInParallel(final File initialDirectory, final DetectorRuleSet detectorRuleSet, final DetectorFinderOptions options) {
+        if (options.getMaximumDepth() < 0) {
+            logger.trace("Skipping directory as it exceeds max depth: " + initialDirectory);
+            return Optional.empty();
+        }
+
+        if (null == initialDirectory || Files.isSymbolicLink(initialDirectory.toPath()) || !initialDirectory.isDirectory()) {
+            final String directoryString = Optional.ofNullable(initialDirectory).map(File::toString).orElse("null");
+            logger.trace("Skipping file as it is not a directory: " + directoryString);
+            return Optional.empty();
+        }
+
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(options.getTraversalThreads());
+        try {
+            return Optional.of(forkJoinPool.invoke(new DirectoryTraversalTask(initialDirectory, 0, detectorRuleSet, options)));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    private List<DetectorEvaluation> createEvaluations(final DetectorRuleSet detectorRuleSet) {
+        final List<DetectorRule> rules = detectorRuleSet.getOrderedDetectorRules();
+        final List<DetectorEvaluation> evaluations = new ArrayList<>(rules.size());
+        for (final DetectorRule rule : rules) {
+            evaluations.add(new DetectorEvaluation(rule));
+        }
+        return evaluations;
+    }
+
+    // Lists a directory once with a directory stream, keeping the listing for applicable checks, and forks a task per sub-directory that is within depth and passes the filter. Entry attributes are read without following links.
+    private class DirectoryTraversalTask extends RecursiveTask<DetectorEvaluationTree> {
+        private final File directory;
+        private final int depth;
+        private final DetectorRuleSet detectorRuleSet;
+        private final DetectorFinderOptions options;
+
+        private DirectoryTraversalTask(final File directory, final int depth, final DetectorRuleSet detectorRuleSet, final DetectorFinderOptions options) {
+            this.directory = directory;
+            this.depth = depth;
+            this.detectorRuleSet = detectorRuleSet;
+            this.options = options;
+        }
+
+        @Override
+        protected DetectorEvaluationTree compute() {
+            logger.debug("Traversing directory: " + directory.getPath());
+            final List<File> directoryContents = new ArrayList<>();
+            final List<DirectoryTraversalTask> subDirectoryTasks = new ArrayList<>();
+            try (final DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory.toPath())) {
+                for (final Path path : directoryStream) {
+                    final File file = path.toFile();
+                    directoryContents.add(file);
+                    if (depth < options.getMaximumDepth() && options.getFileFilter().test(file) && isDirectoryNotLink(path)) {
+                        subDirectoryTasks.add(new DirectoryTraversalTask(file, depth + 1, detectorRuleSet, options));
+                    }
+                }
+            } catch (final IOException | DirectoryIteratorException | SecurityException e) {
+                logger.debug("Unable to list directory, its contents will not be searched: " + directory.getPath(), e);
+            }
+            invokeAll(subDirectoryTasks);
+
+            final Set<DetectorEvaluationTree> children = new LinkedHashSet<>();
+            for (final DirectoryTraversalTask subDirectoryTask : subDirectoryTasks) {
+                children.add(subDirectoryTask.join());
+            }
+
+            final DirectoryListing directoryListing = new DirectoryListing(directory, directoryContents);
+            return new DetectorEvaluationTree(directory, depth, detectorRuleSet, createEvaluations(detectorRuleSet), children, directoryListing);
+        }
+
+        private boolean isDirectoryNotLink(final Path path) {
+            try {
+                final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                return attributes.isDirectory();
+            } catch (final IOException e) {
+                logger.trace("Skipping file as its attributes could not be read: " + path);
+                return false;
+            }
+        }
     }
 }
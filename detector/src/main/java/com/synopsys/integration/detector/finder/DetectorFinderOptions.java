@@ -13,10 +13,16 @@ import java.util.function.Predicate;
 public class DetectorFinderOptions {
     private final Predicate<File> fileFilter;
     private final int maximumDepth;
+    private final int traversalThreads;
 
     public DetectorFinderOptions(final Predicate<File> fileFilter, final int maximumDepth) {
+        this(fileFilter, maximumDepth, 1);
+    }
+
+    public DetectorFinderOptions(final Predicate<File> fileFilter, final int maximumDepth, final int traversalThreads) {
         this.fileFilter = fileFilter;
         this.maximumDepth = maximumDepth;
+        this.traversalThreads = traversalThreads;
     }
 
     public Predicate<File> getFileFilter() {
@@ -26,4 +32,8 @@ public class DetectorFinderOptions {
     public int getMaximumDepth() {
         return maximumDepth;
     }
+
+    public int getTraversalThreads() {
+        return traversalThreads;
+    }
 }
@@ -22,9 +22,15 @@ public class DetectorRule<T extends Detectable> {
     private final DetectorType detectorType;
     private final String name;
     private final boolean nestInvisible;
+    private final boolean cacheable;
 
     public DetectorRule(DetectableCreatable detectableCreatable, Class<T> detectableClass, int maxDepth, boolean nestable, boolean selfNestable, DetectorType detectorType, String name,
         boolean nestInvisible) {
+        this(detectableCreatable, detectableClass, maxDepth, nestable, selfNestable, detectorType, name, nestInvisible, false);
+    }
+
+    public DetectorRule(DetectableCreatable detectableCreatable, Class<T> detectableClass, int maxDepth, boolean nestable, boolean selfNestable, DetectorType detectorType, String name,
+        boolean nestInvisible, boolean cacheable) {
         this.detectableCreatable = detectableCreatable;
         this.detectableClass = detectableClass;
         this.maxDepth = maxDepth;
@@ -33,6 +39,7 @@ public class DetectorRule<T extends Detectable> {
         this.detectorType = detectorType;
         this.name = name;
         this.nestInvisible = nestInvisible;
+        this.cacheable = cacheable;
     }
 
     public DetectableCreatable getDetectableCreatable() {
@@ -71,6 +78,11 @@ public class DetectorRule<T extends Detectable> {
         return selfNestable;
     }
 
+    // Only true for detectors whose extraction is determined entirely by the contents of their relevant files (and detector properties), such as lock file parsers.
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
     public Class<T> getDetectableClass() {
         return detectableClass;
     }
@@ -18,6 +18,7 @@ public class DetectorRuleBuilder<T extends Detectable> {
     private boolean nestable;
     private boolean selfNestable = false;
     private boolean nestInvisible = false;
+    private boolean cacheable = false;
 
     private final String name;
     private final DetectorType detectorType;
@@ -87,8 +88,17 @@ public class DetectorRuleBuilder<T extends Detectable> {
         return isSelfNestable(false);
     }
 
+    public DetectorRuleBuilder isCacheable(final boolean cacheable) {
+        this.cacheable = cacheable;
+        return this;
+    }
+
+    public DetectorRuleBuilder cacheable() {
+        return isCacheable(true);
+    }
+
     public DetectorRule build() {
-        final DetectorRule rule = new DetectorRule(detectableCreatable, detectableClass, maxDepth, nestable, selfNestable, detectorType, name, nestInvisible);
+        final DetectorRule rule = new DetectorRule(detectableCreatable, detectableClass, maxDepth, nestable, selfNestable, detectorType, name, nestInvisible, cacheable);
         if (detectorRuleSetBuilder != null) {
             detectorRuleSetBuilder.add(rule);
         }
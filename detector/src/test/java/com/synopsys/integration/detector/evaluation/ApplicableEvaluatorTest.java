@@ -1,15 +1,18 @@
 package com.synopsys.integration.detector.evaluation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import com.synopsys.integration.common.util.finder.DirectoryListing;
 import com.synopsys.integration.detectable.Detectable;
 import com.synopsys.integration.detectable.DetectableEnvironment;
 import com.synopsys.integration.detectable.detectable.result.FailedDetectableResult;
@@ -77,6 +80,23 @@ public class ApplicableEvaluatorTest {
         Mockito.verify(detectorEvaluatorListener).applicableEnded(detectorEvaluation);
     }
 
+    @Test
+    public void testDirectoryListingReleasedAfterEvaluation() {
+        DetectorEvaluationOptions evaluationOptions = Mockito.mock(DetectorEvaluationOptions.class);
+        ApplicableEvaluator evaluator = new ApplicableEvaluator(evaluationOptions);
+        DetectorEvaluationTree detectorEvaluationTree = Mockito.mock(DetectorEvaluationTree.class);
+        File directory = new File(".");
+        DirectoryListing directoryListing = new DirectoryListing(directory, Collections.singletonList(new File(directory, "package.json")));
+        Mockito.when(detectorEvaluationTree.getDirectory()).thenReturn(directory);
+        Mockito.when(detectorEvaluationTree.getDirectoryListing()).thenReturn(Optional.of(directoryListing));
+        DetectorEvaluation detectorEvaluation = createEvaluationMocks(evaluationOptions, detectorEvaluationTree, false, true);
+
+        evaluator.evaluate(detectorEvaluationTree);
+
+        Mockito.verify(detectorEvaluation).setDetectableEnvironment(Mockito.any(DetectableEnvironment.class));
+        assertFalse(directoryListing.getFiles().isPresent());
+    }
+
     private DetectorEvaluation createEvaluationMocks(DetectorEvaluationOptions evaluationOptions, DetectorEvaluationTree detectorEvaluationTree, boolean alreadyApplicable, boolean searchable) {
         DetectorEvaluation detectorEvaluation = Mockito.mock(DetectorEvaluation.class);
 
@@ -1,11 +1,19 @@
 package com.synopsys.integration.detector.evaluation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -90,6 +98,94 @@ public class ExtractionEvaluatorTest {
         Mockito.verify(detectorEvaluatorListener).extractionEnded(detectorEvaluation);
     }
 
+    @Test
+    public void testParallelEvaluationSuccess() throws DetectableException, ExecutableFailedException {
+        DetectorEvaluationOptions evaluationOptions = Mockito.mock(DetectorEvaluationOptions.class);
+        Mockito.when(evaluationOptions.getExtractionThreads()).thenReturn(2);
+        ExtractionEvaluator evaluator = new ExtractionEvaluator(evaluationOptions);
+        DetectorEvaluationTree detectorEvaluationTree = Mockito.mock(DetectorEvaluationTree.class);
+        Mockito.when(detectorEvaluationTree.getDirectory()).thenReturn(new File("."));
+        DetectorEvaluatorListener detectorEvaluatorListener = Mockito.mock(DetectorEvaluatorListener.class);
+        evaluator.setDetectorEvaluatorListener(detectorEvaluatorListener);
+        DetectorEvaluation detectorEvaluation = createEvaluationMocks(evaluationOptions, detectorEvaluationTree, false, false);
+
+        DetectorAggregateEvaluationResult result = evaluator.evaluate(detectorEvaluationTree);
+
+        assertEquals(detectorEvaluationTree, result.getEvaluationTree());
+
+        Mockito.verify(detectorEvaluatorListener).extractionStarted(detectorEvaluation);
+        Mockito.verify(detectorEvaluation).setExtraction(Mockito.any(Extraction.class));
+        Mockito.verify(detectorEvaluatorListener).extractionEnded(detectorEvaluation);
+    }
+
+    @Test
+    public void testParallelEvaluationInterrupted() throws DetectableException, ExecutableFailedException, InterruptedException {
+        DetectorEvaluationOptions evaluationOptions = Mockito.mock(DetectorEvaluationOptions.class);
+        Mockito.when(evaluationOptions.getExtractionThreads()).thenReturn(2);
+        ExtractionEvaluator evaluator = new ExtractionEvaluator(evaluationOptions);
+        DetectorEvaluationTree detectorEvaluationTree = Mockito.mock(DetectorEvaluationTree.class);
+        Mockito.when(detectorEvaluationTree.getDirectory()).thenReturn(new File("."));
+        List<DetectorEvaluation> extractionsEnded = Collections.synchronizedList(new ArrayList<>());
+        DetectorEvaluatorListener detectorEvaluatorListener = Mockito.mock(DetectorEvaluatorListener.class);
+        Mockito.doAnswer(invocation -> extractionsEnded.add(invocation.getArgument(0))).when(detectorEvaluatorListener).extractionEnded(Mockito.any());
+        evaluator.setDetectorEvaluatorListener(detectorEvaluatorListener);
+
+        // Both threads are taken by an extraction that stops when interrupted and one that finishes anyway, so the third extraction never starts.
+        CountDownLatch extractionsStarted = new CountDownLatch(2);
+        DetectorEvaluation stopsWhenInterrupted = createEvaluationMocks(evaluationOptions, detectorEvaluationTree, false, false);
+        Mockito.when(stopsWhenInterrupted.getDetectable().extract(Mockito.any())).thenAnswer(invocation -> {
+            extractionsStarted.countDown();
+            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            return new Extraction.Builder().success().build();
+        });
+        DetectorEvaluation finishesAnyway = createEvaluationMocks(evaluationOptions, detectorEvaluationTree, false, false);
+        Mockito.when(finishesAnyway.getDetectable().extract(Mockito.any())).thenAnswer(invocation -> {
+            extractionsStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.sleep(100);
+            }
+            return new Extraction.Builder().success().build();
+        });
+        DetectorEvaluation neverStarted = createEvaluationMocks(evaluationOptions, detectorEvaluationTree, false, false);
+        Mockito.when(detectorEvaluationTree.getOrderedEvaluations()).thenReturn(Arrays.asList(stopsWhenInterrupted, finishesAnyway, neverStarted));
+        for (DetectorEvaluation detectorEvaluation : Arrays.asList(stopsWhenInterrupted, finishesAnyway, neverStarted)) {
+            rememberExtraction(detectorEvaluation);
+        }
+
+        AtomicBoolean interruptedAfterEvaluation = new AtomicBoolean();
+        List<DetectorEvaluation> extractionsEndedDuringEvaluation = new ArrayList<>();
+        Thread evaluationThread = new Thread(() -> {
+            evaluator.evaluate(detectorEvaluationTree);
+            interruptedAfterEvaluation.set(Thread.currentThread().isInterrupted());
+            extractionsEndedDuringEvaluation.addAll(extractionsEnded);
+        });
+        evaluationThread.start();
+        assertTrue(extractionsStarted.await(10, TimeUnit.SECONDS));
+        evaluationThread.interrupt();
+        evaluationThread.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertFalse(evaluationThread.isAlive());
+        assertTrue(interruptedAfterEvaluation.get(), "The interrupt should still be set on the thread that was waiting for extractions.");
+        assertEquals(2, extractionsEndedDuringEvaluation.size());
+        assertTrue(extractionsEndedDuringEvaluation.containsAll(Arrays.asList(stopsWhenInterrupted, finishesAnyway)), "Every extraction that started should have ended before the evaluation returned.");
+        assertTrue(stopsWhenInterrupted.getExtraction().getError() instanceof InterruptedException);
+        assertTrue(finishesAnyway.getExtraction().isSuccess(), "An extraction that finished after the interrupt should keep its result.");
+        assertTrue(neverStarted.getExtraction().getError() instanceof InterruptedException);
+        Mockito.verify(finishesAnyway, Mockito.times(1)).setExtraction(Mockito.any());
+        Mockito.verify(detectorEvaluatorListener, Mockito.never()).extractionStarted(neverStarted);
+    }
+
+    private void rememberExtraction(DetectorEvaluation detectorEvaluation) {
+        AtomicReference<Extraction> extraction = new AtomicReference<>();
+        Mockito.doAnswer(invocation -> {
+            extraction.set(invocation.getArgument(0));
+            return null;
+        }).when(detectorEvaluation).setExtraction(Mockito.any());
+        Mockito.when(detectorEvaluation.getExtraction()).thenAnswer(invocation -> extraction.get());
+    }
+
     private DetectorEvaluation createEvaluationMocks(DetectorEvaluationOptions evaluationOptions, DetectorEvaluationTree detectorEvaluationTree, boolean extractionExists, boolean throwException)
         throws DetectableException, ExecutableFailedException {
         ExtractionEnvironment extractionEnvironment = Mockito.mock(ExtractionEnvironment.class);
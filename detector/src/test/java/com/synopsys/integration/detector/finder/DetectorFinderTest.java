@@ -35,6 +35,7 @@ import java.util.HashMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.SystemUtils;
@@ -144,4 +145,36 @@ public class DetectorFinderTest {
         assertEquals("regularDir", subDirContentsName);
     }
 
+    @Test
+    @DisabledOnOs(WINDOWS) //TODO: See if we can fix on windows.
+    public void testParallelMatchesSequential() throws IOException {
+        Assumptions.assumeFalse(SystemUtils.IS_OS_WINDOWS);
+
+        final File initialDirectory = new File(initialDirectoryPath.toFile(), "testParallelMatchesSequential");
+        new File(initialDirectory, "a/a1/a11").mkdirs();
+        new File(initialDirectory, "a/a2").mkdirs();
+        new File(initialDirectory, "b/excluded/b1").mkdirs();
+        new File(initialDirectory, "c").mkdirs();
+        new File(initialDirectory, "a/file.txt").createNewFile();
+        Files.createSymbolicLink(new File(initialDirectory, "c/linkToInitial").toPath(), initialDirectory.toPath());
+
+        final DetectorRuleSet detectorRuleSet = new DetectorRuleSet(new ArrayList<>(0), new HashMap<>(0), new HashMap<>(0));
+        final Predicate<File> fileFilter = f -> !f.getName().equals("excluded");
+        final int maximumDepth = 2;
+
+        final DetectorFinder finder = new DetectorFinder();
+        final Optional<DetectorEvaluationTree> sequentialTree = finder.findDetectors(initialDirectory, detectorRuleSet, new DetectorFinderOptions(fileFilter, maximumDepth, 1), new SimpleFileFinder());
+        final Optional<DetectorEvaluationTree> parallelTree = finder.findDetectors(initialDirectory, detectorRuleSet, new DetectorFinderOptions(fileFilter, maximumDepth, 4), new SimpleFileFinder());
+
+        final Set<String> sequentialDirectories = sequentialTree.get().asFlatList().stream()
+                                                      .map(tree -> tree.getDepthFromRoot() + ":" + tree.getDirectory().getPath())
+                                                      .collect(Collectors.toSet());
+        final Set<String> parallelDirectories = parallelTree.get().asFlatList().stream()
+                                                    .map(tree -> tree.getDepthFromRoot() + ":" + tree.getDirectory().getPath())
+                                                    .collect(Collectors.toSet());
+
+        assertEquals(6, sequentialDirectories.size());
+        assertEquals(sequentialDirectories, parallelDirectories);
+    }
+
 }
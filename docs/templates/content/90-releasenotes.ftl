@@ -1,5 +1,23 @@
 # Release notes
 
+## Version 7.1.0
+### New Features
+* Added the property [detect.detector.parallel.processors](../properties/configuration/detector/#detector-parallel-processors-advanced) to search for detectors and run detector extractions concurrently.
+* Added the property [detect.detector.extraction.cache.enabled](../properties/configuration/detector/#detector-extraction-cache-enabled-advanced) to reuse the results of lock file detectors between runs while their files are unchanged.
+* Added the property [detect.clang.parallel.processors](../properties/configuration/detector/#clang-parallel-processors-advanced) to limit how many compiler commands the Clang detector runs at once.
+* Added the property [detect.go.mod.concurrent](../properties/detectors/go/#go-mod-concurrent-advanced) to let the Go Mod Cli detector run its independent go commands at the same time. The commands still run one after another by default.
+* Added the property [detect.bitbake.single.session](../properties/detectors/bitbake/#bitbake-single-session-advanced) to run bitbake -g for every package after sourcing the build environment once.
+* The Bitbake detector now runs bitbake-layers show-recipes once per extraction instead of once per package.
+* Added the property [detect.maven.per.module.output](../properties/detectors/maven/#maven-per-module-output-advanced) to let Maven resolve modules with multiple threads and write each module's dependency tree to its own file.
+* The Maven CLI detector now parses the dependency:tree output while Maven writes it, instead of first holding the whole output in memory.
+* Added the property [detect.blackduck.tools.concurrent](../properties/configuration/blackduck-server/#black-duck-tools-concurrent-advanced) to run the BDIO upload, signature scan, binary scan and impact analysis at the same time.
+* Added the property [detect.tools.concurrent](../properties/configuration/general/#detect-tools-concurrent-advanced) to run the Docker, Bazel and detector tools at the same time.
+* Signature scans of multiple targets now run concurrently, up to detect.parallel.processors at a time, and each target is reported as soon as it finishes. Added the property [detect.blackduck.signature.scanner.memory.total](../properties/configuration/signature scanner/#signature-scanner-total-memory-advanced) to limit the memory used by the concurrent scans.
+* Added the property [detect.bdio.upload.retries](../properties/configuration/blackduck-server/#bdio-upload-retries-advanced). BDIO files are now uploaded concurrently (up to detect.parallel.processors at a time), and uploads that fail for a transient reason (the server being unavailable or busy) are retried. Added the property [detect.bdio.upload.resume](../properties/configuration/blackduck-server/#bdio-upload-resume-advanced) to skip the code locations a failed or interrupted run already uploaded when it is re-run.
+
+### Changed features
+* The Clang detector now asks the package manager about many dependency files at once. On RPM systems, every package that owns a file (for example, both the i686 and x86_64 variants of a multilib package) is now reported, instead of only the first.
+
 ## Version 7.0.0
 ### New Features
 * Added support for Yarn workspaces.
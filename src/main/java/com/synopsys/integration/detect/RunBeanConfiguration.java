@@ -276,7 +276,7 @@ public class RunBeanConfiguration {
     public BlackDuckSignatureScanner blackDuckSignatureScanner(BlackDuckSignatureScannerOptions blackDuckSignatureScannerOptions, ScanBatchRunner scanBatchRunner, BlackDuckServerConfig blackDuckServerConfig,
         CodeLocationNameManager codeLocationNameManager, Predicate<File> fileFilter) {
         return new BlackDuckSignatureScanner(directoryManager, codeLocationNameManager, blackDuckSignatureScannerOptions, scanBatchRunner, blackDuckServerConfig, statusEventPublisher(), exitCodePublisher(),
-            operationSystem(), fileFinder, fileFilter);
+            operationSystem(), fileFilter);
     }
 
 }
@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,6 +34,7 @@ import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.
 import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.SnippetMatching;
 import com.synopsys.integration.blackduck.configuration.BlackDuckServerConfigBuilder;
 import com.synopsys.integration.configuration.config.PropertyConfiguration;
+import com.synopsys.integration.configuration.property.Property;
 import com.synopsys.integration.configuration.property.base.NullableProperty;
 import com.synopsys.integration.configuration.property.base.ValuedProperty;
 import com.synopsys.integration.configuration.property.types.enumextended.ExtendedEnumValue;
@@ -47,6 +49,7 @@ import com.synopsys.integration.detect.configuration.connection.ConnectionDetail
 import com.synopsys.integration.detect.configuration.enumeration.BlackduckScanMode;
 import com.synopsys.integration.detect.configuration.enumeration.DefaultDetectorExcludedDirectories;
 import com.synopsys.integration.detect.configuration.enumeration.DefaultVersionNameScheme;
+import com.synopsys.integration.detect.configuration.enumeration.DetectGroup;
 import com.synopsys.integration.detect.configuration.enumeration.DetectTargetType;
 import com.synopsys.integration.detect.configuration.enumeration.DetectTool;
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
@@ -56,6 +59,7 @@ import com.synopsys.integration.detect.lifecycle.boot.product.ProductBootOptions
 import com.synopsys.integration.detect.lifecycle.run.AggregateOptions;
 import com.synopsys.integration.detect.tool.binaryscanner.BinaryScanOptions;
 import com.synopsys.integration.detect.tool.detector.executable.DetectExecutableOptions;
+import com.synopsys.integration.detect.tool.detector.extraction.ExtractionCacheOptions;
 import com.synopsys.integration.detect.tool.impactanalysis.ImpactAnalysisOptions;
 import com.synopsys.integration.detect.tool.signaturescanner.BlackDuckSignatureScannerOptions;
 import com.synopsys.integration.detect.tool.signaturescanner.enums.ExtendedIndividualFileMatchingMode;
@@ -127,6 +131,23 @@ public class DetectConfigurationFactory {
         }
     }
 
+    public int findDetectorParallelProcessors() {
+        int provided = getValue(DetectProperties.DETECT_DETECTOR_PARALLEL_PROCESSORS);
+        if (provided > 0) {
+            return provided;
+        } else {
+            return findRuntimeProcessors();
+        }
+    }
+
+    public boolean findBlackDuckToolsConcurrent() {
+        return getValue(DetectProperties.DETECT_BLACKDUCK_TOOLS_CONCURRENT);
+    }
+
+    public boolean findToolsConcurrent() {
+        return getValue(DetectProperties.DETECT_TOOLS_CONCURRENT);
+    }
+
     public int findRuntimeProcessors() {
         return Runtime.getRuntime().availableProcessors();
     }
@@ -329,7 +350,32 @@ public class DetectConfigurationFactory {
         Integer maxDepth = getValue(DetectProperties.DETECT_DETECTOR_SEARCH_DEPTH);
         DetectExcludedDirectoryFilter fileFilter = createDetectDirectoryFileFilter(sourcePath);
 
-        return new DetectorFinderOptions(fileFilter, maxDepth);
+        return new DetectorFinderOptions(fileFilter, maxDepth, findDetectorParallelProcessors());
+    }
+
+    public ExtractionCacheOptions createExtractionCacheOptions() throws DetectUserFriendlyException {
+        Boolean enabled = getValue(DetectProperties.DETECT_DETECTOR_EXTRACTION_CACHE_ENABLED);
+        if (!enabled) {
+            return new ExtractionCacheOptions(false, Collections.emptyMap());
+        }
+
+        List<Property> properties;
+        try {
+            properties = DetectProperties.allProperties().getProperties();
+        } catch (IllegalAccessException e) {
+            throw new DetectUserFriendlyException(String.format("Unable to read the detector properties: %s", e.getMessage()), e, ExitCodeType.FAILURE_CONFIGURATION);
+        }
+        Set<Property> detectorProperties = properties.stream()
+                                               .filter(this::isDetectorProperty)
+                                               .collect(Collectors.toSet());
+        return new ExtractionCacheOptions(true, detectConfiguration.getRawValueMap(detectorProperties));
+    }
+
+    private boolean isDetectorProperty(Property property) {
+        return Optional.ofNullable(property.getPropertyGroupInfo())
+                   .flatMap(groupInfo -> groupInfo.getPrimaryGroup().getSuperGroup())
+                   .filter(DetectGroup.DETECTORS::equals)
+                   .isPresent();
     }
 
     public DetectorEvaluationOptions createDetectorEvaluationOptions() {
@@ -340,7 +386,7 @@ public class DetectConfigurationFactory {
         List<FilterableEnumValue<DetectorType>> included = getValue(DetectProperties.DETECT_INCLUDED_DETECTOR_TYPES);
         ExcludeIncludeEnumFilter detectorFilter = new ExcludeIncludeEnumFilter(excluded, included);
 
-        return new DetectorEvaluationOptions(forceNestedSearch, (rule -> detectorFilter.shouldInclude(rule.getDetectorType())));
+        return new DetectorEvaluationOptions(forceNestedSearch, (rule -> detectorFilter.shouldInclude(rule.getDetectorType())), findDetectorParallelProcessors());
     }
 
     public BdioOptions createBdioOptions() {
@@ -348,7 +394,10 @@ public class DetectConfigurationFactory {
         String suffix = getNullableValue(DetectProperties.DETECT_PROJECT_CODELOCATION_SUFFIX);
         Boolean useBdio2 = getValue(DetectProperties.DETECT_BDIO2_ENABLED);
         Boolean useLegacyUpload = getValue(DetectProperties.BLACKDUCK_LEGACY_UPLOAD_ENABLED);
-        return new BdioOptions(useBdio2, prefix, suffix, useLegacyUpload);
+        Integer uploadRetries = getValue(DetectProperties.DETECT_BDIO_UPLOAD_RETRIES);
+        Boolean uploadResume = getValue(DetectProperties.DETECT_BDIO_UPLOAD_RESUME);
+        int parallelProcessors = findParallelProcessors();
+        return new BdioOptions(useBdio2, prefix, suffix, useLegacyUpload, parallelProcessors, parallelProcessors, Math.max(0, uploadRetries), uploadResume);
     }
 
     public ProjectNameVersionOptions createProjectNameVersionOptions(String sourceDirectoryName) {
@@ -404,6 +453,7 @@ public class DetectConfigurationFactory {
 
         Integer scanMemory = PropertyConfigUtils
                                  .getFirstProvidedValueOrDefault(detectConfiguration, DetectProperties.DETECT_BLACKDUCK_SIGNATURE_SCANNER_MEMORY.getProperty(), DetectProperties.DETECT_HUB_SIGNATURE_SCANNER_MEMORY.getProperty());
+        Integer totalScanMemory = getNullableValue(DetectProperties.DETECT_BLACKDUCK_SIGNATURE_SCANNER_MEMORY_TOTAL);
         Boolean dryRun = PropertyConfigUtils
                              .getFirstProvidedValueOrDefault(detectConfiguration, DetectProperties.DETECT_BLACKDUCK_SIGNATURE_SCANNER_DRY_RUN.getProperty(), DetectProperties.DETECT_HUB_SIGNATURE_SCANNER_DRY_RUN.getProperty());
         Boolean uploadSource = getValue(DetectProperties.DETECT_BLACKDUCK_SIGNATURE_SCANNER_UPLOAD_SOURCE_MODE);
@@ -436,6 +486,7 @@ public class DetectConfigurationFactory {
             onlineLocalScannerInstallPath,
             userProvidedScannerInstallUrl,
             scanMemory,
+            totalScanMemory,
             findParallelProcessors(),
             dryRun,
             findSnippetMatching(),
@@ -468,7 +519,7 @@ public class DetectConfigurationFactory {
         String codeLocationPrefix = getNullableValue(DetectProperties.DETECT_PROJECT_CODELOCATION_PREFIX);
         String codeLocationSuffix = getNullableValue(DetectProperties.DETECT_PROJECT_CODELOCATION_SUFFIX);
         Integer searchDepth = getValue(DetectProperties.DETECT_BINARY_SCAN_SEARCH_DEPTH);
-        return new BinaryScanOptions(singleTarget, multipleTargets, codeLocationPrefix, codeLocationSuffix, searchDepth);
+        return new BinaryScanOptions(singleTarget, multipleTargets, codeLocationPrefix, codeLocationSuffix, searchDepth, findParallelProcessors());
     }
 
     public ImpactAnalysisOptions createImpactAnalysisOptions() {
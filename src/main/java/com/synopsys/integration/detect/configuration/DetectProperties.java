@@ -264,6 +264,14 @@ public class DetectProperties {
             .setHelp("The depth at which Detect will search for files generated by Bitbake.")
             .setGroups(DetectGroup.BITBAKE, DetectGroup.SOURCE_SCAN);
 
+    public static final DetectProperty<BooleanProperty> DETECT_BITBAKE_SINGLE_SESSION =
+        new DetectProperty<>(new BooleanProperty("detect.bitbake.single.session", false))
+            .setInfo("BitBake Single Session", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("If set to true, Detect will source the build environment init script once and run bitbake -g for every package in that shell, instead of sourcing it again for each package.",
+                "Each task-depends.dot file is copied from the build directory into the Detect output directory before the next package overwrites it, so the BitBake Search Depth property is not used in this mode.")
+            .setGroups(DetectGroup.BITBAKE, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullableStringProperty> DETECT_BLACKDUCK_SIGNATURE_SCANNER_ARGUMENTS =
         new DetectProperty<>(new NullableStringProperty("detect.blackduck.signature.scanner.arguments"))
             .setInfo("Signature Scanner Arguments", DetectPropertyFromVersion.VERSION_4_2_0)
@@ -310,6 +318,16 @@ public class DetectProperties {
             .setGroups(DetectGroup.SIGNATURE_SCANNER, DetectGroup.GLOBAL)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<NullableIntegerProperty> DETECT_BLACKDUCK_SIGNATURE_SCANNER_MEMORY_TOTAL =
+        new DetectProperty<>(new NullableIntegerProperty("detect.blackduck.signature.scanner.memory.total"))
+            .setInfo("Signature Scanner Total Memory", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp(
+                "The total memory, in megabytes, that concurrently running scanners may use.",
+                "When there are multiple scan targets, Detect runs up to detect.parallel.processors scanners at once, each using detect.blackduck.signature.scanner.memory. If set, fewer scanners are run at once so that together they stay within this limit. At least one scanner always runs."
+            )
+            .setGroups(DetectGroup.SIGNATURE_SCANNER, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<PathListProperty> DETECT_BLACKDUCK_SIGNATURE_SCANNER_PATHS =
         new DetectProperty<>(new PathListProperty("detect.blackduck.signature.scanner.paths", emptyList()))
             .setInfo("Signature Scanner Target Paths", DetectPropertyFromVersion.VERSION_4_2_0)
@@ -330,6 +348,14 @@ public class DetectProperties {
             .setHelp("If set to true, the signature scanner will, if supported by your Black Duck version, upload source code to Black Duck. Corresponding Signature Scanner CLI Argument: --upload-source.")
             .setGroups(DetectGroup.SIGNATURE_SCANNER, DetectGroup.GLOBAL, DetectGroup.SOURCE_SCAN);
 
+    public static final DetectProperty<BooleanProperty> DETECT_BLACKDUCK_TOOLS_CONCURRENT =
+        new DetectProperty<>(new BooleanProperty("detect.blackduck.tools.concurrent", false))
+            .setInfo("Black Duck Tools Concurrent", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("If set to true, the BDIO upload, signature scan, binary scan and impact analysis will run at the same time instead of one after another.",
+                "Each of these tools creates its own code locations, so running them concurrently only changes how long they take. Their code locations are collected in the usual order once they have all finished. As when they run one after another, an error in one tool stops the run: the tools still running are cancelled and that error is reported.")
+            .setGroups(DetectGroup.BLACKDUCK_SERVER, DetectGroup.BLACKDUCK)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullableStringProperty> DETECT_BOM_AGGREGATE_NAME =
         new DetectProperty<>(new NullableStringProperty("detect.bom.aggregate.name"))
             .setInfo("Aggregate BDIO File Name", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -351,6 +377,13 @@ public class DetectProperties {
             .setHelp("If set to true, only Detector's capable of running without a build will be run.")
             .setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<IntegerProperty> DETECT_CLANG_PARALLEL_PROCESSORS =
+        new DetectProperty<>(new IntegerProperty("detect.clang.parallel.processors", 0))
+            .setInfo("Clang Parallel Processors", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("The maximum number of compiler commands the Clang detector runs at once to find each source file's dependencies, if you specify less than or equal to 0 (the default), the number of processors on the machine will be used.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<BooleanProperty> DETECT_CLEANUP =
         new DetectProperty<>(new BooleanProperty("detect.cleanup", true))
             .setInfo("Cleanup Output", DetectPropertyFromVersion.VERSION_3_2_0)
@@ -403,6 +436,22 @@ public class DetectProperties {
             .setHelp("The path to the cpanm executable.")
             .setGroups(DetectGroup.CPAN, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<BooleanProperty> DETECT_DETECTOR_EXTRACTION_CACHE_ENABLED =
+        new DetectProperty<>(new BooleanProperty("detect.detector.extraction.cache.enabled", false))
+            .setInfo("Detector Extraction Cache Enabled", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("If true, the results of lock file detectors are cached in the tools directory and reused while their files are unchanged.",
+                "Applies to detectors that only parse lock files (such as Package Lock, Gemlock, Cargo and Composer). A cached result is only reused when the contents of every file the detector found, the detector properties and the version of Detect are all unchanged. Only the 1000 most recently used results are kept, and results cached by other versions of Detect are removed.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_DETECTOR_PARALLEL_PROCESSORS =
+        new DetectProperty<>(new IntegerProperty("detect.detector.parallel.processors", 1))
+            .setInfo("Detector Parallel Processors", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("The number of threads Detect will use to search for and run detectors, defaults to 1, but if you specify less than or equal to 0, the number of processors on the machine will be used.",
+                "When greater than 1, the source directory is searched for detectors with a work-stealing directory walk, and extractions in independent directories (for example, many Maven, Gradle or npm projects in one source tree) run concurrently. Results are reported in the same order regardless of this setting.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<IntegerProperty> DETECT_DETECTOR_SEARCH_DEPTH =
         new DetectProperty<>(new IntegerProperty("detect.detector.search.depth", 0))
             .setInfo("Detector Search Depth", DetectPropertyFromVersion.VERSION_3_2_0)
@@ -553,6 +602,14 @@ public class DetectProperties {
             .setHelp("Path of the git executable")
             .setGroups(DetectGroup.PATHS, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<BooleanProperty> DETECT_GO_MOD_CONCURRENT =
+        new DetectProperty<>(new BooleanProperty("detect.go.mod.concurrent", false))
+            .setInfo("Go Mod Concurrent", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("If set to true, the Go Mod Cli detector will run its independent go commands at the same time instead of one after another.",
+                "The go list -m -u -json all and go mod why -m all commands can each take minutes on a large module graph. Running them alongside go list -m and go mod graph does not change the results, only how long the extraction takes.")
+            .setGroups(DetectGroup.GO, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_GO_PATH =
         new DetectProperty<>(new NullablePathProperty("detect.go.path"))
             .setInfo("Go Executable", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -719,6 +776,14 @@ public class DetectProperties {
             .setGroups(DetectGroup.MAVEN, DetectGroup.SOURCE_SCAN)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<BooleanProperty> DETECT_MAVEN_PER_MODULE_OUTPUT =
+        new DetectProperty<>(new BooleanProperty("detect.maven.per.module.output", false))
+            .setInfo("Maven Per Module Output", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("If set to true, each Maven module writes its dependency tree to its own file instead of the log, and Detect no longer forces Maven to use a single thread.",
+                "By default, Detect adds -T1 to the mvn dependency:tree command so that the trees of all modules appear in the log in order. With this property set, Detect passes -DoutputFile instead and parses the files of up to detect.parallel.processors modules at the same time. The project is named after the module of the pom.xml in the source directory. Use detect.maven.build.command to choose the number of threads, for example --detect.maven.build.command='-T 1C'. The excluded and included scopes and modules are applied as before.")
+            .setGroups(DetectGroup.MAVEN, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_MAVEN_PATH =
         new DetectProperty<>(new NullablePathProperty("detect.maven.path"))
             .setInfo("Maven Executable", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -1196,6 +1261,14 @@ public class DetectProperties {
             )
             .setGroups(DetectGroup.PATHS, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<BooleanProperty> DETECT_TOOLS_CONCURRENT =
+        new DetectProperty<>(new BooleanProperty("detect.tools.concurrent", false))
+            .setInfo("Detect Tools Concurrent", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("If set to true, the Docker, Bazel and detector tools will run at the same time instead of one after another.",
+                "These tools work on different inputs, so for example a Docker image can be inspected while the source directory is searched for detectors. Their results are combined in the usual order once they have all finished, so the chosen project name and version and the generated code locations do not change. As when they run one after another, an error in one tool stops the run and the tools still running are cancelled.")
+            .setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<FilterableEnumListProperty<DetectTool>> DETECT_TOOLS_EXCLUDED =
         new DetectProperty<>(new FilterableEnumListProperty<>("detect.tools.excluded", emptyList(), DetectTool.class))
             .setInfo("Detect Tools Excluded", DetectPropertyFromVersion.VERSION_5_0_0)
@@ -1264,6 +1337,26 @@ public class DetectProperties {
             .setGroups(DetectGroup.BLACKDUCK_SERVER, DetectGroup.BLACKDUCK)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<IntegerProperty> DETECT_BDIO_UPLOAD_RETRIES =
+        new DetectProperty<>(new IntegerProperty("detect.bdio.upload.retries", 2))
+            .setInfo("BDIO Upload Retries", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp(
+                "The number of times to retry uploading a BDIO file when the upload fails for a transient reason.",
+                "Uploads are retried when they could not be completed or Black Duck was unavailable or busy; a BDIO file that Black Duck rejected is not retried. Each retry waits twice as long as the one before it, starting at two seconds. BDIO files are uploaded on up to detect.parallel.processors threads."
+            )
+            .setGroups(DetectGroup.BLACKDUCK_SERVER, DetectGroup.BLACKDUCK)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<BooleanProperty> DETECT_BDIO_UPLOAD_RESUME =
+        new DetectProperty<>(new BooleanProperty("detect.bdio.upload.resume", false))
+            .setInfo("BDIO Upload Resume", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp(
+                "If set to true, Detect will skip uploading BDIO files whose content Black Duck already accepted, so that re-running a failed or interrupted upload only sends what was not accepted.",
+                "Accepted code locations are recorded in the Detect home directory. Only enable this while resuming a failed run: a code location whose content has not changed is skipped even if it was since deleted or unmapped in Black Duck."
+            )
+            .setGroups(DetectGroup.BLACKDUCK_SERVER, DetectGroup.BLACKDUCK)
+            .setCategory(DetectCategory.Advanced);
+
     //#endregion Active Properties
 
     //#region Deprecated Properties
@@ -39,6 +39,7 @@ import com.synopsys.integration.detectable.detectables.conan.cli.ConanCliExtract
 import com.synopsys.integration.detectable.detectables.conan.lockfile.ConanLockfileExtractorOptions;
 import com.synopsys.integration.detectable.detectables.conda.CondaCliDetectableOptions;
 import com.synopsys.integration.detectable.detectables.docker.DockerDetectableOptions;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliDetectableOptions;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorOptions;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.inspector.GradleInspectorScriptOptions;
 import com.synopsys.integration.detectable.detectables.lerna.LernaOptions;
@@ -90,12 +91,22 @@ public class DetectableOptionFactory {
         List<String> sourceArguments = getValue(DetectProperties.DETECT_BITBAKE_SOURCE_ARGUMENTS);
         List<String> packageNames = getValue(DetectProperties.DETECT_BITBAKE_PACKAGE_NAMES);
         Integer searchDepth = getValue(DetectProperties.DETECT_BITBAKE_SEARCH_DEPTH);
-        return new BitbakeDetectableOptions(buildEnvName, sourceArguments, packageNames, searchDepth);
+        Boolean singleSession = getValue(DetectProperties.DETECT_BITBAKE_SINGLE_SESSION);
+        return new BitbakeDetectableOptions(buildEnvName, sourceArguments, packageNames, searchDepth, singleSession);
     }
 
     public ClangDetectableOptions createClangDetectableOptions() {
         Boolean cleanup = getValue(DetectProperties.DETECT_CLEANUP);
-        return new ClangDetectableOptions(cleanup);
+        Integer dependencyFileThreads = getValue(DetectProperties.DETECT_CLANG_PARALLEL_PROCESSORS);
+        if (dependencyFileThreads <= 0) {
+            dependencyFileThreads = Runtime.getRuntime().availableProcessors();
+        }
+        return new ClangDetectableOptions(cleanup, dependencyFileThreads);
+    }
+
+    public GoModCliDetectableOptions createGoModCliDetectableOptions() {
+        Boolean concurrentCommands = getValue(DetectProperties.DETECT_GO_MOD_CONCURRENT);
+        return new GoModCliDetectableOptions(concurrentCommands);
     }
 
     public ComposerLockDetectableOptions createComposerLockDetectableOptions() {
@@ -151,7 +162,7 @@ public class DetectableOptionFactory {
         String onlineInspectorVersion = getNullableValue(DetectProperties.DETECT_GRADLE_INSPECTOR_VERSION);
         GradleInspectorScriptOptions scriptOptions = new GradleInspectorScriptOptions(excludedProjectNames, includedProjectNames, excludedConfigurationNames, includedConfigurationNames, customRepository, onlineInspectorVersion);
         String gradleBuildCommand = getNullableValue(DetectProperties.DETECT_GRADLE_BUILD_COMMAND);
-        return new GradleInspectorOptions(gradleBuildCommand, scriptOptions, proxyInfo);
+        return new GradleInspectorOptions(gradleBuildCommand, scriptOptions, proxyInfo, findParallelProcessors());
     }
 
     public LernaOptions createLernaOptions() {
@@ -167,7 +178,8 @@ public class DetectableOptionFactory {
         List<String> mavenIncludedScopes = getValue(DetectProperties.DETECT_MAVEN_INCLUDED_SCOPES);
         List<String> mavenExcludedModules = getValue(DetectProperties.DETECT_MAVEN_EXCLUDED_MODULES);
         List<String> mavenIncludedModules = getValue(DetectProperties.DETECT_MAVEN_INCLUDED_MODULES);
-        return new MavenCliExtractorOptions(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules);
+        Boolean perModuleOutput = getValue(DetectProperties.DETECT_MAVEN_PER_MODULE_OUTPUT);
+        return new MavenCliExtractorOptions(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules, perModuleOutput, findParallelProcessors());
     }
 
     public ConanCliExtractorOptions createConanCliOptions() {
@@ -287,6 +299,15 @@ public class DetectableOptionFactory {
         return allWasSpecified;
     }
 
+    // Detectors that parse several outputs at once use as many threads as detect.parallel.processors, or every processor when it is not positive.
+    private int findParallelProcessors() {
+        Integer parallelProcessors = getValue(DetectProperties.DETECT_PARALLEL_PROCESSORS);
+        if (parallelProcessors <= 0) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        return parallelProcessors;
+    }
+
     private <P, T extends NullableProperty<P>> P getNullableValue(DetectProperty<T> detectProperty) {
         return detectConfiguration.getValue(detectProperty.getProperty()).orElse(null);
     }
@@ -0,0 +1,71 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.lifecycle.run;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.exception.IntegrationException;
+
+// Runs tools at the same time, each collecting into its own result, and returns the results in the order the tools would run sequentially.
+// Like running the tools one after another, the first tool to throw ends the run: the tools still running are cancelled (interrupted) and its failure is thrown.
+public class ConcurrentToolRunner {
+    public <T> List<T> runTools(List<Callable<T>> toolTasks) throws DetectUserFriendlyException, IntegrationException {
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, toolTasks.size()));
+        try {
+            CompletionService<T> completionService = new ExecutorCompletionService<>(executorService);
+            List<Future<T>> toolFutures = new ArrayList<>();
+            for (Callable<T> toolTask : toolTasks) {
+                toolFutures.add(completionService.submit(toolTask));
+            }
+
+            for (int finished = 0; finished < toolFutures.size(); finished++) {
+                try {
+                    completionService.take().get();
+                } catch (ExecutionException e) {
+                    toolFutures.forEach(toolFuture -> toolFuture.cancel(true));
+                    rethrowToolFailure(e.getCause());
+                }
+            }
+
+            List<T> toolResults = new ArrayList<>();
+            for (Future<T> toolFuture : toolFutures) {
+                toolResults.add(toolFuture.get());
+            }
+            return toolResults;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IntegrationException("Interrupted while waiting for the tools to finish.", e);
+        } catch (ExecutionException e) {
+            throw new IntegrationException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void rethrowToolFailure(Throwable failure) throws DetectUserFriendlyException, IntegrationException {
+        if (failure instanceof DetectUserFriendlyException) {
+            throw (DetectUserFriendlyException) failure;
+        } else if (failure instanceof IntegrationException) {
+            throw (IntegrationException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        throw new IntegrationException(failure.getMessage(), failure);
+    }
+}
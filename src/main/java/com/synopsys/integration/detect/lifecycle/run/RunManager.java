@@ -7,7 +7,10 @@
  */
 package com.synopsys.integration.detect.lifecycle.run;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -69,12 +72,13 @@ public class RunManager {
                 logger.info("Polaris tools will not be run.");
             }
 
-            UniversalToolsResult universalToolsResult = runUniversalProjectTools(operationFactory, detectToolFilter, projectEventPublisher, runResult);
+            UniversalToolsResult universalToolsResult = runUniversalProjectTools(operationFactory, detectToolFilter, projectEventPublisher, runResult,
+                runContext.getDetectConfigurationFactory().findToolsConcurrent());
 
             if (productRunData.shouldUseBlackDuckProduct()) {
                 AggregateDecision aggregateDecision = operationFactory.createAggregateOptionsOperation().execute(universalToolsResult.anyFailed());
                 runBlackDuckProduct(productRunData.getBlackDuckRunData(), operationFactory, detectToolFilter, runResult,
-                    universalToolsResult.getNameVersion(), aggregateDecision);
+                    universalToolsResult.getNameVersion(), aggregateDecision, runContext.getDetectConfigurationFactory().findBlackDuckToolsConcurrent());
             } else {
                 logger.info("Black Duck tools will not be run.");
             }
@@ -99,41 +103,73 @@ public class RunManager {
         OperationFactory operationFactory,
         DetectToolFilter detectToolFilter,
         ProjectEventPublisher projectEventPublisher,
-        RunResult runResult
+        RunResult runResult,
+        boolean concurrentTools
     ) throws DetectUserFriendlyException, IntegrationException {
-        boolean anythingFailed = false;
+        List<ProjectTool> projectTools = new ArrayList<>();
+        projectTools.add(toolRunResult -> {
+            logger.info(ReportConstants.RUN_SEPARATOR);
+            if (detectToolFilter.shouldInclude(DetectTool.DOCKER)) {
+                logger.info("Will include the Docker tool.");
+                DetectableToolResult detectableToolResult = operationFactory.createDockerOperation().execute();
+                toolRunResult.addDetectableToolResult(detectableToolResult);
+                logger.info("Docker actions finished.");
+                return detectableToolResult.isFailure();
+            } else {
+                logger.info("Docker tool will not be run.");
+                return false;
+            }
+        });
 
-        logger.info(ReportConstants.RUN_SEPARATOR);
-        if (detectToolFilter.shouldInclude(DetectTool.DOCKER)) {
-            logger.info("Will include the Docker tool.");
-            DetectableToolResult detectableToolResult = operationFactory.createDockerOperation().execute();
-            runResult.addDetectableToolResult(detectableToolResult);
-            anythingFailed = anythingFailed || detectableToolResult.isFailure();
-            logger.info("Docker actions finished.");
-        } else {
-            logger.info("Docker tool will not be run.");
-        }
+        projectTools.add(toolRunResult -> {
+            logger.info(ReportConstants.RUN_SEPARATOR);
+            if (detectToolFilter.shouldInclude(DetectTool.BAZEL)) {
+                logger.info("Will include the Bazel tool.");
+                DetectableToolResult detectableToolResult = operationFactory.createBazelOperation().execute();
+                toolRunResult.addDetectableToolResult(detectableToolResult);
+                logger.info("Bazel actions finished.");
+                return detectableToolResult.isFailure();
+            } else {
+                logger.info("Bazel tool will not be run.");
+                return false;
+            }
+        });
 
-        logger.info(ReportConstants.RUN_SEPARATOR);
-        if (detectToolFilter.shouldInclude(DetectTool.BAZEL)) {
-            logger.info("Will include the Bazel tool.");
-            DetectableToolResult detectableToolResult = operationFactory.createBazelOperation().execute();
-            runResult.addDetectableToolResult(detectableToolResult);
-            anythingFailed = anythingFailed || detectableToolResult.isFailure();
-            logger.info("Bazel actions finished.");
-        } else {
-            logger.info("Bazel tool will not be run.");
-        }
-        logger.info(ReportConstants.RUN_SEPARATOR);
-        if (detectToolFilter.shouldInclude(DetectTool.DETECTOR)) {
-            logger.info("Will include the detector tool.");
-            DetectorToolResult detectorToolResult = operationFactory.createDetectorOperation().execute();
-            detectorToolResult.getBomToolProjectNameVersion().ifPresent(it -> runResult.addToolNameVersion(DetectTool.DETECTOR, new NameVersion(it.getName(), it.getVersion())));
-            runResult.addDetectCodeLocations(detectorToolResult.getBomToolCodeLocations());
-            anythingFailed = anythingFailed || detectorToolResult.anyDetectorsFailed();
-            logger.info("Detector actions finished.");
+        projectTools.add(toolRunResult -> {
+            logger.info(ReportConstants.RUN_SEPARATOR);
+            if (detectToolFilter.shouldInclude(DetectTool.DETECTOR)) {
+                logger.info("Will include the detector tool.");
+                DetectorToolResult detectorToolResult = operationFactory.createDetectorOperation().execute();
+                detectorToolResult.getBomToolProjectNameVersion().ifPresent(it -> toolRunResult.addToolNameVersion(DetectTool.DETECTOR, new NameVersion(it.getName(), it.getVersion())));
+                toolRunResult.addDetectCodeLocations(detectorToolResult.getBomToolCodeLocations());
+                logger.info("Detector actions finished.");
+                return detectorToolResult.anyDetectorsFailed();
+            } else {
+                logger.info("Detector tool will not be run.");
+                return false;
+            }
+        });
+
+        boolean anythingFailed = false;
+        if (concurrentTools) {
+            logger.debug("Running {} project tools concurrently.", projectTools.size());
+            List<RunResult> toolRunResults = new ArrayList<>();
+            List<Callable<Boolean>> toolTasks = new ArrayList<>();
+            for (ProjectTool projectTool : projectTools) {
+                RunResult toolRunResult = new RunResult();
+                toolRunResults.add(toolRunResult);
+                toolTasks.add(() -> projectTool.run(toolRunResult));
+            }
+            List<Boolean> toolFailures = new ConcurrentToolRunner().runTools(toolTasks);
+            for (int i = 0; i < projectTools.size(); i++) {
+                runResult.addRunResult(toolRunResults.get(i));
+                anythingFailed = anythingFailed || toolFailures.get(i);
+            }
         } else {
-            logger.info("Detector tool will not be run.");
+            for (ProjectTool projectTool : projectTools) {
+                boolean toolFailed = projectTool.run(runResult);
+                anythingFailed = anythingFailed || toolFailed;
+            }
         }
 
         logger.info(ReportConstants.RUN_SEPARATOR);
@@ -167,7 +203,7 @@ public class RunManager {
     }
 
     private void runBlackDuckProduct(BlackDuckRunData blackDuckRunData, OperationFactory operationFactory, DetectToolFilter detectToolFilter, RunResult runResult, NameVersion projectNameVersion,
-        AggregateDecision aggregateDecision)
+        AggregateDecision aggregateDecision, boolean concurrentTools)
         throws IntegrationException, DetectUserFriendlyException {
 
         logger.debug("Black Duck tools will run.");
@@ -194,45 +230,76 @@ public class RunManager {
             logger.debug("Completed project and version actions.");
             logger.debug("Processing Detect Code Locations.");
 
-            CodeLocationAccumulator codeLocationAccumulator = new CodeLocationAccumulator<>();
-            Optional<CodeLocationCreationData<UploadBatchOutput>> uploadResult = operationFactory.createBdioUploadOperation().execute(blackDuckRunData.getScanMode(), blackDuckRunData, bdioResult);
-            uploadResult.ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
+            ProjectVersionWrapper projectVersion = projectVersionWrapper;
+            List<CodeLocationTool> codeLocationTools = new ArrayList<>();
+            codeLocationTools.add(codeLocationAccumulator -> {
+                Optional<CodeLocationCreationData<UploadBatchOutput>> uploadResult = operationFactory.createBdioUploadOperation().execute(blackDuckRunData.getScanMode(), blackDuckRunData, bdioResult);
+                uploadResult.ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
 
-            logger.debug("Completed Detect Code Location processing.");
+                logger.debug("Completed Detect Code Location processing.");
+            });
 
-            logger.info(ReportConstants.RUN_SEPARATOR);
-            if (detectToolFilter.shouldInclude(DetectTool.SIGNATURE_SCAN)) {
-                logger.info("Will include the signature scanner tool.");
-                SignatureScanInput signatureScanInput = new SignatureScanInput(projectNameVersion, runResult.getDockerTargetData().orElse(null));
-                Optional<CodeLocationCreationData<ScanBatchOutput>> signatureScanResult = operationFactory.createSignatureScanOperation().execute(signatureScanInput);
-                signatureScanResult.ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
-                logger.info("Signature scanner actions finished.");
-            } else {
-                logger.info("Signature scan tool will not be run.");
-            }
+            codeLocationTools.add(codeLocationAccumulator -> {
+                logger.info(ReportConstants.RUN_SEPARATOR);
+                if (detectToolFilter.shouldInclude(DetectTool.SIGNATURE_SCAN)) {
+                    logger.info("Will include the signature scanner tool.");
+                    SignatureScanInput signatureScanInput = new SignatureScanInput(projectNameVersion, runResult.getDockerTargetData().orElse(null));
+                    Optional<CodeLocationCreationData<ScanBatchOutput>> signatureScanResult = operationFactory.createSignatureScanOperation().execute(signatureScanInput);
+                    signatureScanResult.ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
+                    logger.info("Signature scanner actions finished.");
+                } else {
+                    logger.info("Signature scan tool will not be run.");
+                }
+            });
 
-            logger.info(ReportConstants.RUN_SEPARATOR);
-            if (detectToolFilter.shouldInclude(DetectTool.BINARY_SCAN)) {
-                logger.info("Will include the binary scanner tool.");
-                if (blackDuckRunData.isOnline()) {
-                    Optional<CodeLocationCreationData<BinaryScanBatchOutput>> binaryScanResult = operationFactory.createBinaryScanOperation().execute(projectNameVersion, runResult.getDockerTargetData().orElse(null));
-                    binaryScanResult.ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
+            codeLocationTools.add(codeLocationAccumulator -> {
+                logger.info(ReportConstants.RUN_SEPARATOR);
+                if (detectToolFilter.shouldInclude(DetectTool.BINARY_SCAN)) {
+                    logger.info("Will include the binary scanner tool.");
+                    if (blackDuckRunData.isOnline()) {
+                        Optional<CodeLocationCreationData<BinaryScanBatchOutput>> binaryScanResult = operationFactory.createBinaryScanOperation().execute(projectNameVersion, runResult.getDockerTargetData().orElse(null));
+                        binaryScanResult.ifPresent(codeLocationAccumulator::addWaitableCodeLocation);
+                    }
+                    logger.info("Binary scanner actions finished.");
+                } else {
+                    logger.info("Binary scan tool will not be run.");
+                }
+            });
+
+            codeLocationTools.add(codeLocationAccumulator -> {
+                ImpactAnalysisOperation impactAnalysisOperation = operationFactory.createImpactAnalysisOperation();
+                logger.info(ReportConstants.RUN_SEPARATOR);
+                if (detectToolFilter.shouldInclude(DetectTool.IMPACT_ANALYSIS)) {
+                    logger.info("Will include the Vulnerability Impact Analysis tool.");
+                    ImpactAnalysisInput impactAnalysisInput = new ImpactAnalysisInput(projectNameVersion, projectVersion);
+                    ImpactAnalysisToolResult impactAnalysisToolResult = impactAnalysisOperation.execute(impactAnalysisInput);
+                    /* TODO: There is currently no mechanism within Black Duck for checking the completion status of an Impact Analysis code location. Waiting should happen here when such a mechanism exists. See HUB-25142. JM - 08/2020 */
+                    codeLocationAccumulator.addNonWaitableCodeLocation(impactAnalysisToolResult.getCodeLocationNames());
+                    logger.info("Vulnerability Impact Analysis tool actions finished.");
+                } else {
+                    logger.info("Vulnerability Impact Analysis tool will not be run.");
+                }
+            });
+
+            CodeLocationAccumulator codeLocationAccumulator = new CodeLocationAccumulator<>();
+            if (concurrentTools) {
+                logger.debug("Running {} Black Duck tools concurrently.", codeLocationTools.size());
+                List<Callable<CodeLocationAccumulator>> toolTasks = new ArrayList<>();
+                for (CodeLocationTool codeLocationTool : codeLocationTools) {
+                    toolTasks.add(() -> {
+                        CodeLocationAccumulator toolAccumulator = new CodeLocationAccumulator<>();
+                        codeLocationTool.run(toolAccumulator);
+                        return toolAccumulator;
+                    });
+                }
+                for (CodeLocationAccumulator toolAccumulator : new ConcurrentToolRunner().runTools(toolTasks)) {
+                    toolAccumulator.getWaitableCodeLocations().forEach(it -> codeLocationAccumulator.addWaitableCodeLocation((CodeLocationCreationData) it));
+                    codeLocationAccumulator.addNonWaitableCodeLocation(toolAccumulator.getNonWaitableCodeLocations());
                 }
-                logger.info("Binary scanner actions finished.");
-            } else {
-                logger.info("Binary scan tool will not be run.");
-            }
-            ImpactAnalysisOperation impactAnalysisOperation = operationFactory.createImpactAnalysisOperation();
-            logger.info(ReportConstants.RUN_SEPARATOR);
-            if (detectToolFilter.shouldInclude(DetectTool.IMPACT_ANALYSIS)) {
-                logger.info("Will include the Vulnerability Impact Analysis tool.");
-                ImpactAnalysisInput impactAnalysisInput = new ImpactAnalysisInput(projectNameVersion, projectVersionWrapper);
-                ImpactAnalysisToolResult impactAnalysisToolResult = impactAnalysisOperation.execute(impactAnalysisInput);
-                /* TODO: There is currently no mechanism within Black Duck for checking the completion status of an Impact Analysis code location. Waiting should happen here when such a mechanism exists. See HUB-25142. JM - 08/2020 */
-                codeLocationAccumulator.addNonWaitableCodeLocation(impactAnalysisToolResult.getCodeLocationNames());
-                logger.info("Vulnerability Impact Analysis tool actions finished.");
             } else {
-                logger.info("Vulnerability Impact Analysis tool will not be run.");
+                for (CodeLocationTool codeLocationTool : codeLocationTools) {
+                    codeLocationTool.run(codeLocationAccumulator);
+                }
             }
 
             logger.info(ReportConstants.RUN_SEPARATOR);
@@ -250,4 +317,15 @@ public class RunManager {
             }
         }
     }
+
+    @FunctionalInterface
+    private interface ProjectTool {
+        // Returns true when the tool failed.
+        boolean run(RunResult runResult) throws DetectUserFriendlyException, IntegrationException;
+    }
+
+    @FunctionalInterface
+    private interface CodeLocationTool {
+        void run(CodeLocationAccumulator codeLocationAccumulator) throws DetectUserFriendlyException, IntegrationException;
+    }
 }
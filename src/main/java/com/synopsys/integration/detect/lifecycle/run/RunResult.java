@@ -38,6 +38,12 @@ public class RunResult {
         detectCodeLocations.addAll(detectableToolResult.getDetectCodeLocations());
     }
 
+    public void addRunResult(final RunResult runResult) {
+        detectToolProjectInfo.addAll(runResult.getDetectToolProjectInfo());
+        detectCodeLocations.addAll(runResult.getDetectCodeLocations());
+        runResult.getDockerTargetData().ifPresent(this::addDockerTargetData);
+    }
+
     public void addDockerTargetData(final DockerTargetData dockerTargetData) {
         this.dockerTargetData = dockerTargetData;
     }
@@ -11,6 +11,8 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.function.Predicate;
 
+import org.jetbrains.annotations.Nullable;
+
 import com.synopsys.integration.bdio.SimpleBdioFactory;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.blackduck.bdio2.util.Bdio2Factory;
@@ -31,6 +33,8 @@ import com.synopsys.integration.detect.lifecycle.run.operation.blackduck.Project
 import com.synopsys.integration.detect.lifecycle.run.operation.blackduck.ProjectDecisionOperation;
 import com.synopsys.integration.detect.lifecycle.run.operation.blackduck.SignatureScanOperation;
 import com.synopsys.integration.detect.tool.binaryscanner.BinaryScanOptions;
+import com.synopsys.integration.detect.tool.detector.extraction.DetectExtractionCache;
+import com.synopsys.integration.detect.tool.detector.extraction.ExtractionCacheOptions;
 import com.synopsys.integration.detect.tool.impactanalysis.BlackDuckImpactAnalysisTool;
 import com.synopsys.integration.detect.tool.impactanalysis.ImpactAnalysisOptions;
 import com.synopsys.integration.detect.tool.impactanalysis.service.ImpactAnalysisBatchRunner;
@@ -40,12 +44,15 @@ import com.synopsys.integration.detect.tool.signaturescanner.BlackDuckSignatureS
 import com.synopsys.integration.detect.util.filter.DetectToolFilter;
 import com.synopsys.integration.detect.util.finder.DetectExcludedDirectoryFilter;
 import com.synopsys.integration.detect.workflow.bdio.BdioManager;
+import com.synopsys.integration.detect.workflow.bdio.BdioOptions;
+import com.synopsys.integration.detect.workflow.blackduck.BdioUploadManifest;
 import com.synopsys.integration.detect.workflow.blackduck.BlackDuckPostOptions;
 import com.synopsys.integration.detect.workflow.blackduck.DetectCustomFieldService;
 import com.synopsys.integration.detect.workflow.blackduck.DetectProjectServiceOptions;
 import com.synopsys.integration.detect.workflow.blackduck.codelocation.CodeLocationResultCalculator;
 import com.synopsys.integration.detect.workflow.project.ProjectNameVersionDecider;
 import com.synopsys.integration.detect.workflow.project.ProjectNameVersionOptions;
+import com.synopsys.integration.detector.evaluation.ExtractionCache;
 import com.synopsys.integration.util.IntegrationEscapeUtil;
 import com.synopsys.integration.util.NoThreadExecutorService;
 
@@ -73,9 +80,20 @@ public class OperationFactory {
             runContext.getCodeLocationConverter(), runContext.getOperationSystem());
     }
 
-    public final DetectorOperation createDetectorOperation() {
+    public final DetectorOperation createDetectorOperation() throws DetectUserFriendlyException {
         return new DetectorOperation(runContext.getDetectConfiguration(), runContext.getDetectConfigurationFactory(), runContext.getDirectoryManager(), runContext.getEventSystem(), runContext.getDetectDetectableFactory(),
-            runContext.getExtractionEnvironmentProvider(), runContext.getCodeLocationConverter(), runContext.getStatusEventPublisher(), runContext.getExitCodePublisher(), runContext.getDetectorEventPublisher(), runContext.getFileFinder());
+            runContext.getExtractionEnvironmentProvider(), runContext.getCodeLocationConverter(), runContext.getStatusEventPublisher(), runContext.getExitCodePublisher(), runContext.getDetectorEventPublisher(), runContext.getFileFinder(),
+            createExtractionCache());
+    }
+
+    @Nullable
+    private ExtractionCache createExtractionCache() throws DetectUserFriendlyException {
+        ExtractionCacheOptions extractionCacheOptions = runContext.getDetectConfigurationFactory().createExtractionCacheOptions();
+        if (!extractionCacheOptions.isEnabled()) {
+            return null;
+        }
+        File cacheDirectory = runContext.getDirectoryManager().getPermanentDirectory("extraction-cache");
+        return new DetectExtractionCache(cacheDirectory, runContext.getGson(), runContext.getDetectInfo().getDetectVersion(), extractionCacheOptions.getDetectorPropertyValues());
     }
 
     public final RapidScanOperation createRapidScanOperation() {
@@ -104,7 +122,16 @@ public class OperationFactory {
     }
 
     public final BdioUploadOperation createBdioUploadOperation() {
-        return new BdioUploadOperation(runContext.getOperationSystem(), runContext.getDetectConfigurationFactory().createBdioOptions());
+        BlackDuckRunData blackDuckRunData = runContext.getProductRunData().getBlackDuckRunData();
+        BdioOptions bdioOptions = runContext.getDetectConfigurationFactory().createBdioOptions();
+        BdioUploadManifest uploadManifest = null;
+        if (blackDuckRunData.isOnline() && bdioOptions.isUploadResumeEnabled()) {
+            // Kept in the permanent directory so a run resuming a failed or interrupted one can skip what that run already uploaded.
+            File uploadManifestFile = new File(runContext.getDirectoryManager().getPermanentDirectory("bdio-upload"), "bdio-upload-manifest.json");
+            String blackDuckUrl = blackDuckRunData.getBlackDuckServerConfig().getBlackDuckUrl().toString();
+            uploadManifest = new BdioUploadManifest(uploadManifestFile, runContext.getGson(), blackDuckUrl, BdioUploadManifest.DEFAULT_MAX_ACCEPTED_TARGETS);
+        }
+        return new BdioUploadOperation(runContext.getOperationSystem(), bdioOptions, uploadManifest);
     }
 
     public final CodeLocationResultCalculationOperation createCodeLocationResultCalculationOperation() {
@@ -10,6 +10,7 @@ package com.synopsys.integration.detect.lifecycle.run.operation.blackduck;
 import java.util.List;
 import java.util.Optional;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +26,7 @@ import com.synopsys.integration.detect.configuration.enumeration.BlackduckScanMo
 import com.synopsys.integration.detect.lifecycle.run.data.BlackDuckRunData;
 import com.synopsys.integration.detect.workflow.bdio.BdioOptions;
 import com.synopsys.integration.detect.workflow.bdio.BdioResult;
+import com.synopsys.integration.detect.workflow.blackduck.BdioUploadManifest;
 import com.synopsys.integration.detect.workflow.blackduck.DetectBdioUploadService;
 import com.synopsys.integration.detect.workflow.status.OperationSystem;
 import com.synopsys.integration.exception.IntegrationException;
@@ -33,10 +35,17 @@ public class BdioUploadOperation {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final OperationSystem operationSystem;
     private final BdioOptions bdioOptions;
+    @Nullable
+    private final BdioUploadManifest uploadManifest;
 
     public BdioUploadOperation(OperationSystem operationSystem, BdioOptions bdioOptions) {
+        this(operationSystem, bdioOptions, null);
+    }
+
+    public BdioUploadOperation(OperationSystem operationSystem, BdioOptions bdioOptions, @Nullable BdioUploadManifest uploadManifest) {
         this.operationSystem = operationSystem;
         this.bdioOptions = bdioOptions;
+        this.uploadManifest = uploadManifest;
     }
 
     public Optional<CodeLocationCreationData<UploadBatchOutput>> execute(BlackduckScanMode scanMode, BlackDuckRunData blackDuckRunData, BdioResult bdioResult) throws DetectUserFriendlyException, IntegrationException {
@@ -50,8 +59,8 @@ public class BdioUploadOperation {
                 BdioUploadService bdioUploadService = blackDuckServicesFactory.createBdioUploadService();
                 Bdio2UploadService bdio2UploadService = blackDuckServicesFactory.createBdio2UploadService();
                 IntelligentPersistenceService intelligentPersistenceScanService = blackDuckServicesFactory.createIntelligentPersistenceService();
-                DetectBdioUploadService detectBdioUploadService = new DetectBdioUploadService(operationSystem, bdioOptions);
-                result = Optional.of(detectBdioUploadService.uploadBdioFiles(scanMode, bdioResult, bdioUploadService, bdio2UploadService, intelligentPersistenceScanService));
+                DetectBdioUploadService detectBdioUploadService = new DetectBdioUploadService(operationSystem, bdioOptions, uploadManifest);
+                result = detectBdioUploadService.uploadBdioFiles(scanMode, bdioResult, bdioUploadService, bdio2UploadService, intelligentPersistenceScanService);
             }
         } else {
             logger.debug("Did not create any BDIO files.");
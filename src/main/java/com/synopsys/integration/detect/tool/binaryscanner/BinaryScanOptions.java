@@ -20,13 +20,19 @@ public class BinaryScanOptions {
     private final String codeLocationPrefix;
     private final String codeLocationSuffix;
     private final int searchDepth;
+    private final int parallelProcessors;
 
     public BinaryScanOptions(@Nullable Path singleTargetFilePath, List<String> multipleTargetFileNamePatterns, String codeLocationPrefix, String codeLocationSuffix, int searchDepth) {
+        this(singleTargetFilePath, multipleTargetFileNamePatterns, codeLocationPrefix, codeLocationSuffix, searchDepth, 1);
+    }
+
+    public BinaryScanOptions(@Nullable Path singleTargetFilePath, List<String> multipleTargetFileNamePatterns, String codeLocationPrefix, String codeLocationSuffix, int searchDepth, int parallelProcessors) {
         this.singleTargetFilePath = singleTargetFilePath;
         this.multipleTargetFileNamePatterns = multipleTargetFileNamePatterns;
         this.codeLocationPrefix = codeLocationPrefix;
         this.codeLocationSuffix = codeLocationSuffix;
         this.searchDepth = searchDepth;
+        this.parallelProcessors = parallelProcessors;
     }
 
     public List<String> getMultipleTargetFileNamePatterns() {
@@ -48,4 +54,8 @@ public class BinaryScanOptions {
     public int getSearchDepth() {
         return searchDepth;
     }
+
+    public int getParallelProcessors() {
+        return parallelProcessors;
+    }
 }
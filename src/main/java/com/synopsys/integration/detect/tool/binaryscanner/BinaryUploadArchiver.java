@@ -0,0 +1,185 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.tool.binaryscanner;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
+import org.apache.commons.compress.parallel.FileBasedScatterGatherBackingStore;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.utils.IOUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Creates the zip of binary scan targets, streaming each target into the zip instead of reading it into memory.
+// Formats that are already compressed are stored as-is, and with more than one thread the remaining targets are deflated concurrently into scatter files in the given directory.
+public class BinaryUploadArchiver {
+    private static final Set<String> COMPRESSED_EXTENSIONS = new HashSet<>(Arrays.asList("jar", "war", "ear", "aar", "apk", "zip", "gz", "tgz", "bz2", "xz", "7z", "rar", "whl", "nupkg"));
+    private static final long PROGRESS_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final Logger logger = LoggerFactory.getLogger(BinaryUploadArchiver.class);
+    private final int threads;
+    private final File scatterDirectory;
+
+    public BinaryUploadArchiver(int threads, File scatterDirectory) {
+        this.threads = threads;
+        this.scatterDirectory = scatterDirectory;
+    }
+
+    public void zip(File zip, Map<String, Path> entries) throws IOException {
+        long totalBytes = 0;
+        for (Path entryPath : entries.values()) {
+            totalBytes += Files.size(entryPath);
+        }
+        ArchiveProgress progress = new ArchiveProgress(totalBytes);
+
+        try (ZipArchiveOutputStream outputStream = new ZipArchiveOutputStream(zip)) {
+            if (threads > 1 && entries.size() > 1) {
+                zipConcurrently(outputStream, entries, progress);
+            } else {
+                zipSequentially(outputStream, entries, progress);
+            }
+        }
+        progress.logCompleted();
+    }
+
+    private void zipSequentially(ZipArchiveOutputStream outputStream, Map<String, Path> entries, ArchiveProgress progress) throws IOException {
+        for (Map.Entry<String, Path> entry : entries.entrySet()) {
+            logger.info("Adding entry '{}' to zip as '{}'.", entry.getValue(), entry.getKey());
+            outputStream.putArchiveEntry(createEntry(entry.getKey()));
+            try (InputStream inputStream = new ProgressInputStream(Files.newInputStream(entry.getValue()), progress)) {
+                IOUtils.copy(inputStream, outputStream);
+            }
+            outputStream.closeArchiveEntry();
+        }
+    }
+
+    // Each entry is compressed into its own temporary scatter file by the pool, then the compressed entries are copied into the zip in order.
+    private void zipConcurrently(ZipArchiveOutputStream outputStream, Map<String, Path> entries, ArchiveProgress progress) throws IOException {
+        Files.createDirectories(scatterDirectory.toPath());
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            ParallelScatterZipCreator scatterZipCreator = new ParallelScatterZipCreator(executorService,
+                () -> new FileBasedScatterGatherBackingStore(File.createTempFile("scatter", ".tmp", scatterDirectory)));
+            for (Map.Entry<String, Path> entry : entries.entrySet()) {
+                logger.info("Adding entry '{}' to zip as '{}'.", entry.getValue(), entry.getKey());
+                Path entryPath = entry.getValue();
+                scatterZipCreator.addArchiveEntry(createEntry(entry.getKey()), () -> openEntry(entryPath, progress));
+            }
+            scatterZipCreator.writeTo(outputStream);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while creating the binary scan archive.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            executorService.shutdownNow();
+            FileUtils.deleteQuietly(scatterDirectory);
+        }
+    }
+
+    private InputStream openEntry(Path entryPath, ArchiveProgress progress) {
+        try {
+            return new ProgressInputStream(Files.newInputStream(entryPath), progress);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ZipArchiveEntry createEntry(String entryName) {
+        ZipArchiveEntry zipEntry = new ZipArchiveEntry(entryName);
+        if (COMPRESSED_EXTENSIONS.contains(FilenameUtils.getExtension(entryName).toLowerCase())) {
+            zipEntry.setMethod(ZipEntry.STORED);
+        } else {
+            zipEntry.setMethod(ZipEntry.DEFLATED);
+        }
+        return zipEntry;
+    }
+
+    private class ArchiveProgress {
+        private final long totalBytes;
+        private final long startMillis = System.currentTimeMillis();
+        private final AtomicLong readBytes = new AtomicLong();
+        private final AtomicLong lastLoggedMillis = new AtomicLong(startMillis);
+
+        private ArchiveProgress(long totalBytes) {
+            this.totalBytes = totalBytes;
+        }
+
+        private void add(long bytes) {
+            long read = readBytes.addAndGet(bytes);
+            long now = System.currentTimeMillis();
+            long lastLogged = lastLoggedMillis.get();
+            if (now - lastLogged >= PROGRESS_INTERVAL_MILLIS && lastLoggedMillis.compareAndSet(lastLogged, now)) {
+                logger.info(String.format("Binary scan archive progress: %d of %d MB read (%s).", toMegabytes(read), toMegabytes(totalBytes), formatRate(read, now)));
+            }
+        }
+
+        private void logCompleted() {
+            logger.info(String.format("Archived %d MB for the binary scan upload (%s).", toMegabytes(readBytes.get()), formatRate(readBytes.get(), System.currentTimeMillis())));
+        }
+
+        private String formatRate(long bytes, long now) {
+            long elapsedMillis = Math.max(1, now - startMillis);
+            return String.format("%.1f MB/s", (bytes / (1024.0 * 1024.0)) / (elapsedMillis / 1000.0));
+        }
+
+        private long toMegabytes(long bytes) {
+            return bytes / (1024 * 1024);
+        }
+    }
+
+    private static class ProgressInputStream extends FilterInputStream {
+        private final ArchiveProgress progress;
+
+        private ProgressInputStream(InputStream inputStream, ArchiveProgress progress) {
+            super(inputStream);
+            this.progress = progress;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read != -1) {
+                progress.add(1);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                progress.add(read);
+            }
+            return read;
+        }
+    }
+}
@@ -33,7 +33,6 @@ import com.synopsys.integration.detect.configuration.DetectUserFriendlyException
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 import com.synopsys.integration.detect.lifecycle.run.data.DockerTargetData;
 import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodePublisher;
-import com.synopsys.integration.detect.util.DetectZipUtil;
 import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameManager;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
 import com.synopsys.integration.detect.workflow.status.OperationSystem;
@@ -76,7 +75,8 @@ public class BlackDuckBinaryScannerTool {
             final String zipPath = "binary-upload.zip";
             File zip = new File(directoryManager.getBinaryOutputDirectory(), zipPath);
             Map<String, Path> uploadTargets = multipleTargets.stream().collect(Collectors.toMap(File::getName, File::toPath));
-            DetectZipUtil.zip(zip, uploadTargets);
+            File scatterDirectory = new File(directoryManager.getBinaryOutputDirectory(), "scatter");
+            new BinaryUploadArchiver(binaryScanOptions.getParallelProcessors(), scatterDirectory).zip(zip, uploadTargets);
             logger.info("Binary scan created the following zip for upload: " + zip.toPath());
             return zip;
         } catch (IOException e) {
@@ -138,7 +138,9 @@ public class BlackDuckBinaryScannerTool {
             logger.info("Preparing to upload binary scan file: " + binaryScanFile.getAbsolutePath());
             BinaryScan binaryScan = new BinaryScan(binaryScanFile, projectName, projectVersionName, codeLocationName);
             BinaryScanBatch binaryScanBatch = new BinaryScanBatch(binaryScan);
+            long uploadStartMillis = System.currentTimeMillis();
             CodeLocationCreationData<BinaryScanBatchOutput> codeLocationCreationData = binaryScanUploadService.uploadBinaryScan(binaryScanBatch);
+            logUploadRate(binaryScanFile, System.currentTimeMillis() - uploadStartMillis);
 
             BinaryScanBatchOutput binaryScanBatchOutput = codeLocationCreationData.getOutput();
             // The throwExceptionForError() in BinaryScanBatchOutput has a bug, so doing that work here
@@ -155,6 +157,11 @@ public class BlackDuckBinaryScannerTool {
         }
     }
 
+    private void logUploadRate(File binaryScanFile, long uploadMillis) {
+        double megabytes = binaryScanFile.length() / (1024.0 * 1024.0);
+        logger.info(String.format("Uploaded %.1f MB in %.1f seconds (%.1f MB/s).", megabytes, uploadMillis / 1000.0, megabytes / (Math.max(1, uploadMillis) / 1000.0)));
+    }
+
     // BinaryScanBatchOutput used to do this, but our understanding of what needs to happen has been
     // changing rapidly. Once we're confident we know what it should do, it should presumably move back there.
     private void throwExceptionForError(BinaryScanBatchOutput binaryScanBatchOutput) throws BlackDuckIntegrationException {
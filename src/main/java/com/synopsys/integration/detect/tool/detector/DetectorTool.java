@@ -13,6 +13,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,6 +21,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +48,7 @@ import com.synopsys.integration.detector.evaluation.DetectorAggregateEvaluationR
 import com.synopsys.integration.detector.evaluation.DetectorEvaluationOptions;
 import com.synopsys.integration.detector.evaluation.DetectorEvaluator;
 import com.synopsys.integration.detector.evaluation.DiscoveryFilter;
+import com.synopsys.integration.detector.evaluation.ExtractionCache;
 import com.synopsys.integration.detector.finder.DetectorFinder;
 import com.synopsys.integration.detector.finder.DetectorFinderOptions;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
@@ -60,9 +63,17 @@ public class DetectorTool {
     private final StatusEventPublisher statusEventPublisher;
     private final ExitCodePublisher exitCodePublisher;
     private final DetectorEventPublisher detectorEventPublisher;
+    @Nullable
+    private final ExtractionCache extractionCache;
 
     public DetectorTool(DetectorFinder detectorFinder, ExtractionEnvironmentProvider extractionEnvironmentProvider, EventSystem eventSystem, CodeLocationConverter codeLocationConverter,
         DetectorIssuePublisher detectorIssuePublisher, StatusEventPublisher statusEventPublisher, ExitCodePublisher exitCodePublisher, DetectorEventPublisher detectorEventPublisher) {
+        this(detectorFinder, extractionEnvironmentProvider, eventSystem, codeLocationConverter, detectorIssuePublisher, statusEventPublisher, exitCodePublisher, detectorEventPublisher, null);
+    }
+
+    public DetectorTool(DetectorFinder detectorFinder, ExtractionEnvironmentProvider extractionEnvironmentProvider, EventSystem eventSystem, CodeLocationConverter codeLocationConverter,
+        DetectorIssuePublisher detectorIssuePublisher, StatusEventPublisher statusEventPublisher, ExitCodePublisher exitCodePublisher, DetectorEventPublisher detectorEventPublisher,
+        @Nullable ExtractionCache extractionCache) {
         this.detectorFinder = detectorFinder;
         this.extractionEnvironmentProvider = extractionEnvironmentProvider;
         this.eventSystem = eventSystem;
@@ -71,6 +82,7 @@ public class DetectorTool {
         this.statusEventPublisher = statusEventPublisher;
         this.exitCodePublisher = exitCodePublisher;
         this.detectorEventPublisher = detectorEventPublisher;
+        this.extractionCache = extractionCache;
     }
 
     public DetectorToolResult performDetectors(File directory, DetectorRuleSet detectorRuleSet, DetectorFinderOptions detectorFinderOptions, DetectorEvaluationOptions evaluationOptions, String projectDetector,
@@ -96,7 +108,7 @@ public class DetectorTool {
         DiscoveryFilter discoveryFilter = new DetectDiscoveryFilter(eventSystem, detectorNameVersionHandler);
         DetectorEvaluatorBroadcaster eventBroadcaster = new DetectorEvaluatorBroadcaster(eventSystem);
 
-        DetectorEvaluator detectorEvaluator = new DetectorEvaluator(evaluationOptions, extractionEnvironmentProvider::createExtractionEnvironment, discoveryFilter);
+        DetectorEvaluator detectorEvaluator = new DetectorEvaluator(evaluationOptions, extractionEnvironmentProvider::createExtractionEnvironment, discoveryFilter, extractionCache);
         detectorEvaluator.setDetectorEvaluatorListener(eventBroadcaster);
 
         detectorEvaluator.registerPostApplicableCallback(detectorAggregateEvaluationResult -> {
@@ -246,7 +258,9 @@ public class DetectorTool {
                    .map(it -> codeLocationConverter.toDetectCodeLocation(directory, it))
                    .map(Map::entrySet)
                    .flatMap(Collection::stream)
-                   .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                   .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> {
+                       throw new IllegalStateException(String.format("Duplicate key %s", first));
+                   }, LinkedHashMap::new));
     }
 
     private void publishStatusEvents(Map<DetectorType, StatusType> statusMap) {
@@ -7,8 +7,14 @@
  */
 package com.synopsys.integration.detect.tool.detector.executable;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.function.Consumer;
@@ -22,6 +28,7 @@ import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutputProcessor;
 import com.synopsys.integration.executable.Executable;
 import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunner;
@@ -30,9 +37,12 @@ import com.synopsys.integration.executable.ProcessBuilderRunner;
 import com.synopsys.integration.log.Slf4jIntLogger;
 
 public class DetectExecutableRunner implements DetectableExecutableRunner {
+    private static final int STANDARD_OUTPUT_TAIL_LINES = 500;
+
     private final Logger logger;
     private final EventSystem eventSystem;
     private final boolean shouldLogOutput;
+    private final Consumer<String> outputConsumer;
     private ProcessBuilderRunner runner;
     private ProcessBuilderRunner secretRunner;
 
@@ -42,7 +52,7 @@ public class DetectExecutableRunner implements DetectableExecutableRunner {
         secretRunner = new ProcessBuilderRunner(new Slf4jIntLogger(logger), (line) -> {}, line -> {});
         this.eventSystem = eventSystem;
         this.shouldLogOutput = shouldLogOutput;
-
+        this.outputConsumer = outputConsumer;
     }
 
     public static DetectExecutableRunner newDebug(EventSystem eventSystem) {
@@ -92,6 +102,11 @@ public class DetectExecutableRunner implements DetectableExecutableRunner {
         }
         ExecutableOutput output = targetRunner.execute(executable);
         eventSystem.publishEvent(Event.Executable, new ExecutedExecutable(output, executable));
+        logOutputOnFailure(output, outputContainsSecret);
+        return output;
+    }
+
+    private void logOutputOnFailure(ExecutableOutput output, boolean outputContainsSecret) {
         boolean normallyLogOutput = output.getReturnCode() != 0 && shouldLogOutput && !logger.isDebugEnabled() && !logger.isTraceEnabled();
         if (normallyLogOutput && !outputContainsSecret) {
             if (StringUtils.isNotBlank(output.getStandardOutput())) {
@@ -104,7 +119,6 @@ public class DetectExecutableRunner implements DetectableExecutableRunner {
                 logger.info(output.getErrorOutput());
             }
         }
-        return output;
     }
 
     @NotNull
@@ -131,4 +145,89 @@ public class DetectExecutableRunner implements DetectableExecutableRunner {
             throw new ExecutableFailedException(executable, e);
         }
     }
+
+    // The standard output is handed to the processor while the process runs. Only its last lines are kept, so the published output and the output logged on failure
+    // hold the tail of the standard output (where a failing build reports why it failed) and all of the error output.
+    @Override
+    public <T> T executeSuccessfully(final Executable executable, final ExecutableOutputProcessor<T> outputProcessor) throws ExecutableFailedException {
+        logger.debug(String.format("Executing %s with working directory: %s", executable.getExecutableDescription(), executable.getWorkingDirectory()));
+        ProcessBuilder processBuilder = new ProcessBuilder(executable.getCommandWithArguments()).directory(executable.getWorkingDirectory());
+        processBuilder.environment().putAll(executable.getEnvironmentVariables());
+        try {
+            Process process = processBuilder.start();
+            StringBuilder errorOutput = new StringBuilder();
+            Thread errorOutputReader = new Thread(() -> readErrorOutput(process, errorOutput), "Error output of " + executable.getExecutableDescription());
+            errorOutputReader.start();
+            try {
+                T result;
+                LineConsumingReader standardOutput = new LineConsumingReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8), outputConsumer);
+                try {
+                    result = outputProcessor.process(standardOutput);
+                    // Whatever the processor did not read still has to be read for the process to finish.
+                    while (standardOutput.readLine() != null) {
+                    }
+                } finally {
+                    standardOutput.close();
+                }
+                int returnCode = process.waitFor();
+                errorOutputReader.join();
+
+                ExecutableOutput output = new ExecutableOutput(returnCode, standardOutput.getTail(), errorOutput.toString());
+                eventSystem.publishEvent(Event.Executable, new ExecutedExecutable(output, executable));
+                logOutputOnFailure(output, false);
+                if (returnCode != 0) {
+                    throw new ExecutableFailedException(executable, output);
+                }
+                return result;
+            } finally {
+                // Only has an effect when the output could not be processed, otherwise the process has already exited and its error output has been read.
+                process.destroy();
+                errorOutputReader.join();
+            }
+        } catch (IOException e) {
+            throw new ExecutableFailedException(executable, new ExecutableRunnerException(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExecutableFailedException(executable, new ExecutableRunnerException(e));
+        }
+    }
+
+    private void readErrorOutput(Process process, StringBuilder errorOutput) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                errorOutput.append(line).append(System.lineSeparator());
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to read the error output of an executable.", e);
+        }
+    }
+
+    // Passes every line read to the output consumer, the same way the process builder runner logs each line of output, and keeps the last lines read.
+    private static class LineConsumingReader extends BufferedReader {
+        private final Consumer<String> lineConsumer;
+        private final Deque<String> tail = new ArrayDeque<>(STANDARD_OUTPUT_TAIL_LINES);
+
+        private LineConsumingReader(InputStreamReader reader, Consumer<String> lineConsumer) {
+            super(reader);
+            this.lineConsumer = lineConsumer;
+        }
+
+        @Override
+        public String readLine() throws IOException {
+            String line = super.readLine();
+            if (line != null) {
+                lineConsumer.accept(line);
+                if (tail.size() == STANDARD_OUTPUT_TAIL_LINES) {
+                    tail.removeFirst();
+                }
+                tail.addLast(line);
+            }
+            return line;
+        }
+
+        private String getTail() {
+            return String.join(System.lineSeparator(), tail);
+        }
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+// The graph is stored as a list of dependencies, with roots and children referring to a dependency by its index in that list.
+public class CachedCodeLocation {
+    @Nullable
+    private final String sourcePath;
+    @Nullable
+    private final ExternalId externalId;
+    private final List<CachedDependency> dependencies;
+    private final List<Integer> rootDependencies;
+    private final List<List<Integer>> children;
+
+    public CachedCodeLocation(@Nullable String sourcePath, @Nullable ExternalId externalId, List<CachedDependency> dependencies, List<Integer> rootDependencies, List<List<Integer>> children) {
+        this.sourcePath = sourcePath;
+        this.externalId = externalId;
+        this.dependencies = dependencies;
+        this.rootDependencies = rootDependencies;
+        this.children = children;
+    }
+
+    @Nullable
+    public String getSourcePath() {
+        return sourcePath;
+    }
+
+    @Nullable
+    public ExternalId getExternalId() {
+        return externalId;
+    }
+
+    public List<CachedDependency> getDependencies() {
+        return dependencies;
+    }
+
+    public List<Integer> getRootDependencies() {
+        return rootDependencies;
+    }
+
+    public List<List<Integer>> getChildren() {
+        return children;
+    }
+}
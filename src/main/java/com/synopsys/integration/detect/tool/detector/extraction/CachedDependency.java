@@ -0,0 +1,34 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+public class CachedDependency {
+    private final String name;
+    private final String version;
+    private final ExternalId externalId;
+
+    public CachedDependency(String name, String version, ExternalId externalId) {
+        this.name = name;
+        this.version = version;
+        this.externalId = externalId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public ExternalId getExternalId() {
+        return externalId;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+// Extraction metadata values are only cached when they are strings or files, the types the detectables store.
+public class CachedMetaData {
+    private final String key;
+    private final boolean file;
+    private final String value;
+
+    public CachedMetaData(String key, boolean file, String value) {
+        this.key = key;
+        this.file = file;
+        this.value = value;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public boolean isFile() {
+        return file;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.extraction.ExtractionMetadata;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.evaluation.ExtractionCache;
+
+// Stores successful extractions of cacheable detectors on disk, keyed by the detector, its directory and a hash of the contents of its relevant files.
+// Entries are written to a temporary file and moved into place so concurrent extractions (and concurrent runs of detect) never read a partial entry.
+// Entries live in a directory named for the cache format and detect version; directories left by other versions are deleted, and only the most recently used entries are kept.
+public class DetectExtractionCache implements ExtractionCache {
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final String CACHE_FORMAT_VERSION = "2";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String ENTRY_EXTENSION = ".json";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final File cacheDirectory;
+    private final File versionDirectory;
+    private final Gson gson;
+    private final SortedMap<String, String> detectorPropertyValues;
+    private final int maxEntries;
+    private final AtomicBoolean otherVersionsRemoved = new AtomicBoolean();
+
+    public DetectExtractionCache(File cacheDirectory, Gson gson, String detectVersion, Map<String, String> detectorPropertyValues) {
+        this(cacheDirectory, gson, detectVersion, detectorPropertyValues, DEFAULT_MAX_ENTRIES);
+    }
+
+    public DetectExtractionCache(File cacheDirectory, Gson gson, String detectVersion, Map<String, String> detectorPropertyValues, int maxEntries) {
+        this.cacheDirectory = cacheDirectory;
+        this.versionDirectory = new File(cacheDirectory, ("v" + CACHE_FORMAT_VERSION + "-" + detectVersion).replaceAll("[^A-Za-z0-9._-]", "_"));
+        this.gson = gson;
+        this.detectorPropertyValues = new TreeMap<>(detectorPropertyValues);
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Optional<Extraction> findCachedExtraction(DetectorEvaluation detectorEvaluation) {
+        try {
+            Optional<File> entryFile = findEntryFile(detectorEvaluation);
+            if (!entryFile.isPresent() || !entryFile.get().isFile()) {
+                return Optional.empty();
+            }
+
+            ExtractionCacheEntry entry;
+            try (Reader reader = Files.newBufferedReader(entryFile.get().toPath(), StandardCharsets.UTF_8)) {
+                entry = gson.fromJson(reader, ExtractionCacheEntry.class);
+            }
+            if (entry == null || !extractionFilesUnchanged(entry)) {
+                return Optional.empty();
+            }
+            // Marks the entry as recently used so it outlives entries that are no longer hit.
+            if (!entryFile.get().setLastModified(System.currentTimeMillis())) {
+                logger.debug("Unable to update the last modified time of the cached extraction {}.", entryFile.get());
+            }
+            return Optional.of(toExtraction(entry));
+        } catch (IOException | JsonParseException e) {
+            logger.debug("Unable to read the cached extraction, the detector will be extracted.", e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void cacheExtraction(DetectorEvaluation detectorEvaluation) {
+        try {
+            Optional<File> entryFile = findEntryFile(detectorEvaluation);
+            if (!entryFile.isPresent()) {
+                return;
+            }
+
+            Optional<ExtractionCacheEntry> entry = toEntry(detectorEvaluation.getExtraction());
+            if (!entry.isPresent()) {
+                logger.debug("The extraction has metadata that can not be cached, it will not be cached.");
+                return;
+            }
+            Files.createDirectories(versionDirectory.toPath());
+            Path temporaryFile = Files.createTempFile(versionDirectory.toPath(), entryFile.get().getName(), ".tmp");
+            try {
+                try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                    gson.toJson(entry.get(), writer);
+                }
+                Files.move(temporaryFile, entryFile.get().toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+            removeUnusedEntries();
+        } catch (IOException e) {
+            logger.debug("Unable to cache the extraction.", e);
+        }
+    }
+
+    private void removeUnusedEntries() throws IOException {
+        if (otherVersionsRemoved.compareAndSet(false, true)) {
+            File[] cacheFiles = cacheDirectory.listFiles();
+            if (cacheFiles != null) {
+                for (File cacheFile : cacheFiles) {
+                    if (!cacheFile.equals(versionDirectory)) {
+                        FileUtils.forceDelete(cacheFile);
+                    }
+                }
+            }
+        }
+
+        File[] entryFiles = versionDirectory.listFiles((dir, name) -> name.endsWith(ENTRY_EXTENSION));
+        if (entryFiles == null || entryFiles.length <= maxEntries) {
+            return;
+        }
+        // Entries written or read by a concurrent extraction may change their time while sorting, so each time is read once.
+        Map<File, Long> lastModified = new LinkedHashMap<>();
+        for (File entryFile : entryFiles) {
+            lastModified.put(entryFile, entryFile.lastModified());
+        }
+        List<File> oldestFirst = new ArrayList<>(Arrays.asList(entryFiles));
+        oldestFirst.sort(Comparator.comparing(lastModified::get));
+        for (File entryFile : oldestFirst.subList(0, oldestFirst.size() - maxEntries)) {
+            Files.deleteIfExists(entryFile.toPath());
+        }
+    }
+
+    // Without relevant files there is nothing to tell a stale entry from a fresh one, so such evaluations are never cached.
+    private Optional<File> findEntryFile(DetectorEvaluation detectorEvaluation) throws IOException {
+        SortedSet<String> relevantPaths = new TreeSet<>();
+        for (File relevantFile : detectorEvaluation.getAllRelevantFiles()) {
+            relevantPaths.add(relevantFile.getAbsolutePath());
+        }
+        if (relevantPaths.isEmpty()) {
+            return Optional.empty();
+        }
+
+        MessageDigest keyDigest = createDigest();
+        for (Map.Entry<String, String> detectorProperty : detectorPropertyValues.entrySet()) {
+            updateDigest(keyDigest, detectorProperty.getKey());
+            updateDigest(keyDigest, detectorProperty.getValue());
+        }
+        updateDigest(keyDigest, detectorEvaluation.getDetectorRule().getDescriptiveName());
+        updateDigest(keyDigest, detectorEvaluation.getDetectableEnvironment().getDirectory().getAbsolutePath());
+        for (String relevantPath : relevantPaths) {
+            updateDigest(keyDigest, relevantPath);
+            updateDigest(keyDigest, hashFile(new File(relevantPath)));
+        }
+        return Optional.of(new File(versionDirectory, toHex(keyDigest.digest()) + ENTRY_EXTENSION));
+    }
+
+    private boolean extractionFilesUnchanged(ExtractionCacheEntry entry) throws IOException {
+        for (Map.Entry<String, String> extractionFileHash : entry.getExtractionFileHashes().entrySet()) {
+            File extractionFile = new File(extractionFileHash.getKey());
+            if (!extractionFile.isFile() || !extractionFileHash.getValue().equals(hashFile(extractionFile))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Optional<ExtractionCacheEntry> toEntry(Extraction extraction) throws IOException {
+        List<CachedMetaData> cachedMetaData = new ArrayList<>();
+        for (Map.Entry<ExtractionMetadata, Object> metaData : extraction.getMetaData().entrySet()) {
+            Object value = metaData.getValue();
+            if (value instanceof File) {
+                cachedMetaData.add(new CachedMetaData(metaData.getKey().getKey(), true, ((File) value).getAbsolutePath()));
+            } else if (value instanceof String) {
+                cachedMetaData.add(new CachedMetaData(metaData.getKey().getKey(), false, (String) value));
+            } else if (value != null) {
+                return Optional.empty();
+            }
+        }
+
+        List<CachedCodeLocation> cachedCodeLocations = new ArrayList<>();
+        for (CodeLocation codeLocation : extraction.getCodeLocations()) {
+            cachedCodeLocations.add(toCachedCodeLocation(codeLocation));
+        }
+
+        List<String> relevantFiles = new ArrayList<>();
+        Map<String, String> extractionFileHashes = new TreeMap<>();
+        for (File relevantFile : extraction.getRelevantFiles()) {
+            relevantFiles.add(relevantFile.getAbsolutePath());
+            if (relevantFile.isFile()) {
+                extractionFileHashes.put(relevantFile.getAbsolutePath(), hashFile(relevantFile));
+            }
+        }
+
+        List<String> unrecognizedPaths = new ArrayList<>();
+        for (File unrecognizedPath : extraction.getUnrecognizedPaths()) {
+            unrecognizedPaths.add(unrecognizedPath.getAbsolutePath());
+        }
+        return Optional.of(new ExtractionCacheEntry(extraction.getProjectName(), extraction.getProjectVersion(), cachedCodeLocations, relevantFiles, unrecognizedPaths, cachedMetaData, extractionFileHashes));
+    }
+
+    private CachedCodeLocation toCachedCodeLocation(CodeLocation codeLocation) {
+        DependencyGraph graph = codeLocation.getDependencyGraph();
+        Map<Dependency, Integer> dependencyIndexes = new LinkedHashMap<>();
+        List<Dependency> unprocessed = new ArrayList<>(graph.getRootDependencies());
+        for (int i = 0; i < unprocessed.size(); i++) {
+            Dependency dependency = unprocessed.get(i);
+            if (!dependencyIndexes.containsKey(dependency)) {
+                dependencyIndexes.put(dependency, dependencyIndexes.size());
+                unprocessed.addAll(graph.getChildrenForParent(dependency));
+            }
+        }
+
+        List<CachedDependency> dependencies = new ArrayList<>(dependencyIndexes.size());
+        List<List<Integer>> children = new ArrayList<>(dependencyIndexes.size());
+        for (Dependency dependency : dependencyIndexes.keySet()) {
+            dependencies.add(new CachedDependency(dependency.getName(), dependency.getVersion(), dependency.getExternalId()));
+            List<Integer> childIndexes = new ArrayList<>();
+            for (Dependency child : graph.getChildrenForParent(dependency)) {
+                childIndexes.add(dependencyIndexes.get(child));
+            }
+            children.add(childIndexes);
+        }
+
+        List<Integer> rootDependencies = new ArrayList<>();
+        for (Dependency rootDependency : graph.getRootDependencies()) {
+            rootDependencies.add(dependencyIndexes.get(rootDependency));
+        }
+
+        String sourcePath = codeLocation.getSourcePath().map(File::getAbsolutePath).orElse(null);
+        return new CachedCodeLocation(sourcePath, codeLocation.getExternalId().orElse(null), dependencies, rootDependencies, children);
+    }
+
+    private Extraction toExtraction(ExtractionCacheEntry entry) {
+        List<CodeLocation> codeLocations = new ArrayList<>();
+        for (CachedCodeLocation cachedCodeLocation : entry.getCodeLocations()) {
+            codeLocations.add(toCodeLocation(cachedCodeLocation));
+        }
+        List<File> relevantFiles = new ArrayList<>();
+        for (String relevantFile : entry.getRelevantFiles()) {
+            relevantFiles.add(new File(relevantFile));
+        }
+        List<File> unrecognizedPaths = new ArrayList<>();
+        for (String unrecognizedPath : entry.getUnrecognizedPaths()) {
+            unrecognizedPaths.add(new File(unrecognizedPath));
+        }
+
+        Extraction.Builder extractionBuilder = new Extraction.Builder()
+                                                   .success(codeLocations)
+                                                   .projectName(entry.getProjectName())
+                                                   .projectVersion(entry.getProjectVersion())
+                                                   .relevantFiles(relevantFiles.toArray(new File[0]))
+                                                   .unrecognizedPaths(unrecognizedPaths);
+        for (CachedMetaData cachedMetaData : entry.getMetaData()) {
+            if (cachedMetaData.isFile()) {
+                extractionBuilder.metaData(new ExtractionMetadata<>(cachedMetaData.getKey(), File.class), new File(cachedMetaData.getValue()));
+            } else {
+                extractionBuilder.metaData(new ExtractionMetadata<>(cachedMetaData.getKey(), String.class), cachedMetaData.getValue());
+            }
+        }
+        return extractionBuilder.build();
+    }
+
+    private CodeLocation toCodeLocation(CachedCodeLocation cachedCodeLocation) {
+        List<Dependency> dependencies = new ArrayList<>(cachedCodeLocation.getDependencies().size());
+        for (CachedDependency cachedDependency : cachedCodeLocation.getDependencies()) {
+            dependencies.add(new Dependency(cachedDependency.getName(), cachedDependency.getVersion(), cachedDependency.getExternalId()));
+        }
+
+        MutableMapDependencyGraph graph = new MutableMapDependencyGraph();
+        for (Integer rootDependency : cachedCodeLocation.getRootDependencies()) {
+            graph.addChildToRoot(dependencies.get(rootDependency));
+        }
+        for (int parent = 0; parent < dependencies.size(); parent++) {
+            for (Integer child : cachedCodeLocation.getChildren().get(parent)) {
+                graph.addChildWithParent(dependencies.get(child), dependencies.get(parent));
+            }
+        }
+
+        File sourcePath = Optional.ofNullable(cachedCodeLocation.getSourcePath()).map(File::new).orElse(null);
+        return new CodeLocation(graph, cachedCodeLocation.getExternalId(), sourcePath);
+    }
+
+    private String hashFile(File file) throws IOException {
+        MessageDigest fileDigest = createDigest();
+        byte[] buffer = new byte[8192];
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                fileDigest.update(buffer, 0, read);
+            }
+        }
+        return toHex(fileDigest.digest());
+    }
+
+    private MessageDigest createDigest() throws IOException {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("The " + HASH_ALGORITHM + " algorithm is not available.", e);
+        }
+    }
+
+    private void updateDigest(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+public class ExtractionCacheEntry {
+    @Nullable
+    private final String projectName;
+    @Nullable
+    private final String projectVersion;
+    private final List<CachedCodeLocation> codeLocations;
+    private final List<String> relevantFiles;
+    private final List<String> unrecognizedPaths;
+    private final List<CachedMetaData> metaData;
+    private final Map<String, String> extractionFileHashes;
+
+    public ExtractionCacheEntry(@Nullable String projectName, @Nullable String projectVersion, List<CachedCodeLocation> codeLocations, List<String> relevantFiles, List<String> unrecognizedPaths,
+        List<CachedMetaData> metaData, Map<String, String> extractionFileHashes) {
+        this.projectName = projectName;
+        this.projectVersion = projectVersion;
+        this.codeLocations = codeLocations;
+        this.relevantFiles = relevantFiles;
+        this.unrecognizedPaths = unrecognizedPaths;
+        this.metaData = metaData;
+        this.extractionFileHashes = extractionFileHashes;
+    }
+
+    @Nullable
+    public String getProjectName() {
+        return projectName;
+    }
+
+    @Nullable
+    public String getProjectVersion() {
+        return projectVersion;
+    }
+
+    public List<CachedCodeLocation> getCodeLocations() {
+        return codeLocations;
+    }
+
+    public List<String> getRelevantFiles() {
+        return relevantFiles;
+    }
+
+    public List<String> getUnrecognizedPaths() {
+        return unrecognizedPaths;
+    }
+
+    public List<CachedMetaData> getMetaData() {
+        return metaData;
+    }
+
+    // Files the extraction itself reported as relevant, with their content hashes when the entry was written.
+    public Map<String, String> getExtractionFileHashes() {
+        return extractionFileHashes;
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import java.util.Map;
+
+public class ExtractionCacheOptions {
+    private final boolean enabled;
+    private final Map<String, String> detectorPropertyValues;
+
+    public ExtractionCacheOptions(boolean enabled, Map<String, String> detectorPropertyValues) {
+        this.enabled = enabled;
+        this.detectorPropertyValues = detectorPropertyValues;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // The detector specific property values, any change to which invalidates the cache.
+    public Map<String, String> getDetectorPropertyValues() {
+        return detectorPropertyValues;
+    }
+}
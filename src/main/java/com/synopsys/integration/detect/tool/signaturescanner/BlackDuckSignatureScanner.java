@@ -11,11 +11,18 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -30,7 +37,6 @@ import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatc
 import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.ScanCommandOutput;
 import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.ScanTarget;
 import com.synopsys.integration.blackduck.configuration.BlackDuckServerConfig;
-import com.synopsys.integration.common.util.finder.FileFinder;
 import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 import com.synopsys.integration.detect.lifecycle.run.data.DockerTargetData;
@@ -59,7 +65,6 @@ public class BlackDuckSignatureScanner {
     private final StatusEventPublisher statusEventPublisher;
     private final ExitCodePublisher exitCodePublisher;
     private final OperationSystem operationSystem;
-    private final FileFinder fileFinder;
     private final Predicate<File> fileFilter;
 
     //When OFFLINE, this should be NULL. No other changes required for offline (in this class).
@@ -67,7 +72,7 @@ public class BlackDuckSignatureScanner {
 
     public BlackDuckSignatureScanner(DirectoryManager directoryManager, CodeLocationNameManager codeLocationNameManager,
         BlackDuckSignatureScannerOptions signatureScannerOptions, ScanBatchRunner scanJobManager, BlackDuckServerConfig blackDuckServerConfig, StatusEventPublisher statusEventPublisher,
-        ExitCodePublisher exitCodePublisher, OperationSystem operationSystem, FileFinder fileFinder, Predicate<File> fileFilter) {
+        ExitCodePublisher exitCodePublisher, OperationSystem operationSystem, Predicate<File> fileFilter) {
         this.directoryManager = directoryManager;
         this.codeLocationNameManager = codeLocationNameManager;
         this.signatureScannerOptions = signatureScannerOptions;
@@ -77,7 +82,6 @@ public class BlackDuckSignatureScanner {
         this.exitCodePublisher = exitCodePublisher;
         this.operationSystem = operationSystem;
 
-        this.fileFinder = fileFinder;
         this.fileFilter = fileFilter;
     }
 
@@ -85,47 +89,123 @@ public class BlackDuckSignatureScanner {
         operationSystem.beginOperation(OPERATION_NAME);
         List<SignatureScanPath> signatureScanPaths = determinePathsAndExclusions(projectNameVersion, signatureScannerOptions.getMaxDepth(), dockerTargetData);
 
+        int concurrentScans = determineConcurrentScans(signatureScanPaths.size());
+        // A batch of several targets scans them on the scan batch runner's pool, which is sized from the parallel processors, so when the scan memory
+        // allows fewer scanners than that, each target gets its own batch and no more than the allowed number of batches run at once.
+        int concurrentScansInOneBatch = Math.min(signatureScanPaths.size(), signatureScannerOptions.getParallelProcessors());
+        ScanBatchOutput scanJobOutput;
+        List<SignatureScannerReport> signatureScannerReports;
+        if (concurrentScans > 1 || concurrentScans < concurrentScansInOneBatch) {
+            List<ScanBatch> scanJobs = new ArrayList<>(signatureScanPaths.size());
+            for (SignatureScanPath signatureScanPath : signatureScanPaths) {
+                scanJobs.add(createScanBatch(projectNameVersion, installDirectory, Collections.singletonList(signatureScanPath), dockerTargetData));
+            }
+            signatureScannerReports = Collections.synchronizedList(new ArrayList<>());
+            scanJobOutput = executeScansConcurrently(signatureScanPaths, scanJobs, concurrentScans, signatureScannerReports);
+        } else {
+            ScanBatch scanJob = createScanBatch(projectNameVersion, installDirectory, signatureScanPaths, dockerTargetData);
+            scanJobOutput = scanJobManager.executeScans(scanJob);
+            signatureScannerReports = reportResults(signatureScanPaths, scanJobOutput);
+        }
+
+        signatureScannerReports.stream()
+            .filter(SignatureScannerReport::isFailure)
+            .findAny()
+            .ifPresent(report -> {
+                logger.error(String.format("The Signature Scanner encountered an error%s. Please refer to Black Duck documentation or contact support.", report.getExitCode().map(code -> " (" + code + ")").orElse(".")));
+                exitCodePublisher.publishExitCode(new ExitCodeRequest(ExitCodeType.FAILURE_SCAN));
+            });
+
+        return scanJobOutput;
+    }
+
+    // Each scanner gets the configured scan memory, so no more scanners run at once than fit in the total scan memory (when given).
+    private int determineConcurrentScans(int targetCount) {
+        int concurrentScans = Math.min(targetCount, signatureScannerOptions.getParallelProcessors());
+        Integer scanMemory = signatureScannerOptions.getScanMemory();
+        Optional<Integer> totalScanMemory = signatureScannerOptions.getTotalScanMemory();
+        if (totalScanMemory.isPresent() && scanMemory != null && scanMemory > 0) {
+            concurrentScans = Math.min(concurrentScans, totalScanMemory.get() / scanMemory);
+        }
+        return Math.max(1, concurrentScans);
+    }
+
+    private ScanBatch createScanBatch(NameVersion projectNameVersion, File installDirectory, List<SignatureScanPath> signatureScanPaths, @Nullable DockerTargetData dockerTargetData) throws DetectUserFriendlyException {
         ScanBatchBuilder scanJobBuilder = createDefaultScanBatchBuilder(projectNameVersion, installDirectory, signatureScanPaths, dockerTargetData);
         scanJobBuilder.fromBlackDuckServerConfig(blackDuckServerConfig);//when offline, we must still call this with 'null' as a workaround for library issues, so offline scanner must be created with this set to null.
-        ScanBatch scanJob;
         try {
-            scanJob = scanJobBuilder.build();
+            return scanJobBuilder.build();
         } catch (IllegalArgumentException e) {
             operationSystem.completeWithFailure(OPERATION_NAME);
             throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_CONFIGURATION);
         }
+    }
 
+    // Every target is its own batch and is reported as soon as it finishes. Running a batch installs or updates the scanner, so the first target is scanned
+    // on its own and the remaining targets are scanned concurrently (or one after another when only one scanner may run) once the scanner is in place.
+    // Outputs are returned in target order.
+    private ScanBatchOutput executeScansConcurrently(List<SignatureScanPath> signatureScanPaths, List<ScanBatch> scanJobs, int concurrentScans, List<SignatureScannerReport> signatureScannerReports)
+        throws IntegrationException {
+        logger.info(String.format("Scanning %d targets, running up to %d scanners at once.", scanJobs.size(), concurrentScans));
         List<ScanCommandOutput> scanCommandOutputs = new ArrayList<>();
-        ScanBatchOutput scanJobOutput = scanJobManager.executeScans(scanJob);
-        if (scanJobOutput.getOutputs() != null) {
-            scanCommandOutputs.addAll(scanJobOutput.getOutputs());
+        scanCommandOutputs.addAll(executeAndReportScan(signatureScanPaths.get(0), scanJobs.get(0), signatureScannerReports));
+
+        if (concurrentScans <= 1) {
+            for (int i = 1; i < scanJobs.size(); i++) {
+                scanCommandOutputs.addAll(executeAndReportScan(signatureScanPaths.get(i), scanJobs.get(i), signatureScannerReports));
+            }
+            return new ScanBatchOutput(scanCommandOutputs);
         }
 
-        reportResults(signatureScanPaths, scanCommandOutputs);
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(concurrentScans, scanJobs.size() - 1));
+        try {
+            List<Future<List<ScanCommandOutput>>> scanFutures = new ArrayList<>(scanJobs.size() - 1);
+            for (int i = 1; i < scanJobs.size(); i++) {
+                SignatureScanPath signatureScanPath = signatureScanPaths.get(i);
+                ScanBatch scanJob = scanJobs.get(i);
+                scanFutures.add(executorService.submit(() -> executeAndReportScan(signatureScanPath, scanJob, signatureScannerReports)));
+            }
 
-        return scanJobOutput;
+            for (Future<List<ScanCommandOutput>> scanFuture : scanFutures) {
+                scanCommandOutputs.addAll(scanFuture.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IntegrationException("Interrupted while waiting for the signature scans to finish.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IntegrationException) {
+                throw (IntegrationException) e.getCause();
+            }
+            throw new IntegrationException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+        return new ScanBatchOutput(scanCommandOutputs);
+    }
+
+    private List<ScanCommandOutput> executeAndReportScan(SignatureScanPath signatureScanPath, ScanBatch scanJob, List<SignatureScannerReport> signatureScannerReports) throws IntegrationException {
+        ScanBatchOutput scanJobOutput = scanJobManager.executeScans(scanJob);
+        signatureScannerReports.addAll(reportResults(Collections.singletonList(signatureScanPath), scanJobOutput));
+        return Optional.ofNullable(scanJobOutput.getOutputs()).orElse(Collections.emptyList());
     }
 
     //TODO: Possibly promote this to the Tool. Ideally it would return some object describing these results and the Tool translates that into detect nonsense -jp.
-    private void reportResults(List<SignatureScanPath> signatureScanPaths, List<ScanCommandOutput> scanCommandOutputList) {
+    private List<SignatureScannerReport> reportResults(List<SignatureScanPath> signatureScanPaths, ScanBatchOutput scanJobOutput) {
+        Map<String, ScanCommandOutput> scanCommandOutputsByTarget = new HashMap<>();
+        if (scanJobOutput.getOutputs() != null) {
+            for (ScanCommandOutput scanCommandOutput : scanJobOutput.getOutputs()) {
+                scanCommandOutputsByTarget.putIfAbsent(scanCommandOutput.getScanTarget(), scanCommandOutput);
+            }
+        }
+
         List<SignatureScannerReport> signatureScannerReports = new ArrayList<>();
         for (SignatureScanPath signatureScanPath : signatureScanPaths) {
-            Optional<ScanCommandOutput> scanCommandOutput = scanCommandOutputList.stream()
-                                                                .filter(output -> output.getScanTarget().equals(signatureScanPath.getTargetCanonicalPath()))
-                                                                .findFirst();
-            SignatureScannerReport signatureScannerReport = SignatureScannerReport.create(signatureScanPath, scanCommandOutput.orElse(null));
+            ScanCommandOutput scanCommandOutput = scanCommandOutputsByTarget.get(signatureScanPath.getTargetCanonicalPath());
+            SignatureScannerReport signatureScannerReport = SignatureScannerReport.create(signatureScanPath, scanCommandOutput);
+            publishResults(signatureScannerReport);
             signatureScannerReports.add(signatureScannerReport);
         }
-
-        signatureScannerReports.forEach(this::publishResults);
-
-        signatureScannerReports.stream()
-            .filter(SignatureScannerReport::isFailure)
-            .findAny()
-            .ifPresent(report -> {
-                logger.error(String.format("The Signature Scanner encountered an error%s. Please refer to Black Duck documentation or contact support.", report.getExitCode().map(code -> " (" + code + ")").orElse(".")));
-                exitCodePublisher.publishExitCode(new ExitCodeRequest(ExitCodeType.FAILURE_SCAN));
-            });
+        return signatureScannerReports;
     }
 
     private void publishResults(SignatureScannerReport signatureScannerReport) {
@@ -187,7 +267,7 @@ public class BlackDuckSignatureScanner {
 
     private SignatureScanPath createScanPath(Path path, Integer maxDepth, List<String> exclusionPatterns) {
         File target = path.toFile();
-        ExclusionPatternCreator exclusionPatternCreator = new ExclusionPatternCreator(fileFinder, fileFilter, target);
+        ExclusionPatternCreator exclusionPatternCreator = new ExclusionPatternCreator(fileFilter, target);
 
         Set<String> scanExclusionPatterns = new HashSet<>();
 
@@ -27,6 +27,8 @@ public class BlackDuckSignatureScannerOptions {
     private final String userProvidedScannerInstallUrl;
 
     private final Integer scanMemory;
+    @Nullable //When null, as many scanners as there are parallel processors may run at once.
+    private final Integer totalScanMemory;
     private final Integer parallelProcessors;
     private final Boolean dryRun;
 
@@ -64,6 +66,29 @@ public class BlackDuckSignatureScannerOptions {
         @Nullable IndividualFileMatching individualFileMatching,
         Boolean licenseSearch,
         Boolean copyrightSearch) {
+        this(signatureScannerPaths, exclusionPatterns, offlineLocalScannerInstallPath, onlineLocalScannerInstallPath, userProvidedScannerInstallUrl, scanMemory, null, parallelProcessors, dryRun, snippetMatching, uploadSource,
+            codeLocationPrefix, codeLocationSuffix, additionalArguments, maxDepth, individualFileMatching, licenseSearch, copyrightSearch);
+    }
+
+    public BlackDuckSignatureScannerOptions(
+        List<Path> signatureScannerPaths,
+        List<String> exclusionPatterns,
+        @Nullable Path offlineLocalScannerInstallPath,
+        @Nullable Path onlineLocalScannerInstallPath,
+        @Nullable String userProvidedScannerInstallUrl,
+        Integer scanMemory,
+        @Nullable Integer totalScanMemory,
+        Integer parallelProcessors,
+        Boolean dryRun,
+        @Nullable SnippetMatching snippetMatching,
+        @Nullable Boolean uploadSource,
+        @Nullable String codeLocationPrefix,
+        @Nullable String codeLocationSuffix,
+        @Nullable String additionalArguments,
+        Integer maxDepth,
+        @Nullable IndividualFileMatching individualFileMatching,
+        Boolean licenseSearch,
+        Boolean copyrightSearch) {
 
         this.signatureScannerPaths = signatureScannerPaths;
         this.exclusionPatterns = exclusionPatterns;
@@ -71,6 +96,7 @@ public class BlackDuckSignatureScannerOptions {
         this.onlineLocalScannerInstallPath = onlineLocalScannerInstallPath;
         this.userProvidedScannerInstallUrl = userProvidedScannerInstallUrl;
         this.scanMemory = scanMemory;
+        this.totalScanMemory = totalScanMemory;
         this.parallelProcessors = parallelProcessors;
         this.dryRun = dryRun;
         this.snippetMatching = snippetMatching;
@@ -96,6 +122,10 @@ public class BlackDuckSignatureScannerOptions {
         return scanMemory;
     }
 
+    public Optional<Integer> getTotalScanMemory() {
+        return Optional.ofNullable(totalScanMemory);
+    }
+
     public Integer getParallelProcessors() {
         return parallelProcessors;
     }
@@ -16,36 +16,16 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Enumeration;
-import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
-import java.util.zip.ZipOutputStream;
 
 import org.apache.commons.compress.utils.IOUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 public class DetectZipUtil {
-    private static final Logger logger = LoggerFactory.getLogger(DetectZipUtil.class);
-
     public static void unzip(final File zip, final File dest) throws IOException {
         unzip(zip, dest, Charset.defaultCharset());
     }
 
-    public static void zip(final File zip, final Map<String, Path> entries) throws IOException {
-        try (final FileOutputStream fileStream = new FileOutputStream(zip)) {
-            try (final ZipOutputStream outputStream = new ZipOutputStream(fileStream)) {
-                for (final Map.Entry<String, Path> entry : entries.entrySet()) {
-                    logger.info("Adding entry '{}' to zip as '{}'.", entry.getValue().toString(), entry.getKey());
-                    outputStream.putNextEntry(new ZipEntry(entry.getKey()));
-                    final byte[] bytes = Files.readAllBytes(entry.getValue());
-                    outputStream.write(bytes, 0, bytes.length);
-                    outputStream.closeEntry();
-                }
-            }
-        }
-    }
-
     public static void unzip(final File zip, final File dest, final Charset charset) throws IOException {
         final Path destPath = dest.toPath();
         try (final ZipFile zipFile = new ZipFile(zip, ZipFile.OPEN_READ, charset)) {
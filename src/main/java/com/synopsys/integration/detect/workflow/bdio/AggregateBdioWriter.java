@@ -8,14 +8,8 @@
 package com.synopsys.integration.detect.workflow.bdio;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
 import java.time.ZonedDateTime;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import com.blackducksoftware.bdio2.BdioMetadata;
 import com.blackducksoftware.bdio2.model.Project;
 import com.blackducksoftware.common.value.ProductList;
@@ -25,14 +19,10 @@ import com.synopsys.integration.bdio.model.SimpleBdioDocument;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.blackduck.bdio2.model.Bdio2Document;
 import com.synopsys.integration.blackduck.bdio2.util.Bdio2Factory;
-import com.synopsys.integration.blackduck.bdio2.util.Bdio2Writer;
 import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
-import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 import com.synopsys.integration.util.NameVersion;
 
 public class AggregateBdioWriter {
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
-
     private final Bdio2Factory bdio2Factory;
     private final SimpleBdioFactory simpleBdioFactory;
     private final DetectBdioWriter detectBdioWriter;
@@ -66,13 +56,6 @@ public class AggregateBdioWriter {
         Project project = bdio2Factory.createProject(projectExternalId, projectNameVersion.getName(), projectNameVersion.getVersion());
         Bdio2Document bdio2Document = bdio2Factory.createBdio2Document(bdioMetadata, project, aggregateDependencyGraph);
 
-        Bdio2Writer bdio2Writer = new Bdio2Writer();
-        try {
-            OutputStream outputStream = new FileOutputStream(aggregateFile);
-            bdio2Writer.writeBdioDocument(outputStream, bdio2Document);
-            logger.debug(String.format("BDIO Generated: %s", aggregateFile.getAbsolutePath()));
-        } catch (IOException e) {
-            throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_GENERAL_ERROR);
-        }
+        detectBdioWriter.writeBdio2File(aggregateFile, bdio2Document);
     }
 }
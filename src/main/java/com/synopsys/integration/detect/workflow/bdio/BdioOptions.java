@@ -12,12 +12,33 @@ public class BdioOptions {
     private final String projectCodeLocationSuffix;
     private final String projectCodeLocationPrefix;
     private final boolean enabledLegacyUpload;
+    private final int creationThreads;
+    private final int uploadThreads;
+    private final int uploadRetries;
+    private final boolean uploadResumeEnabled;
 
     public BdioOptions(boolean enabledBdio2, String projectCodeLocationPrefix, String projectCodeLocationSuffix, boolean enabledLegacyUpload) {
+        this(enabledBdio2, projectCodeLocationPrefix, projectCodeLocationSuffix, enabledLegacyUpload, 1);
+    }
+
+    public BdioOptions(boolean enabledBdio2, String projectCodeLocationPrefix, String projectCodeLocationSuffix, boolean enabledLegacyUpload, int creationThreads) {
+        this(enabledBdio2, projectCodeLocationPrefix, projectCodeLocationSuffix, enabledLegacyUpload, creationThreads, 1, 0);
+    }
+
+    public BdioOptions(boolean enabledBdio2, String projectCodeLocationPrefix, String projectCodeLocationSuffix, boolean enabledLegacyUpload, int creationThreads, int uploadThreads, int uploadRetries) {
+        this(enabledBdio2, projectCodeLocationPrefix, projectCodeLocationSuffix, enabledLegacyUpload, creationThreads, uploadThreads, uploadRetries, false);
+    }
+
+    public BdioOptions(boolean enabledBdio2, String projectCodeLocationPrefix, String projectCodeLocationSuffix, boolean enabledLegacyUpload, int creationThreads, int uploadThreads, int uploadRetries,
+        boolean uploadResumeEnabled) {
         this.enabledBdio2 = enabledBdio2;
         this.projectCodeLocationSuffix = projectCodeLocationSuffix;
         this.projectCodeLocationPrefix = projectCodeLocationPrefix;
         this.enabledLegacyUpload = enabledLegacyUpload;
+        this.creationThreads = creationThreads;
+        this.uploadThreads = uploadThreads;
+        this.uploadRetries = uploadRetries;
+        this.uploadResumeEnabled = uploadResumeEnabled;
     }
 
     public String getProjectCodeLocationSuffix() {
@@ -35,4 +56,20 @@ public class BdioOptions {
     public boolean isLegacyUploadEnabled() {
         return enabledLegacyUpload;
     }
+
+    public int getCreationThreads() {
+        return creationThreads;
+    }
+
+    public int getUploadThreads() {
+        return uploadThreads;
+    }
+
+    public int getUploadRetries() {
+        return uploadRetries;
+    }
+
+    public boolean isUploadResumeEnabled() {
+        return uploadResumeEnabled;
+    }
 }
@@ -8,12 +8,13 @@
 package com.synopsys.integration.detect.workflow.bdio;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,7 +30,6 @@ import com.synopsys.integration.bdio.model.SpdxCreator;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.blackduck.bdio2.model.Bdio2Document;
 import com.synopsys.integration.blackduck.bdio2.util.Bdio2Factory;
-import com.synopsys.integration.blackduck.bdio2.util.Bdio2Writer;
 import com.synopsys.integration.blackduck.codelocation.upload.UploadTarget;
 import com.synopsys.integration.detect.configuration.DetectInfo;
 import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
@@ -44,71 +44,106 @@ public class CodeLocationBdioCreator {
     private final SimpleBdioFactory simpleBdioFactory;
     private final Bdio2Factory bdio2Factory;
     private final DetectInfo detectInfo;
+    private final int creationThreads;
 
     public CodeLocationBdioCreator(DetectBdioWriter detectBdioWriter, SimpleBdioFactory simpleBdioFactory, Bdio2Factory bdio2Factory, DetectInfo detectInfo) {
+        this(detectBdioWriter, simpleBdioFactory, bdio2Factory, detectInfo, 1);
+    }
+
+    public CodeLocationBdioCreator(DetectBdioWriter detectBdioWriter, SimpleBdioFactory simpleBdioFactory, Bdio2Factory bdio2Factory, DetectInfo detectInfo, int creationThreads) {
         this.detectBdioWriter = detectBdioWriter;
         this.simpleBdioFactory = simpleBdioFactory;
         this.bdio2Factory = bdio2Factory;
         this.detectInfo = detectInfo;
+        this.creationThreads = creationThreads;
     }
 
     public List<UploadTarget> createBdioFiles(File bdioOutput, List<BdioCodeLocation> bdioCodeLocations, NameVersion projectNameVersion, boolean bdio2) throws DetectUserFriendlyException {
-        if (bdio2) {
-            return createBdio2Files(bdioOutput, bdioCodeLocations, projectNameVersion);
-        } else {
-            return createBdio1Files(bdioOutput, bdioCodeLocations, projectNameVersion);
-        }
-    }
-
-    private List<UploadTarget> createBdio1Files(File bdioOutput, List<BdioCodeLocation> bdioCodeLocations, NameVersion projectNameVersion) throws DetectUserFriendlyException {
-        List<UploadTarget> uploadTargets = new ArrayList<>();
+        List<BdioFileTask> bdioFileTasks = new ArrayList<>(bdioCodeLocations.size());
         for (BdioCodeLocation bdioCodeLocation : bdioCodeLocations) {
-            String codeLocationName = bdioCodeLocation.getCodeLocationName();
-            ExternalId externalId = bdioCodeLocation.getDetectCodeLocation().getExternalId();
-            DependencyGraph dependencyGraph = bdioCodeLocation.getDetectCodeLocation().getDependencyGraph();
-
-            File bdioOutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".jsonld");
-            SimpleBdioDocument simpleBdioDocument = simpleBdioFactory.createSimpleBdioDocument(codeLocationName, projectNameVersion.getName(), projectNameVersion.getVersion(), externalId, dependencyGraph);
+            if (bdio2) {
+                bdioFileTasks.add(() -> createBdio2File(bdioOutput, bdioCodeLocation, projectNameVersion));
+            } else {
+                bdioFileTasks.add(() -> createBdio1File(bdioOutput, bdioCodeLocation, projectNameVersion));
+            }
+        }
 
-            detectBdioWriter.writeBdioFile(bdioOutputFile, simpleBdioDocument);
-            uploadTargets.add(UploadTarget.createDefault(projectNameVersion, codeLocationName, bdioOutputFile));
+        int threads = Math.min(creationThreads, bdioFileTasks.size());
+        if (threads > 1) {
+            return createBdioFilesInParallel(bdioFileTasks, threads);
         }
 
+        List<UploadTarget> uploadTargets = new ArrayList<>(bdioFileTasks.size());
+        for (BdioFileTask bdioFileTask : bdioFileTasks) {
+            uploadTargets.add(bdioFileTask.create());
+        }
         return uploadTargets;
     }
 
-    private List<UploadTarget> createBdio2Files(File bdioOutput, List<BdioCodeLocation> bdioCodeLocations, NameVersion projectNameVersion) throws DetectUserFriendlyException {
-        List<UploadTarget> uploadTargets = new ArrayList<>();
-        for (BdioCodeLocation bdioCodeLocation : bdioCodeLocations) {
-            String codeLocationName = bdioCodeLocation.getCodeLocationName();
-            ExternalId externalId = bdioCodeLocation.getDetectCodeLocation().getExternalId();
-            DependencyGraph dependencyGraph = bdioCodeLocation.getDetectCodeLocation().getDependencyGraph();
-
-            // Bdio 2
-            ProductList.Builder productListBuilder = new ProductList.Builder();
-            String detectVersion = detectInfo.getDetectVersion();
-            SpdxCreator detectCreator = SpdxCreator.createToolSpdxCreator("Detect", detectVersion);
-            Product product = new Product.Builder().name(detectCreator.getIdentifier()).build();
-            productListBuilder.addProduct(product);
-
-            BdioMetadata bdioMetadata = bdio2Factory.createBdioMetadata(codeLocationName, ZonedDateTime.now(), productListBuilder);
-            Project bdio2Project = bdio2Factory.createProject(externalId, projectNameVersion.getName(), projectNameVersion.getVersion());
-            Bdio2Document bdio2Document = bdio2Factory.createBdio2Document(bdioMetadata, bdio2Project, dependencyGraph);
-
-            Bdio2Writer bdio2Writer = new Bdio2Writer();
-            File bdio2OutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".bdio");
-
-            try {
-                OutputStream outputStream = new FileOutputStream(bdio2OutputFile);
-                bdio2Writer.writeBdioDocument(outputStream, bdio2Document);
-                logger.debug(String.format("BDIO Generated: %s", bdio2OutputFile.getAbsolutePath()));
-
-                uploadTargets.add(UploadTarget.createDefault(projectNameVersion, codeLocationName, bdio2OutputFile));
-            } catch (IOException e) {
-                throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_GENERAL_ERROR);
+    // Each worker builds, writes and releases one document at a time, so at most one document per thread is held in memory.
+    // Upload targets are returned in code location order and the first failure (in that order) is thrown.
+    private List<UploadTarget> createBdioFilesInParallel(List<BdioFileTask> bdioFileTasks, int threads) throws DetectUserFriendlyException {
+        logger.debug(String.format("Creating %d BDIO files using %d threads.", bdioFileTasks.size(), threads));
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<UploadTarget>> uploadTargetFutures = new ArrayList<>(bdioFileTasks.size());
+            for (BdioFileTask bdioFileTask : bdioFileTasks) {
+                uploadTargetFutures.add(executorService.submit(bdioFileTask::create));
             }
+
+            List<UploadTarget> uploadTargets = new ArrayList<>(bdioFileTasks.size());
+            for (Future<UploadTarget> uploadTargetFuture : uploadTargetFutures) {
+                uploadTargets.add(uploadTargetFuture.get());
+            }
+            return uploadTargets;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DetectUserFriendlyException("Interrupted while creating BDIO files.", e, ExitCodeType.FAILURE_GENERAL_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DetectUserFriendlyException) {
+                throw (DetectUserFriendlyException) e.getCause();
+            }
+            throw new DetectUserFriendlyException(e.getCause().getMessage(), e.getCause(), ExitCodeType.FAILURE_GENERAL_ERROR);
+        } finally {
+            executorService.shutdownNow();
         }
+    }
 
-        return uploadTargets;
+    private UploadTarget createBdio1File(File bdioOutput, BdioCodeLocation bdioCodeLocation, NameVersion projectNameVersion) throws DetectUserFriendlyException {
+        String codeLocationName = bdioCodeLocation.getCodeLocationName();
+        ExternalId externalId = bdioCodeLocation.getDetectCodeLocation().getExternalId();
+        DependencyGraph dependencyGraph = bdioCodeLocation.getDetectCodeLocation().getDependencyGraph();
+
+        File bdioOutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".jsonld");
+        SimpleBdioDocument simpleBdioDocument = simpleBdioFactory.createSimpleBdioDocument(codeLocationName, projectNameVersion.getName(), projectNameVersion.getVersion(), externalId, dependencyGraph);
+
+        detectBdioWriter.writeBdioFile(bdioOutputFile, simpleBdioDocument);
+        return UploadTarget.createDefault(projectNameVersion, codeLocationName, bdioOutputFile);
+    }
+
+    private UploadTarget createBdio2File(File bdioOutput, BdioCodeLocation bdioCodeLocation, NameVersion projectNameVersion) throws DetectUserFriendlyException {
+        String codeLocationName = bdioCodeLocation.getCodeLocationName();
+        ExternalId externalId = bdioCodeLocation.getDetectCodeLocation().getExternalId();
+        DependencyGraph dependencyGraph = bdioCodeLocation.getDetectCodeLocation().getDependencyGraph();
+
+        // Bdio 2
+        ProductList.Builder productListBuilder = new ProductList.Builder();
+        String detectVersion = detectInfo.getDetectVersion();
+        SpdxCreator detectCreator = SpdxCreator.createToolSpdxCreator("Detect", detectVersion);
+        Product product = new Product.Builder().name(detectCreator.getIdentifier()).build();
+        productListBuilder.addProduct(product);
+
+        BdioMetadata bdioMetadata = bdio2Factory.createBdioMetadata(codeLocationName, ZonedDateTime.now(), productListBuilder);
+        Project bdio2Project = bdio2Factory.createProject(externalId, projectNameVersion.getName(), projectNameVersion.getVersion());
+        Bdio2Document bdio2Document = bdio2Factory.createBdio2Document(bdioMetadata, bdio2Project, dependencyGraph);
+
+        File bdio2OutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".bdio");
+        detectBdioWriter.writeBdio2File(bdio2OutputFile, bdio2Document);
+        return UploadTarget.createDefault(projectNameVersion, codeLocationName, bdio2OutputFile);
+    }
+
+    @FunctionalInterface
+    private interface BdioFileTask {
+        UploadTarget create() throws DetectUserFriendlyException;
     }
 }
@@ -7,8 +7,11 @@
  */
 package com.synopsys.integration.detect.workflow.bdio;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,11 +19,16 @@ import org.slf4j.LoggerFactory;
 import com.synopsys.integration.bdio.SimpleBdioFactory;
 import com.synopsys.integration.bdio.model.SimpleBdioDocument;
 import com.synopsys.integration.bdio.model.SpdxCreator;
+import com.synopsys.integration.blackduck.bdio2.model.Bdio2Document;
+import com.synopsys.integration.blackduck.bdio2.util.Bdio2Writer;
 import com.synopsys.integration.detect.configuration.DetectInfo;
 import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 
 public class DetectBdioWriter {
+    // BDIO2 files are already zip archives of compressed entries, so the writes are only buffered (Black Duck expects the archive as is).
+    private static final int BDIO2_BUFFER_SIZE = 64 * 1024;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final SimpleBdioFactory simpleBdioFactory;
     private final DetectInfo detectInfo;
@@ -46,4 +54,14 @@ public class DetectBdioWriter {
             throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_GENERAL_ERROR);
         }
     }
+
+    public void writeBdio2File(final File outputFile, final Bdio2Document bdio2Document) throws DetectUserFriendlyException {
+        final Bdio2Writer bdio2Writer = new Bdio2Writer();
+        try (final OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(outputFile), BDIO2_BUFFER_SIZE)) {
+            bdio2Writer.writeBdioDocument(outputStream, bdio2Document);
+            logger.debug(String.format("BDIO Generated: %s", outputFile.getAbsolutePath()));
+        } catch (final IOException e) {
+            throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_GENERAL_ERROR);
+        }
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.workflow.blackduck;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.synopsys.integration.blackduck.codelocation.upload.UploadTarget;
+
+// Records the upload targets Black Duck has accepted, so a run resuming a failed or interrupted upload only sends the rest.
+// A target is identified by the server, its code location name and a fingerprint of its BDIO content that leaves out what changes every time the BDIO is generated
+// (creation times and random document ids), so regenerating the BDIO for an unchanged code location still matches.
+// The manifest is rewritten (through a temporary file) after every accepted target, so targets accepted before a failure or an interruption are kept.
+// Only the most recently accepted targets are kept so the manifest does not grow without bound.
+public class BdioUploadManifest {
+    public static final int DEFAULT_MAX_ACCEPTED_TARGETS = 5000;
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 8192;
+    private static final String RANDOM_ID_PREFIX = "uuid:";
+    private static final String CREATION_TIME_SUFFIX = "creationdatetime";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final File manifestFile;
+    private final Gson gson;
+    private final String scope;
+    private final int maxAcceptedTargets;
+    private final Set<String> acceptedTargets = new LinkedHashSet<>();
+
+    public BdioUploadManifest(File manifestFile, Gson gson) {
+        this(manifestFile, gson, "", DEFAULT_MAX_ACCEPTED_TARGETS);
+    }
+
+    // The scope (the Black Duck url) keeps a target accepted by one server from being skipped when uploading to another.
+    public BdioUploadManifest(File manifestFile, Gson gson, String scope, int maxAcceptedTargets) {
+        this.manifestFile = manifestFile;
+        this.gson = gson;
+        this.scope = scope;
+        this.maxAcceptedTargets = maxAcceptedTargets;
+        load();
+    }
+
+    // The key is computed from the whole BDIO content, so it is computed once per target and passed to isAccepted and recordAccepted.
+    public String createKey(UploadTarget uploadTarget) throws IOException {
+        return scope + "|" + uploadTarget.getCodeLocationName() + ":" + fingerprintFile(uploadTarget.getUploadFile());
+    }
+
+    public synchronized boolean isAccepted(String key) {
+        return acceptedTargets.contains(key);
+    }
+
+    public synchronized void recordAccepted(String key) throws IOException {
+        acceptedTargets.remove(key);
+        acceptedTargets.add(key);
+        Iterator<String> oldestFirst = acceptedTargets.iterator();
+        while (acceptedTargets.size() > maxAcceptedTargets && oldestFirst.hasNext()) {
+            oldestFirst.next();
+            oldestFirst.remove();
+        }
+
+        Path manifestDirectory = manifestFile.getAbsoluteFile().getParentFile().toPath();
+        Files.createDirectories(manifestDirectory);
+        Path temporaryFile = Files.createTempFile(manifestDirectory, manifestFile.getName(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                gson.toJson(acceptedTargets, writer);
+            }
+            Files.move(temporaryFile, manifestFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private void load() {
+        if (!manifestFile.isFile()) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(manifestFile.toPath(), StandardCharsets.UTF_8)) {
+            List<String> storedTargets = gson.fromJson(reader, new TypeToken<List<String>>() {}.getType());
+            if (storedTargets != null) {
+                int skip = Math.max(0, storedTargets.size() - maxAcceptedTargets);
+                acceptedTargets.addAll(storedTargets.subList(skip, storedTargets.size()));
+            }
+        } catch (IOException | JsonParseException e) {
+            logger.debug("Unable to read the BDIO upload manifest, all BDIO files will be uploaded.", e);
+        }
+    }
+
+    // BDIO 2 files are zips of json-ld entries, BDIO 1 files are a single json-ld document.
+    private String fingerprintFile(File uploadFile) throws IOException {
+        ZipFile zipFile;
+        try {
+            zipFile = new ZipFile(uploadFile);
+        } catch (ZipException notAZip) {
+            return fingerprintDocument(() -> Files.newInputStream(uploadFile.toPath()));
+        }
+        try {
+            Map<String, String> entryFingerprints = new TreeMap<>();
+            for (ZipEntry zipEntry : Collections.list(zipFile.entries())) {
+                entryFingerprints.put(zipEntry.getName(), fingerprintDocument(() -> zipFile.getInputStream(zipEntry)));
+            }
+            return hash(entryFingerprints.toString());
+        } finally {
+            zipFile.close();
+        }
+    }
+
+    // The document is read as a stream so only the fingerprints of the values being read are held, never the document itself.
+    private String fingerprintDocument(DocumentSource documentSource) throws IOException {
+        try (JsonReader jsonReader = new JsonReader(new InputStreamReader(documentSource.open(), StandardCharsets.UTF_8))) {
+            String fingerprint = fingerprintJson(jsonReader);
+            if (jsonReader.peek() == JsonToken.END_DOCUMENT) {
+                return fingerprint;
+            }
+        } catch (IOException | IllegalStateException | NumberFormatException notJson) {
+            logger.trace("BDIO content is not json, using the whole content as its fingerprint.", notJson);
+        }
+        try (InputStream inputStream = documentSource.open()) {
+            return hash(inputStream);
+        }
+    }
+
+    // Object members are taken in name order and array elements are combined by adding their digests, so the fingerprint does not depend on the order the graph was written in.
+    private String fingerprintJson(JsonReader jsonReader) throws IOException {
+        switch (jsonReader.peek()) {
+            case BEGIN_OBJECT:
+                Map<String, String> members = new TreeMap<>();
+                jsonReader.beginObject();
+                while (jsonReader.hasNext()) {
+                    String name = jsonReader.nextName();
+                    if (name.toLowerCase(Locale.ROOT).endsWith(CREATION_TIME_SUFFIX)) {
+                        jsonReader.skipValue();
+                    } else {
+                        members.put(name, fingerprintJson(jsonReader));
+                    }
+                }
+                jsonReader.endObject();
+                return hash("{" + gson.toJson(members) + "}");
+            case BEGIN_ARRAY:
+                BigInteger digestSum = BigInteger.ZERO;
+                int elementCount = 0;
+                jsonReader.beginArray();
+                while (jsonReader.hasNext()) {
+                    digestSum = digestSum.add(new BigInteger(1, digest(fingerprintJson(jsonReader).getBytes(StandardCharsets.UTF_8))));
+                    elementCount++;
+                }
+                jsonReader.endArray();
+                return hash("[" + elementCount + ":" + digestSum.toString(16) + "]");
+            case STRING:
+                String value = jsonReader.nextString();
+                return value.startsWith(RANDOM_ID_PREFIX) ? RANDOM_ID_PREFIX : gson.toJson(value);
+            case NUMBER:
+                return jsonReader.nextString();
+            case BOOLEAN:
+                return String.valueOf(jsonReader.nextBoolean());
+            case NULL:
+                jsonReader.nextNull();
+                return "null";
+            default:
+                throw new IllegalStateException("Unexpected json token " + jsonReader.peek());
+        }
+    }
+
+    private String hash(String value) throws IOException {
+        return toHex(digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String hash(InputStream inputStream) throws IOException {
+        MessageDigest messageDigest = createDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            messageDigest.update(buffer, 0, read);
+        }
+        return toHex(messageDigest.digest());
+    }
+
+    private byte[] digest(byte[] value) throws IOException {
+        return createDigest().digest(value);
+    }
+
+    private MessageDigest createDigest() throws IOException {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("The " + HASH_ALGORITHM + " algorithm is not available.", e);
+        }
+    }
+
+    private String toHex(byte[] value) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : value) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    @FunctionalInterface
+    private interface DocumentSource {
+        InputStream open() throws IOException;
+    }
+}
@@ -7,6 +7,19 @@
  */
 package com.synopsys.integration.detect.workflow.blackduck;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,6 +32,7 @@ import com.synopsys.integration.blackduck.codelocation.upload.UploadBatch;
 import com.synopsys.integration.blackduck.codelocation.upload.UploadBatchOutput;
 import com.synopsys.integration.blackduck.codelocation.upload.UploadOutput;
 import com.synopsys.integration.blackduck.codelocation.upload.UploadTarget;
+import com.synopsys.integration.blackduck.service.model.NotificationTaskRange;
 import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
 import com.synopsys.integration.detect.configuration.enumeration.BlackduckScanMode;
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
@@ -26,59 +40,195 @@ import com.synopsys.integration.detect.workflow.bdio.BdioOptions;
 import com.synopsys.integration.detect.workflow.bdio.BdioResult;
 import com.synopsys.integration.detect.workflow.status.OperationSystem;
 import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.rest.exception.IntegrationRestException;
 
+// Uploads each BDIO file on its own, on up to the configured number of threads, retrying uploads that failed for a transient reason with an increasing delay.
+// When resuming is enabled, accepted files are recorded in the upload manifest so that re-running a failed upload only sends those that were not accepted.
 public class DetectBdioUploadService {
     private static final String OPERATION_NAME = "Black Duck BDIO Upload";
+    private static final long DEFAULT_RETRY_DELAY_MILLIS = 2000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 30000;
+
     private final Logger logger = LoggerFactory.getLogger(DetectBdioUploadService.class);
     private final OperationSystem operationSystem;
     private final BdioOptions bdioOptions;
+    @Nullable
+    private final BdioUploadManifest uploadManifest;
+    private final long retryDelayMillis;
 
     public DetectBdioUploadService(OperationSystem operationSystem, BdioOptions bdioOptions) {
+        this(operationSystem, bdioOptions, null);
+    }
+
+    public DetectBdioUploadService(OperationSystem operationSystem, BdioOptions bdioOptions, @Nullable BdioUploadManifest uploadManifest) {
+        this(operationSystem, bdioOptions, uploadManifest, DEFAULT_RETRY_DELAY_MILLIS);
+    }
+
+    public DetectBdioUploadService(OperationSystem operationSystem, BdioOptions bdioOptions, @Nullable BdioUploadManifest uploadManifest, long retryDelayMillis) {
         this.operationSystem = operationSystem;
         this.bdioOptions = bdioOptions;
+        this.uploadManifest = uploadManifest;
+        this.retryDelayMillis = retryDelayMillis;
     }
 
-    public CodeLocationCreationData<UploadBatchOutput> uploadBdioFiles(BlackduckScanMode scanMode, BdioResult bdioResult, BdioUploadService bdioUploadService, Bdio2UploadService bdio2UploadService,
+    // Empty when every BDIO file was already accepted.
+    public Optional<CodeLocationCreationData<UploadBatchOutput>> uploadBdioFiles(BlackduckScanMode scanMode, BdioResult bdioResult, BdioUploadService bdioUploadService, Bdio2UploadService bdio2UploadService,
         IntelligentPersistenceService intelligentPersistenceScanService) throws DetectUserFriendlyException, IntegrationException {
 
-        UploadBatch uploadBatch = createBatch(bdioResult);
-        CodeLocationCreationData<UploadBatchOutput> response;
-        try {
-            if (bdioOptions.isLegacyUploadEnabled()) {
-                response = legacyUpload(bdioResult, uploadBatch, bdioUploadService, bdio2UploadService);
-            } else {
-                logger.debug("Performing intelligent BDIO upload.");
-                response = intelligentPersistenceScanService.uploadBdio(uploadBatch);
+        BatchUploader batchUploader = chooseUploader(bdioResult, bdioUploadService, bdio2UploadService, intelligentPersistenceScanService);
+        Map<UploadTarget, String> uploadTargets = findTargetsToUpload(bdioResult);
+        if (uploadTargets.isEmpty()) {
+            logger.info("All BDIO files were already accepted by Black Duck, nothing to upload.");
+            operationSystem.completeWithSuccess(OPERATION_NAME);
+            return Optional.empty();
+        }
+
+        List<TargetUploadResult> targetUploadResults = uploadTargets(uploadTargets, batchUploader);
+
+        List<UploadOutput> uploadOutputs = new ArrayList<>();
+        NotificationTaskRange notificationTaskRange = null;
+        for (TargetUploadResult targetUploadResult : targetUploadResults) {
+            if (targetUploadResult.exception != null) {
+                logger.error("Error uploading bdio files", targetUploadResult.exception);
+                operationSystem.completeWithError(OPERATION_NAME, targetUploadResult.exception.getMessage());
+                throw targetUploadResult.exception;
             }
-        } catch (IntegrationException ex) {
-            logger.error("Error uploading bdio files", ex);
-            operationSystem.completeWithError(OPERATION_NAME, ex.getMessage());
-            throw ex;
+            targetUploadResult.response.getOutput().forEach(uploadOutputs::add);
+            notificationTaskRange = earliest(notificationTaskRange, targetUploadResult.response.getNotificationTaskRange());
         }
+
+        CodeLocationCreationData<UploadBatchOutput> response = new CodeLocationCreationData<>(notificationTaskRange, new UploadBatchOutput(uploadOutputs));
         checkForUploadFailure(response);
         operationSystem.completeWithSuccess(OPERATION_NAME);
 
-        return response;
+        return Optional.of(response);
     }
 
-    private CodeLocationCreationData<UploadBatchOutput> legacyUpload(BdioResult bdioResult, UploadBatch uploadBatch, BdioUploadService bdioUploadService, Bdio2UploadService bdio2UploadService) throws IntegrationException {
-        CodeLocationCreationData<UploadBatchOutput> response;
-        logger.debug("Performing legacy BDIO upload.");
-        if (bdioResult.isBdio2()) {
-            response = bdio2UploadService.uploadBdio(uploadBatch);
+    private BatchUploader chooseUploader(BdioResult bdioResult, BdioUploadService bdioUploadService, Bdio2UploadService bdio2UploadService, IntelligentPersistenceService intelligentPersistenceScanService) {
+        if (bdioOptions.isLegacyUploadEnabled()) {
+            logger.debug("Performing legacy BDIO upload.");
+            if (bdioResult.isBdio2()) {
+                return bdio2UploadService::uploadBdio;
+            } else {
+                return bdioUploadService::uploadBdio;
+            }
         } else {
-            response = bdioUploadService.uploadBdio(uploadBatch);
+            logger.debug("Performing intelligent BDIO upload.");
+            return intelligentPersistenceScanService::uploadBdio;
         }
-        return response;
     }
 
-    private UploadBatch createBatch(BdioResult bdioResult) {
-        UploadBatch uploadBatch = new UploadBatch();
+    // Maps each target to upload to its manifest key, which is null when there is no manifest or the key could not be created.
+    private Map<UploadTarget, String> findTargetsToUpload(BdioResult bdioResult) {
+        Map<UploadTarget, String> uploadTargets = new LinkedHashMap<>();
         for (UploadTarget uploadTarget : bdioResult.getUploadTargets()) {
-            logger.debug(String.format("Uploading %s", uploadTarget.getUploadFile().getName()));
-            uploadBatch.addUploadTarget(uploadTarget);
+            String manifestKey = createManifestKey(uploadTarget);
+            if (manifestKey != null && uploadManifest.isAccepted(manifestKey)) {
+                logger.info(String.format("Skipping %s, it was already accepted by Black Duck.", uploadTarget.getUploadFile().getName()));
+            } else {
+                logger.debug(String.format("Uploading %s", uploadTarget.getUploadFile().getName()));
+                uploadTargets.put(uploadTarget, manifestKey);
+            }
         }
-        return uploadBatch;
+        return uploadTargets;
+    }
+
+    // Results are returned in target order. A thread that is interrupted stops retrying and reports the interruption as its target's failure.
+    private List<TargetUploadResult> uploadTargets(Map<UploadTarget, String> uploadTargets, BatchUploader batchUploader) throws IntegrationException {
+        int threads = Math.min(bdioOptions.getUploadThreads(), uploadTargets.size());
+        List<TargetUploadResult> targetUploadResults = new ArrayList<>(uploadTargets.size());
+        if (threads <= 1) {
+            for (Map.Entry<UploadTarget, String> uploadTarget : uploadTargets.entrySet()) {
+                targetUploadResults.add(uploadWithRetries(uploadTarget.getKey(), uploadTarget.getValue(), batchUploader));
+            }
+            return targetUploadResults;
+        }
+
+        logger.debug(String.format("Uploading %d BDIO files using %d threads.", uploadTargets.size(), threads));
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<TargetUploadResult>> uploadFutures = new ArrayList<>(uploadTargets.size());
+            for (Map.Entry<UploadTarget, String> uploadTarget : uploadTargets.entrySet()) {
+                uploadFutures.add(executorService.submit(() -> uploadWithRetries(uploadTarget.getKey(), uploadTarget.getValue(), batchUploader)));
+            }
+            for (Future<TargetUploadResult> uploadFuture : uploadFutures) {
+                targetUploadResults.add(uploadFuture.get());
+            }
+            return targetUploadResults;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IntegrationException("Interrupted while uploading BDIO files.", e);
+        } catch (ExecutionException e) {
+            throw new IntegrationException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private TargetUploadResult uploadWithRetries(UploadTarget uploadTarget, @Nullable String manifestKey, BatchUploader batchUploader) {
+        String fileName = uploadTarget.getUploadFile().getName();
+        long delayMillis = retryDelayMillis;
+        for (int attempt = 0; ; attempt++) {
+            TargetUploadResult targetUploadResult = upload(uploadTarget, batchUploader);
+            if (targetUploadResult.isAccepted()) {
+                recordAccepted(uploadTarget, manifestKey);
+                return targetUploadResult;
+            }
+            if (attempt >= bdioOptions.getUploadRetries() || !targetUploadResult.isTransientFailure()) {
+                return targetUploadResult;
+            }
+
+            logger.warn(String.format("Upload of %s failed, retrying in %d seconds (%d of %d retries).", fileName, delayMillis / 1000, attempt + 1, bdioOptions.getUploadRetries()));
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new TargetUploadResult(null, new IntegrationException("Interrupted while waiting to retry the upload of " + fileName, e));
+            }
+            delayMillis = Math.min(delayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+        }
+    }
+
+    private TargetUploadResult upload(UploadTarget uploadTarget, BatchUploader batchUploader) {
+        UploadBatch uploadBatch = new UploadBatch();
+        uploadBatch.addUploadTarget(uploadTarget);
+        try {
+            return new TargetUploadResult(batchUploader.upload(uploadBatch), null);
+        } catch (IntegrationException e) {
+            return new TargetUploadResult(null, e);
+        }
+    }
+
+    @Nullable
+    private String createManifestKey(UploadTarget uploadTarget) {
+        if (uploadManifest == null) {
+            return null;
+        }
+        try {
+            return uploadManifest.createKey(uploadTarget);
+        } catch (IOException e) {
+            logger.debug(String.format("Unable to check the upload manifest for %s, it will be uploaded.", uploadTarget.getUploadFile().getName()), e);
+            return null;
+        }
+    }
+
+    private void recordAccepted(UploadTarget uploadTarget, @Nullable String manifestKey) {
+        if (uploadManifest == null || manifestKey == null) {
+            return;
+        }
+        try {
+            uploadManifest.recordAccepted(manifestKey);
+        } catch (IOException e) {
+            logger.debug(String.format("Unable to record %s in the upload manifest.", uploadTarget.getUploadFile().getName()), e);
+        }
+    }
+
+    @Nullable
+    private NotificationTaskRange earliest(@Nullable NotificationTaskRange current, @Nullable NotificationTaskRange candidate) {
+        if (current == null || candidate == null) {
+            return current != null ? current : candidate;
+        }
+        return Comparator.comparing(NotificationTaskRange::getStartDate).compare(candidate, current) < 0 ? candidate : current;
     }
 
     private void checkForUploadFailure(CodeLocationCreationData<UploadBatchOutput> response) throws DetectUserFriendlyException {
@@ -91,4 +241,63 @@ public class DetectBdioUploadService {
             }
         }
     }
+
+    @FunctionalInterface
+    private interface BatchUploader {
+        CodeLocationCreationData<UploadBatchOutput> upload(UploadBatch uploadBatch) throws IntegrationException;
+    }
+
+    private static class TargetUploadResult {
+        @Nullable
+        private final CodeLocationCreationData<UploadBatchOutput> response;
+        @Nullable
+        private final IntegrationException exception;
+
+        private TargetUploadResult(@Nullable CodeLocationCreationData<UploadBatchOutput> response, @Nullable IntegrationException exception) {
+            this.response = response;
+            this.exception = exception;
+        }
+
+        private boolean isAccepted() {
+            if (response == null) {
+                return false;
+            }
+            for (UploadOutput uploadOutput : response.getOutput()) {
+                if (uploadOutput.getResult() == Result.FAILURE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // A thrown exception means the upload did not complete and is retried unless Black Duck refused the request.
+        // A failure Black Duck reported for the file is only retried when it was caused by the server being unavailable or busy.
+        private boolean isTransientFailure() {
+            if (exception != null) {
+                return isTransient(exception, true);
+            }
+            if (response == null) {
+                return false;
+            }
+            for (UploadOutput uploadOutput : response.getOutput()) {
+                if (uploadOutput.getResult() == Result.FAILURE && uploadOutput.getException().map(failure -> isTransient(failure, false)).orElse(false)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isTransient(Throwable failure, boolean unknownIsTransient) {
+            for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+                if (cause instanceof IntegrationRestException) {
+                    int statusCode = ((IntegrationRestException) cause).getHttpStatusCode();
+                    return statusCode == 429 || statusCode >= 500;
+                }
+                if (cause instanceof IOException) {
+                    return true;
+                }
+            }
+            return unknownIsTransient;
+        }
+    }
 }
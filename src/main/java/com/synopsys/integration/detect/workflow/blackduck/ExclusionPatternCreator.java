@@ -9,7 +9,14 @@ package com.synopsys.integration.detect.workflow.blackduck;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -19,17 +26,13 @@ import org.apache.commons.collections.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.synopsys.integration.common.util.finder.FileFinder;
-
 public class ExclusionPatternCreator {
     private final Logger logger = LoggerFactory.getLogger(ExclusionPatternCreator.class);
 
-    private final FileFinder fileFinder;
     private final Predicate<File> fileFilter;
     private final File scanTarget;
 
-    public ExclusionPatternCreator(final FileFinder fileFinder, final Predicate<File> fileFilter, final File scanTarget) {
-        this.fileFinder = fileFinder;
+    public ExclusionPatternCreator(final Predicate<File> fileFilter, final File scanTarget) {
         this.fileFilter = fileFilter;
         this.scanTarget = scanTarget;
     }
@@ -41,15 +44,13 @@ public class ExclusionPatternCreator {
         final Set<String> scanExclusionPatterns = new HashSet<>();
 
         // Now use patterns to resolve exclusions that we will format and pass on to the signature scanner
+        final Path scanTargetPath = scanTarget.toPath();
+        if (!Files.isDirectory(scanTargetPath) || Files.isSymbolicLink(scanTargetPath)) {
+            return scanExclusionPatterns;
+        }
         try {
-            final String scanTargetPath = scanTarget.getCanonicalPath();
-            // TODO should we only collect directories since the scanner can only exclude directories?
-            final List<File> matchingFiles = fileFinder.findFiles(scanTarget, fileFilter, maxDepth); //TODO: re-add the depth hit message creator?
-            for (final File matchingFile : matchingFiles) {
-                final String matchingFilePath = matchingFile.getCanonicalPath();
-                final String scanExclusionPattern = createExclusionPatternFromPaths(scanTargetPath, matchingFilePath);
-                scanExclusionPatterns.add(scanExclusionPattern);
-            }
+            // Entries are searched down to maxDepth + 1 levels below the target.
+            Files.walkFileTree(scanTargetPath, EnumSet.noneOf(FileVisitOption.class), maxDepth + 1, new ExclusionPatternVisitor(scanTargetPath, scanExclusionPatterns));
         } catch (final IOException e) {
             logger.warn("Problem encountered finding the exclusion patterns for the scanner. " + e.getMessage());
             logger.debug(e.getMessage(), e);
@@ -57,8 +58,50 @@ public class ExclusionPatternCreator {
         return scanExclusionPatterns;
     }
 
-    private String createExclusionPatternFromPaths(final String rootPath, final String targetPath) {
-        String scanExclusionPattern = targetPath.replace(rootPath, "/");
+    // A single walk of the target that does not descend into excluded directories, since the scanner skips everything beneath them anyway.
+    // Patterns are made from the path relative to the target, so no entry needs to be canonicalized. Links are not followed.
+    private class ExclusionPatternVisitor extends SimpleFileVisitor<Path> {
+        private final Path scanTargetPath;
+        private final Set<String> scanExclusionPatterns;
+
+        private ExclusionPatternVisitor(final Path scanTargetPath, final Set<String> scanExclusionPatterns) {
+            this.scanTargetPath = scanTargetPath;
+            this.scanExclusionPatterns = scanExclusionPatterns;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(final Path directory, final BasicFileAttributes attributes) {
+            if (!directory.equals(scanTargetPath) && addIfExcluded(directory)) {
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+            if (!file.equals(scanTargetPath)) {
+                addIfExcluded(file);
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(final Path file, final IOException e) {
+            logger.debug(String.format("Unable to search %s for exclusions: %s", file, e.getMessage()));
+            return FileVisitResult.CONTINUE;
+        }
+
+        private boolean addIfExcluded(final Path path) {
+            if (!fileFilter.test(path.toFile())) {
+                return false;
+            }
+            scanExclusionPatterns.add(createExclusionPattern(scanTargetPath.relativize(path).toString()));
+            return true;
+        }
+    }
+
+    private String createExclusionPattern(final String relativePath) {
+        String scanExclusionPattern = "/" + relativePath;
         if (scanExclusionPattern.contains("\\\\")) {
             scanExclusionPattern = scanExclusionPattern.replace("\\\\", "/");
         }
@@ -8,7 +8,6 @@
 package com.synopsys.integration.detect.workflow.blackduck.developer;
 
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -50,16 +49,16 @@ public class BlackDuckRapidMode {
             return Collections.emptyList();
         }
 
-        List<DeveloperScanComponentResultView> results = new LinkedList<>();
         try {
             UploadBatch uploadBatch = new UploadBatch();
             for (UploadTarget uploadTarget : bdioResult.getUploadTargets()) {
                 logger.debug(String.format("Uploading %s", uploadTarget.getUploadFile().getName()));
                 uploadBatch.addUploadTarget(uploadTarget);
             }
-            results.addAll(rapidScanService.performScan(uploadBatch, timeoutInSeconds, DEFAULT_WAIT_INTERVAL_IN_SECONDS));
+            List<DeveloperScanComponentResultView> results = rapidScanService.performScan(uploadBatch, timeoutInSeconds, DEFAULT_WAIT_INTERVAL_IN_SECONDS);
             logger.debug("Rapid scan result count: {}", results.size());
             operationSystem.completeWithSuccess(OPERATION_NAME);
+            return results;
         } catch (IllegalArgumentException e) {
             String errorReason = String.format("Your Black Duck configuration is not valid: %s", e.getMessage());
             operationSystem.completeWithError(OPERATION_NAME, errorReason);
@@ -80,6 +79,5 @@ public class BlackDuckRapidMode {
             operationSystem.completeWithError(OPERATION_NAME, errorReason);
             throw new DetectUserFriendlyException(errorReason, e, ExitCodeType.FAILURE_GENERAL_ERROR);
         }
-        return results;
     }
 }
@@ -9,11 +9,14 @@ package com.synopsys.integration.detect.workflow.blackduck.developer;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.List;
 import java.util.Set;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
 import com.synopsys.integration.blackduck.api.manual.view.DeveloperScanComponentResultView;
 import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
@@ -21,7 +24,6 @@ import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodePublisher;
 import com.synopsys.integration.detect.workflow.blackduck.developer.aggregate.RapidScanAggregateResult;
 import com.synopsys.integration.detect.workflow.blackduck.developer.aggregate.RapidScanResultAggregator;
 import com.synopsys.integration.detect.workflow.blackduck.developer.aggregate.RapidScanResultSummary;
-import com.synopsys.integration.detect.workflow.file.DetectFileUtils;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
 import com.synopsys.integration.detect.workflow.status.OperationSystem;
 import com.synopsys.integration.detect.workflow.status.StatusEventPublisher;
@@ -82,16 +84,15 @@ public class BlackDuckRapidModePostActions {
             }
         }
 
-        String jsonString = gson.toJson(results);
-        logger.trace("Rapid Scan JSON result output: ");
-        logger.trace(String.format("%s", jsonString));
-        try {
-            DetectFileUtils.writeToFile(jsonScanFile, jsonString);
-        } catch (IOException ex) {
+        // The results are written to the file as they are serialized rather than being built into one string first.
+        try (Writer writer = Files.newBufferedWriter(jsonScanFile.toPath(), StandardCharsets.UTF_8)) {
+            gson.toJson(results, writer);
+        } catch (IOException | JsonIOException ex) {
             String errorReason = "Cannot create rapid scan output file";
             operationSystem.completeWithError(OPERATION_NAME, errorReason, ex.getMessage());
             throw new DetectUserFriendlyException(errorReason, ex, ExitCodeType.FAILURE_UNKNOWN_ERROR);
         }
+        logger.trace(String.format("Rapid Scan JSON result output: %s", jsonScanFile.getAbsolutePath()));
         return jsonScanFile;
     }
 
@@ -7,15 +7,14 @@
  */
 package com.synopsys.integration.detect.workflow.blackduck.developer.aggregate;
 
-import java.util.Collection;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 import com.synopsys.integration.blackduck.api.manual.view.DeveloperScanComponentResultView;
 import com.synopsys.integration.blackduck.api.manual.view.PolicyViolationLicenseView;
@@ -23,72 +22,78 @@ import com.synopsys.integration.blackduck.api.manual.view.PolicyViolationVulnera
 
 public class RapidScanResultAggregator {
     public RapidScanAggregateResult aggregateData(List<DeveloperScanComponentResultView> results) {
-        Collection<RapidScanComponentDetail> componentDetails = aggregateComponentData(results);
-        List<RapidScanComponentDetail> sortedByComponent = componentDetails.stream()
-                                                               .sorted(Comparator.comparing(RapidScanComponentDetail::getComponentIdentifier))
-                                                               .collect(Collectors.toList());
+        return aggregateData(results.stream());
+    }
+
+    // Results are consumed one at a time. Only the details of components with messages or policies are kept (in component identifier order), the rest add nothing to the result.
+    public RapidScanAggregateResult aggregateData(Stream<DeveloperScanComponentResultView> results) {
+        Map<String, List<RapidScanComponentDetail>> detailsByComponent = new TreeMap<>();
+        results.map(this::createComponentDetail)
+            .filter(this::hasContent)
+            .forEach(detail -> detailsByComponent.computeIfAbsent(detail.getComponentIdentifier(), key -> new ArrayList<>(1)).add(detail));
+
         Map<RapidScanDetailGroup, RapidScanComponentGroupDetail> aggregatedDetails = new HashMap<>();
         aggregatedDetails.put(RapidScanDetailGroup.POLICY, new RapidScanComponentGroupDetail(RapidScanDetailGroup.POLICY));
         aggregatedDetails.put(RapidScanDetailGroup.SECURITY, new RapidScanComponentGroupDetail(RapidScanDetailGroup.SECURITY));
         aggregatedDetails.put(RapidScanDetailGroup.LICENSE, new RapidScanComponentGroupDetail(RapidScanDetailGroup.LICENSE));
 
         RapidScanResultSummary.Builder summaryBuilder = new RapidScanResultSummary.Builder();
-        for (RapidScanComponentDetail detail : sortedByComponent) {
-            summaryBuilder.addDetailData(detail);
-            RapidScanDetailGroup securityGroupName = detail.getSecurityDetails().getGroup();
-            RapidScanDetailGroup licenseGroupName = detail.getLicenseDetails().getGroup();
-            RapidScanDetailGroup componentGroupName = detail.getComponentDetails().getGroup();
-
-            RapidScanComponentGroupDetail aggregatedSecurityDetail = aggregatedDetails.get(detail.getSecurityDetails().getGroup());
-            RapidScanComponentGroupDetail aggregatedLicenseDetail = aggregatedDetails.get(detail.getLicenseDetails().getGroup());
-            RapidScanComponentGroupDetail aggregatedComponentDetail = aggregatedDetails.get(detail.getComponentDetails().getGroup());
-
-            aggregatedComponentDetail.addErrors(detail.getComponentDetails().getErrorMessages());
-            aggregatedComponentDetail.addWarnings(detail.getComponentDetails().getWarningMessages());
-            aggregatedSecurityDetail.addErrors(detail.getSecurityDetails().getErrorMessages());
-            aggregatedSecurityDetail.addWarnings(detail.getSecurityDetails().getWarningMessages());
-            aggregatedLicenseDetail.addErrors(detail.getLicenseDetails().getErrorMessages());
-            aggregatedLicenseDetail.addWarnings(detail.getLicenseDetails().getWarningMessages());
+        for (List<RapidScanComponentDetail> componentDetails : detailsByComponent.values()) {
+            for (RapidScanComponentDetail detail : componentDetails) {
+                summaryBuilder.addDetailData(detail);
+                addGroupMessages(aggregatedDetails, detail.getComponentDetails());
+                addGroupMessages(aggregatedDetails, detail.getSecurityDetails());
+                addGroupMessages(aggregatedDetails, detail.getLicenseDetails());
+            }
         }
 
         return new RapidScanAggregateResult(summaryBuilder.build(), aggregatedDetails.get(RapidScanDetailGroup.POLICY), aggregatedDetails.get(RapidScanDetailGroup.SECURITY), aggregatedDetails.get(RapidScanDetailGroup.LICENSE));
     }
 
-    private List<RapidScanComponentDetail> aggregateComponentData(List<DeveloperScanComponentResultView> results) {
-        // the key is the component identifier
-        List<RapidScanComponentDetail> componentDetails = new LinkedList<>();
-        for (DeveloperScanComponentResultView resultView : results) {
-            String componentName = resultView.getComponentName();
-            RapidScanComponentDetail componentDetail = createDetail(resultView);
-            componentDetails.add(componentDetail);
-            RapidScanComponentGroupDetail componentGroupDetail = componentDetail.getComponentDetails();
-            RapidScanComponentGroupDetail securityGroupDetail = componentDetail.getSecurityDetails();
-            RapidScanComponentGroupDetail licenseGroupDetail = componentDetail.getLicenseDetails();
-
-            // violating policy names is a super set of policy names so we have to remove the vulnerability and license.
-            Set<String> policyNames = new LinkedHashSet<>(resultView.getViolatingPolicyNames());
-            Set<PolicyViolationVulnerabilityView> vulnerabilityViolations = resultView.getPolicyViolationVulnerabilities();
-            Set<PolicyViolationLicenseView> licenseViolations = resultView.getPolicyViolationLicenses();
-            Set<String> vulnerabilityPolicyNames = vulnerabilityViolations.stream()
-                                                       .map(PolicyViolationVulnerabilityView::getViolatingPolicyNames)
-                                                       .flatMap(Collection::stream)
-                                                       .collect(Collectors.toSet());
-
-            Set<String> licensePolicyNames = licenseViolations.stream()
-                                                 .map(PolicyViolationLicenseView::getViolatingPolicyNames)
-                                                 .flatMap(Collection::stream)
-                                                 .collect(Collectors.toSet());
-            policyNames.removeAll(vulnerabilityPolicyNames);
-            policyNames.removeAll(licensePolicyNames);
-
-            componentGroupDetail.addPolicies(policyNames);
-            securityGroupDetail.addPolicies(vulnerabilityPolicyNames);
-            licenseGroupDetail.addPolicies(licensePolicyNames);
-            componentGroupDetail.addMessages(resultView::getErrorMessage, resultView::getWarningMessage);
-            addVulnerabilityData(vulnerabilityViolations, securityGroupDetail);
-            addLicenseData(licenseViolations, licenseGroupDetail);
+    private void addGroupMessages(Map<RapidScanDetailGroup, RapidScanComponentGroupDetail> aggregatedDetails, RapidScanComponentGroupDetail groupDetail) {
+        RapidScanComponentGroupDetail aggregatedDetail = aggregatedDetails.get(groupDetail.getGroup());
+        aggregatedDetail.addErrors(groupDetail.getErrorMessages());
+        aggregatedDetail.addWarnings(groupDetail.getWarningMessages());
+    }
+
+    private boolean hasContent(RapidScanComponentDetail detail) {
+        return detail.hasErrors() || detail.hasWarnings()
+                   || !detail.getComponentDetails().getPolicyNames().isEmpty()
+                   || !detail.getSecurityDetails().getPolicyNames().isEmpty()
+                   || !detail.getLicenseDetails().getPolicyNames().isEmpty();
+    }
+
+    private RapidScanComponentDetail createComponentDetail(DeveloperScanComponentResultView resultView) {
+        RapidScanComponentDetail componentDetail = createDetail(resultView);
+        RapidScanComponentGroupDetail componentGroupDetail = componentDetail.getComponentDetails();
+        RapidScanComponentGroupDetail securityGroupDetail = componentDetail.getSecurityDetails();
+        RapidScanComponentGroupDetail licenseGroupDetail = componentDetail.getLicenseDetails();
+
+        // violating policy names is a super set of policy names so we have to remove the vulnerability and license.
+        Set<PolicyViolationVulnerabilityView> vulnerabilityViolations = resultView.getPolicyViolationVulnerabilities();
+        Set<PolicyViolationLicenseView> licenseViolations = resultView.getPolicyViolationLicenses();
+        Set<String> vulnerabilityPolicyNames = new LinkedHashSet<>();
+        for (PolicyViolationVulnerabilityView vulnerabilityViolation : vulnerabilityViolations) {
+            vulnerabilityPolicyNames.addAll(vulnerabilityViolation.getViolatingPolicyNames());
+        }
+        Set<String> licensePolicyNames = new LinkedHashSet<>();
+        for (PolicyViolationLicenseView licenseViolation : licenseViolations) {
+            licensePolicyNames.addAll(licenseViolation.getViolatingPolicyNames());
         }
-        return componentDetails;
+        Set<String> policyNames = new LinkedHashSet<>();
+        for (String policyName : resultView.getViolatingPolicyNames()) {
+            if (!vulnerabilityPolicyNames.contains(policyName) && !licensePolicyNames.contains(policyName)) {
+                policyNames.add(policyName);
+            }
+        }
+
+        componentGroupDetail.addPolicies(policyNames);
+        securityGroupDetail.addPolicies(vulnerabilityPolicyNames);
+        licenseGroupDetail.addPolicies(licensePolicyNames);
+        componentGroupDetail.addMessages(resultView::getErrorMessage, resultView::getWarningMessage);
+        addVulnerabilityData(vulnerabilityViolations, securityGroupDetail);
+        addLicenseData(licenseViolations, licenseGroupDetail);
+        return componentDetail;
     }
 
     private RapidScanComponentDetail createDetail(DeveloperScanComponentResultView view) {
@@ -12,20 +12,21 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+// Listeners are not thread safe, so events published by tools running concurrently are delivered one at a time.
 public class EventSystem {
     private final Map<EventType, List<EventListener>> eventListenerMap = new HashMap<>();
 
-    public <T> void publishEvent(final EventType<T> event, final T payload) {
+    public synchronized <T> void publishEvent(final EventType<T> event, final T payload) {
         for (final EventListener listener : safelyGetListeners(event)) {
             listener.eventOccurred(payload);
         }
     }
 
-    public <T> void registerListener(final EventType<T> event, final EventListener<T> listener) {
+    public synchronized <T> void registerListener(final EventType<T> event, final EventListener<T> listener) {
         safelyGetListeners(event).add(listener);
     }
 
-    public <T> void unregisterListener(final EventType<T> event, final EventListener<T> listener) {
+    public synchronized <T> void unregisterListener(final EventType<T> event, final EventListener<T> listener) {
         safelyGetListeners(event).remove(listener);
     }
 
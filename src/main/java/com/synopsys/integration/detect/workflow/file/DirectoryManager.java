@@ -12,6 +12,7 @@ import java.nio.file.Path;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -69,7 +70,7 @@ public class DirectoryManager {
     private final Map<OutputDirectory, File> outputDirectories = new HashMap<>();
     private final Map<RunDirectory, File> runDirectories = new HashMap<>();
 
-    private final Map<ExtractionId, File> extractionDirectories = new HashMap<>();
+    private final Map<ExtractionId, File> extractionDirectories = new ConcurrentHashMap<>();
 
     public DirectoryManager(DirectoryOptions directoryOptions, DetectRun detectRun) {
         sourceDirectory = directoryOptions.getSourcePathOverride()
@@ -127,16 +128,12 @@ public class DirectoryManager {
         return userHome;
     }
 
-    public File getExtractionOutputDirectory(ExtractionId extractionId) {
-        if (extractionDirectories.containsKey(extractionId)) {
-            return extractionDirectories.get(extractionId);
-        } else {
-            String directoryName = extractionId.toUniqueString();
-            File newDirectory = new File(getRunDirectory(RunDirectory.EXTRACTION), directoryName);
+    public File getExtractionOutputDirectory(ExtractionId extractionId) { // extractions run concurrently, so the directory is created at most once per id
+        return extractionDirectories.computeIfAbsent(extractionId, id -> {
+            File newDirectory = new File(getRunDirectory(RunDirectory.EXTRACTION), id.toUniqueString());
             newDirectory.mkdir();
-            extractionDirectories.put(extractionId, newDirectory);
             return newDirectory;
-        }
+        });
     }
 
     public File getSourceDirectory() {
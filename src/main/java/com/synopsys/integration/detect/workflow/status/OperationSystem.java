@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+// Operations may be started and completed by tools running concurrently, so access to the operations is synchronized.
 public class OperationSystem {
     private final Map<String, Operation> operationMap = new HashMap<>();
     private final StatusEventPublisher statusEventPublisher;
@@ -19,31 +20,31 @@ public class OperationSystem {
         this.statusEventPublisher = statusEventPublisher;
     }
 
-    public void beginOperation(String operationName) {
+    public synchronized void beginOperation(String operationName) {
         startOperation(operationName);
     }
 
-    public void completeWithSuccess(String operationName) {
+    public synchronized void completeWithSuccess(String operationName) {
         Operation operation = operationMap.computeIfAbsent(operationName, this::createNewOperation);
         operation.success();
     }
 
-    public void completeWithFailure(String operationName) {
+    public synchronized void completeWithFailure(String operationName) {
         Operation operation = operationMap.computeIfAbsent(operationName, this::createNewOperation);
         operation.fail();
 
     }
 
-    public void completeWithError(String operationName, String... errorMessages) {
+    public synchronized void completeWithError(String operationName, String... errorMessages) {
         Operation operation = operationMap.computeIfAbsent(operationName, this::createNewOperation);
         operation.error(errorMessages);
     }
 
-    public void publishOperations() {
+    public synchronized void publishOperations() {
         operationMap.values().forEach(this::publishOperation);
     }
 
-    public void publishOperation(Operation operation) {
+    public synchronized void publishOperation(Operation operation) {
         if (operation.getErrorMessages().length > 0) {
             statusEventPublisher.publishIssue(new DetectIssue(DetectIssueType.EXCEPTION, operation.getName(), Arrays.asList(operation.getErrorMessages())));
         }
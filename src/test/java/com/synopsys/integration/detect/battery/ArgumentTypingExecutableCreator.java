@@ -0,0 +1,80 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.battery;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.jupiter.api.Assertions;
+
+import freemarker.template.TemplateException;
+
+//This executable types the text of the resource registered for the arguments it is given, so it gives the same answers however many times, and in whatever order, it is run.
+public class ArgumentTypingExecutableCreator extends BatteryExecutableCreator {
+    private final Map<String, String> resourcesByArguments;
+
+    protected ArgumentTypingExecutableCreator(Map<String, String> resourcesByArguments) {
+        this.resourcesByArguments = resourcesByArguments;
+    }
+
+    @Override
+    public File createExecutable(final int id, final BatteryExecutableInfo executableInfo, final AtomicInteger commandCount) throws IOException, TemplateException {
+        List<Map<String, String>> outputs = new ArrayList<>();
+        for (Map.Entry<String, String> resourceByArguments : resourcesByArguments.entrySet()) {
+            String resource = resourceByArguments.getValue();
+            File commandTextFile = new File(executableInfo.getMockDirectory(), "cmd-" + commandCount.getAndIncrement() + ".txt");
+            try (InputStream commandText = BatteryFiles.asInputStream(resource)) {
+                Assertions.assertNotNull(commandText, "Unable to find resource: " + resource);
+                Files.copy(commandText, commandTextFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            Map<String, String> output = new HashMap<>();
+            output.put("arguments", resourceByArguments.getKey());
+            output.put("file", commandTextFile.getCanonicalPath());
+            outputs.add(output);
+        }
+
+        final Map<String, Object> model = new HashMap<>();
+        model.put("outputs", outputs);
+        final File commandFile;
+        if (SystemUtils.IS_OS_WINDOWS) {
+            commandFile = new File(executableInfo.getMockDirectory(), "exe-" + id + ".bat");
+            BatteryFiles.processTemplate("/typing-arguments-exe.ftl", commandFile, model, BatteryFiles.UTIL_RESOURCE_PREFIX);
+        } else {
+            commandFile = new File(executableInfo.getMockDirectory(), "sh-" + id + ".sh");
+            BatteryFiles.processTemplate("/typing-arguments-sh.ftl", commandFile, model, BatteryFiles.UTIL_RESOURCE_PREFIX);
+            Assertions.assertTrue(commandFile.setExecutable(true));
+        }
+
+        return commandFile;
+    }
+}
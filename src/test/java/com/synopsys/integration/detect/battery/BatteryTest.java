@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -121,6 +122,16 @@ public final class BatteryTest {
         executables.add(BatteryExecutable.propertyOverrideExecutable(detectProperty, creator));
     }
 
+    /**
+     * Unlike executableFromResourceFiles, the output typed depends on the arguments the executable is given (joined with single spaces), not on how many times it has run, so commands may run in any order.
+     */
+    public void executableFromResourceFilesByArguments(Property detectProperty, Map<String, String> resourceFilesByArguments) {
+        Map<String, String> resourcesByArguments = new LinkedHashMap<>();
+        resourceFilesByArguments.forEach((arguments, resourceFile) -> resourcesByArguments.put(arguments, "/" + this.resourcePrefix + "/" + resourceFile));
+        ArgumentTypingExecutableCreator creator = new ArgumentTypingExecutableCreator(resourcesByArguments);
+        executables.add(BatteryExecutable.propertyOverrideExecutable(detectProperty, creator));
+    }
+
     public void executableSourceFileFromResourceFiles(String windowsName, String linuxName, String... resourceFiles) {
         ResourceTypingExecutableCreator creator = new ResourceTypingExecutableCreator(prefixResources(resourceFiles));
         executables.add(BatteryExecutable.sourceFileExecutable(windowsName, linuxName, creator));
@@ -22,6 +22,9 @@
  */
 package com.synopsys.integration.detect.battery.tests;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
@@ -53,11 +56,29 @@ public class GoBattery {
     @Test
     void mod() {
         BatteryTest test = new BatteryTest("go-mod");
-        test.executableFromResourceFiles(DetectProperties.DETECT_GO_PATH.getProperty(), "go-list.xout", "go-version.xout", "go-list-u-json.xout", "go-mod-graph.xout", "go-mod-why.xout");
+        test.executableFromResourceFiles(DetectProperties.DETECT_GO_PATH.getProperty(), "go-list.xout", "go-version.xout", "go-list-u-json.xout", "go-mod-why.xout", "go-mod-graph.xout");
         test.sourceDirectoryNamed("source");
         test.sourceFileFromResource("go.mod");
         test.expectBdioResources();
         test.run();
     }
-}
 
+    @Test
+    void modConcurrent() {
+        // The go commands run at the same time, so the fake go answers by arguments rather than by call order.
+        Map<String, String> goOutputs = new LinkedHashMap<>();
+        goOutputs.put("list -m", "go-list.xout");
+        goOutputs.put("version", "go-version.xout");
+        goOutputs.put("list -mod=readonly -m -u -json all", "go-list-u-json.xout");
+        goOutputs.put("mod graph", "go-mod-graph.xout");
+        goOutputs.put("mod why -m all", "go-mod-why.xout");
+
+        BatteryTest test = new BatteryTest("go-mod");
+        test.executableFromResourceFilesByArguments(DetectProperties.DETECT_GO_PATH.getProperty(), goOutputs);
+        test.property(DetectProperties.DETECT_GO_MOD_CONCURRENT.getProperty(), "true");
+        test.sourceDirectoryNamed("source");
+        test.sourceFileFromResource("go.mod");
+        test.expectBdioResources();
+        test.run();
+    }
+}
@@ -0,0 +1,69 @@
+package com.synopsys.integration.detect.lifecycle.run;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
+import com.synopsys.integration.exception.IntegrationException;
+
+public class ConcurrentToolRunnerTest {
+    @Test
+    public void resultsAreInToolOrder() throws DetectUserFriendlyException, IntegrationException {
+        List<Callable<String>> toolTasks = Arrays.asList(
+            () -> {
+                Thread.sleep(100);
+                return "docker";
+            },
+            () -> "bazel",
+            () -> "detector"
+        );
+
+        List<String> toolResults = new ConcurrentToolRunner().runTools(toolTasks);
+
+        assertEquals(Arrays.asList("docker", "bazel", "detector"), toolResults);
+    }
+
+    @Test
+    public void failingToolCancelsTheRest() throws InterruptedException {
+        CountDownLatch slowToolStarted = new CountDownLatch(1);
+        CountDownLatch slowToolInterrupted = new CountDownLatch(1);
+        AtomicBoolean slowToolFinished = new AtomicBoolean();
+        DetectUserFriendlyException toolFailure = new DetectUserFriendlyException("Bazel failed.", ExitCodeType.FAILURE_GENERAL_ERROR);
+
+        List<Callable<String>> toolTasks = Arrays.asList(
+            () -> {
+                slowToolStarted.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                    slowToolFinished.set(true);
+                } catch (InterruptedException e) {
+                    slowToolInterrupted.countDown();
+                }
+                return "docker";
+            },
+            () -> {
+                slowToolStarted.await();
+                throw toolFailure;
+            }
+        );
+
+        DetectUserFriendlyException thrown = assertThrows(DetectUserFriendlyException.class, () -> new ConcurrentToolRunner().runTools(toolTasks));
+
+        assertSame(toolFailure, thrown);
+        assertTrue(slowToolInterrupted.await(10, TimeUnit.SECONDS), "The tool still running should be cancelled when another tool fails.");
+        assertFalse(slowToolFinished.get());
+    }
+}
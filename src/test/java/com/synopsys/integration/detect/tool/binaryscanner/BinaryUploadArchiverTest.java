@@ -0,0 +1,56 @@
+package com.synopsys.integration.detect.tool.binaryscanner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.compress.utils.IOUtils;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class BinaryUploadArchiverTest {
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 4 })
+    public void archivesEveryTarget(int threads, @TempDir Path tempDir) throws IOException {
+        Map<String, Path> entries = new LinkedHashMap<>();
+        entries.put("library.jar", write(tempDir.resolve("library.jar"), "already compressed"));
+        entries.put("binary.so", write(tempDir.resolve("binary.so"), "native code"));
+        entries.put("app.dll", write(tempDir.resolve("app.dll"), "windows code"));
+
+        File zip = tempDir.resolve("binary-upload.zip").toFile();
+        File scatterDirectory = tempDir.resolve("scatter").toFile();
+        new BinaryUploadArchiver(threads, scatterDirectory).zip(zip, entries);
+
+        assertFalse(scatterDirectory.exists(), "The scatter files should be removed once the zip is written.");
+
+        try (ZipFile zipFile = new ZipFile(zip)) {
+            assertEquals(entries.size(), zipFile.size());
+            for (Map.Entry<String, Path> entry : entries.entrySet()) {
+                ZipEntry zipEntry = zipFile.getEntry(entry.getKey());
+                assertNotNull(zipEntry, "Missing entry " + entry.getKey());
+                try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+                    assertArrayEquals(Files.readAllBytes(entry.getValue()), IOUtils.toByteArray(inputStream));
+                }
+            }
+            assertEquals(ZipEntry.STORED, zipFile.getEntry("library.jar").getMethod());
+            assertEquals(ZipEntry.DEFLATED, zipFile.getEntry("binary.so").getMethod());
+        }
+    }
+
+    private Path write(Path path, String contents) throws IOException {
+        return Files.write(path, contents.getBytes(StandardCharsets.UTF_8));
+    }
+}
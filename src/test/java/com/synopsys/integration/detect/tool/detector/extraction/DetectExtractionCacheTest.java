@@ -0,0 +1,174 @@
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.extraction.ExtractionMetadata;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.base.DetectorType;
+import com.synopsys.integration.detector.rule.DetectorRule;
+
+public class DetectExtractionCacheTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void cachedExtractionMatchesOriginal(@TempDir Path tempDir) throws IOException {
+        File lockFile = writeLockFile(tempDir, "first");
+        DetectExtractionCache extractionCache = new DetectExtractionCache(tempDir.resolve("cache").toFile(), new Gson(), "7.1.0", Collections.emptyMap());
+
+        Dependency parent = createDependency("parent", "1.0");
+        Dependency child = createDependency("child", "2.0");
+        MutableMapDependencyGraph graph = new MutableMapDependencyGraph();
+        graph.addChildToRoot(parent);
+        graph.addChildWithParent(child, parent);
+        ExtractionMetadata<String> nameMetaData = new ExtractionMetadata<>("name", String.class);
+        ExtractionMetadata<File> fileMetaData = new ExtractionMetadata<>("file", File.class);
+        File unrecognizedPath = tempDir.resolve("unrecognized").toFile();
+        Extraction extraction = new Extraction.Builder()
+                                    .success(new CodeLocation(graph, tempDir.toFile()))
+                                    .projectName("project")
+                                    .projectVersion("version")
+                                    .relevantFiles(lockFile)
+                                    .unrecognizedPaths(unrecognizedPath)
+                                    .metaData(nameMetaData, "value")
+                                    .metaData(fileMetaData, lockFile)
+                                    .build();
+
+        DetectorEvaluation evaluation = mockEvaluation(tempDir, lockFile, extraction);
+        extractionCache.cacheExtraction(evaluation);
+
+        Optional<Extraction> cachedExtraction = extractionCache.findCachedExtraction(evaluation);
+        assertTrue(cachedExtraction.isPresent());
+        assertTrue(cachedExtraction.get().isSuccess());
+        assertEquals("project", cachedExtraction.get().getProjectName());
+        assertEquals("version", cachedExtraction.get().getProjectVersion());
+        assertEquals(1, cachedExtraction.get().getCodeLocations().size());
+        assertEquals(Collections.singletonList(lockFile.getAbsoluteFile()), cachedExtraction.get().getRelevantFiles());
+        assertEquals(Collections.singletonList(unrecognizedPath.getAbsoluteFile()), cachedExtraction.get().getUnrecognizedPaths());
+        assertEquals(Optional.of("value"), cachedExtraction.get().getMetaData(nameMetaData));
+        assertEquals(Optional.of(lockFile.getAbsoluteFile()), cachedExtraction.get().getMetaData(fileMetaData));
+
+        CodeLocation cachedCodeLocation = cachedExtraction.get().getCodeLocations().get(0);
+        assertEquals(Optional.of(tempDir.toFile().getAbsoluteFile()), cachedCodeLocation.getSourcePath());
+        DependencyGraph cachedGraph = cachedCodeLocation.getDependencyGraph();
+        assertEquals(Collections.singleton(parent.getExternalId()), cachedGraph.getRootDependencyExternalIds());
+        assertEquals(Collections.singleton(child.getExternalId()), cachedGraph.getChildrenExternalIdsForParent(parent.getExternalId()));
+    }
+
+    @Test
+    public void changedFileMisses(@TempDir Path tempDir) throws IOException {
+        File lockFile = writeLockFile(tempDir, "first");
+        DetectExtractionCache extractionCache = new DetectExtractionCache(tempDir.resolve("cache").toFile(), new Gson(), "7.1.0", Collections.emptyMap());
+
+        Extraction extraction = new Extraction.Builder().success(new CodeLocation(new MutableMapDependencyGraph())).build();
+        DetectorEvaluation evaluation = mockEvaluation(tempDir, lockFile, extraction);
+        extractionCache.cacheExtraction(evaluation);
+
+        writeLockFile(tempDir, "second");
+        assertFalse(extractionCache.findCachedExtraction(evaluation).isPresent());
+    }
+
+    @Test
+    public void changedDetectorPropertyMisses(@TempDir Path tempDir) throws IOException {
+        File lockFile = writeLockFile(tempDir, "first");
+        File cacheDirectory = tempDir.resolve("cache").toFile();
+
+        Extraction extraction = new Extraction.Builder().success(new CodeLocation(new MutableMapDependencyGraph())).build();
+        DetectorEvaluation evaluation = mockEvaluation(tempDir, lockFile, extraction);
+        new DetectExtractionCache(cacheDirectory, new Gson(), "7.1.0", Collections.singletonMap("detect.npm.include.dev.dependencies", "true")).cacheExtraction(evaluation);
+
+        DetectExtractionCache changedCache = new DetectExtractionCache(cacheDirectory, new Gson(), "7.1.0", Collections.singletonMap("detect.npm.include.dev.dependencies", "false"));
+        assertFalse(changedCache.findCachedExtraction(evaluation).isPresent());
+    }
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvicted(@TempDir Path tempDir) throws IOException {
+        File cacheDirectory = tempDir.resolve("cache").toFile();
+        DetectExtractionCache extractionCache = new DetectExtractionCache(cacheDirectory, new Gson(), "7.1.0", Collections.emptyMap(), 2);
+        DetectorEvaluation first = mockEvaluation(tempDir, "first");
+        DetectorEvaluation second = mockEvaluation(tempDir, "second");
+        DetectorEvaluation third = mockEvaluation(tempDir, "third");
+
+        extractionCache.cacheExtraction(first);
+        extractionCache.cacheExtraction(second);
+        makeEntriesOld(cacheDirectory);
+        assertTrue(extractionCache.findCachedExtraction(first).isPresent());
+        extractionCache.cacheExtraction(third);
+
+        assertTrue(extractionCache.findCachedExtraction(first).isPresent());
+        assertFalse(extractionCache.findCachedExtraction(second).isPresent());
+        assertTrue(extractionCache.findCachedExtraction(third).isPresent());
+    }
+
+    @Test
+    public void otherVersionsAreRemoved(@TempDir Path tempDir) throws IOException {
+        File cacheDirectory = tempDir.resolve("cache").toFile();
+        DetectorEvaluation first = mockEvaluation(tempDir, "first");
+        DetectorEvaluation second = mockEvaluation(tempDir, "second");
+
+        new DetectExtractionCache(cacheDirectory, new Gson(), "7.0.0", Collections.emptyMap()).cacheExtraction(first);
+        new DetectExtractionCache(cacheDirectory, new Gson(), "7.1.0", Collections.emptyMap()).cacheExtraction(second);
+
+        assertFalse(new DetectExtractionCache(cacheDirectory, new Gson(), "7.0.0", Collections.emptyMap()).findCachedExtraction(first).isPresent());
+        assertEquals(1, cacheDirectory.listFiles().length);
+    }
+
+    private void makeEntriesOld(File cacheDirectory) throws IOException {
+        long old = System.currentTimeMillis() - 60000;
+        try (Stream<Path> paths = Files.walk(cacheDirectory.toPath())) {
+            paths.filter(Files::isRegularFile).forEach(path -> assertTrue(path.toFile().setLastModified(old)));
+        }
+    }
+
+    private DetectorEvaluation mockEvaluation(Path tempDir, String name) throws IOException {
+        Path directory = Files.createDirectories(tempDir.resolve(name));
+        File lockFile = writeLockFile(directory, name);
+        Extraction extraction = new Extraction.Builder().success(new CodeLocation(new MutableMapDependencyGraph())).build();
+        return mockEvaluation(directory, lockFile, extraction);
+    }
+
+    private File writeLockFile(Path directory, String contents) throws IOException {
+        Path lockFile = directory.resolve("package-lock.json");
+        Files.write(lockFile, contents.getBytes(StandardCharsets.UTF_8));
+        return lockFile.toFile();
+    }
+
+    private Dependency createDependency(String name, String version) {
+        return new Dependency(name, version, externalIdFactory.createNameVersionExternalId(Forge.NPMJS, name, version));
+    }
+
+    private DetectorEvaluation mockEvaluation(Path directory, File lockFile, Extraction extraction) {
+        DetectorRule detectorRule = Mockito.mock(DetectorRule.class);
+        Mockito.when(detectorRule.getDescriptiveName()).thenReturn(DetectorType.NPM + " - Package Lock");
+
+        DetectorEvaluation evaluation = Mockito.mock(DetectorEvaluation.class);
+        Mockito.when(evaluation.getDetectorRule()).thenReturn(detectorRule);
+        Mockito.when(evaluation.getDetectableEnvironment()).thenReturn(new DetectableEnvironment(directory.toFile()));
+        Mockito.when(evaluation.getAllRelevantFiles()).thenReturn(Collections.singletonList(lockFile));
+        Mockito.when(evaluation.getExtraction()).thenReturn(extraction);
+        return evaluation;
+    }
+}
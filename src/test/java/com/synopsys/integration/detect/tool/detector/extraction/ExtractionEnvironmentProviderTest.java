@@ -0,0 +1,70 @@
+package com.synopsys.integration.detect.tool.detector.extraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.synopsys.integration.detect.tool.detector.DetectExtractionEnvironment;
+import com.synopsys.integration.detect.workflow.DetectRun;
+import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+import com.synopsys.integration.detect.workflow.file.DirectoryOptions;
+import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
+
+public class ExtractionEnvironmentProviderTest {
+    private static final int THREADS = 8;
+    private static final int ENVIRONMENTS_PER_THREAD = 50;
+
+    @Test
+    public void concurrentEnvironmentsGetTheirOwnIdAndDirectory(@TempDir Path outputPath) throws IOException, InterruptedException, ExecutionException {
+        DirectoryOptions directoryOptions = new DirectoryOptions(null, outputPath, null, null, null);
+        DirectoryManager directoryManager = new DirectoryManager(directoryOptions, new DetectRun("concurrent"));
+        ExtractionEnvironmentProvider extractionEnvironmentProvider = new ExtractionEnvironmentProvider(directoryManager);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<ExtractionEnvironment>>> futures = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    List<ExtractionEnvironment> environments = new ArrayList<>();
+                    for (int i = 0; i < ENVIRONMENTS_PER_THREAD; i++) {
+                        environments.add(extractionEnvironmentProvider.createExtractionEnvironment("tool"));
+                    }
+                    return environments;
+                }));
+            }
+            start.countDown();
+
+            Set<Integer> ids = new HashSet<>();
+            Set<File> outputDirectories = new HashSet<>();
+            for (Future<List<ExtractionEnvironment>> future : futures) {
+                for (ExtractionEnvironment environment : future.get()) {
+                    ids.add(((DetectExtractionEnvironment) environment).getExtractionId().getId());
+                    outputDirectories.add(environment.getOutputDirectory());
+                    assertTrue(environment.getOutputDirectory().isDirectory());
+                }
+            }
+
+            assertEquals(THREADS * ENVIRONMENTS_PER_THREAD, ids.size());
+            assertEquals(THREADS * ENVIRONMENTS_PER_THREAD, outputDirectories.size());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.synopsys.integration.detect.tool.signaturescanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatch;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchOutput;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchRunner;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodePublisher;
+import com.synopsys.integration.detect.workflow.DetectRun;
+import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameManager;
+import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+import com.synopsys.integration.detect.workflow.file.DirectoryOptions;
+import com.synopsys.integration.detect.workflow.status.OperationSystem;
+import com.synopsys.integration.detect.workflow.status.StatusEventPublisher;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.util.NameVersion;
+
+public class BlackDuckSignatureScannerTest {
+    private final AtomicInteger batches = new AtomicInteger();
+    private final AtomicInteger runningScans = new AtomicInteger();
+    private final AtomicInteger mostScansAtOnce = new AtomicInteger();
+
+    @Test
+    public void scanMemoryForOneScannerScansEachTargetOnItsOwn(@TempDir Path tempDir) throws IOException, IntegrationException, DetectUserFriendlyException {
+        BlackDuckSignatureScanner signatureScanner = createScanner(tempDir, 3, 1024, 1024, 4);
+
+        signatureScanner.performScanActions(new NameVersion("project", "version"), tempDir.toFile(), null);
+
+        assertEquals(3, batches.get(), "With room for one scanner, every target should be its own batch rather than one batch run on the parallel processors.");
+        assertEquals(1, mostScansAtOnce.get());
+    }
+
+    @Test
+    public void scanMemoryLimitsConcurrentScans(@TempDir Path tempDir) throws IOException, IntegrationException, DetectUserFriendlyException {
+        BlackDuckSignatureScanner signatureScanner = createScanner(tempDir, 5, 1024, 2048, 4);
+
+        signatureScanner.performScanActions(new NameVersion("project", "version"), tempDir.toFile(), null);
+
+        assertEquals(5, batches.get());
+        assertTrue(mostScansAtOnce.get() <= 2, "No more scanners should run at once than fit in the total scan memory.");
+    }
+
+    private BlackDuckSignatureScanner createScanner(Path tempDir, int targetCount, int scanMemory, int totalScanMemory, int parallelProcessors) throws IOException, IntegrationException {
+        List<Path> scanTargets = new ArrayList<>();
+        for (int i = 0; i < targetCount; i++) {
+            scanTargets.add(Files.createDirectories(tempDir.resolve("target-" + i)));
+        }
+        BlackDuckSignatureScannerOptions signatureScannerOptions = new BlackDuckSignatureScannerOptions(scanTargets, Collections.emptyList(), null, null, null, scanMemory, totalScanMemory, parallelProcessors, false, null, false, null,
+            null, null, 1, null, false, false);
+
+        DirectoryOptions directoryOptions = new DirectoryOptions(tempDir, tempDir.resolve("output"), null, null, null);
+        DirectoryManager directoryManager = new DirectoryManager(directoryOptions, new DetectRun("scan"));
+
+        CodeLocationNameManager codeLocationNameManager = Mockito.mock(CodeLocationNameManager.class);
+        Mockito.when(codeLocationNameManager.createScanCodeLocationName(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+            .thenAnswer(invocation -> ((File) invocation.getArgument(1)).getName());
+
+        ScanBatchRunner scanBatchRunner = Mockito.mock(ScanBatchRunner.class);
+        Mockito.when(scanBatchRunner.executeScans(Mockito.any(ScanBatch.class))).thenAnswer(invocation -> {
+            batches.incrementAndGet();
+            mostScansAtOnce.accumulateAndGet(runningScans.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            runningScans.decrementAndGet();
+            return new ScanBatchOutput(Collections.emptyList());
+        });
+
+        return new BlackDuckSignatureScanner(directoryManager, codeLocationNameManager, signatureScannerOptions, scanBatchRunner, null, Mockito.mock(StatusEventPublisher.class), Mockito.mock(ExitCodePublisher.class),
+            Mockito.mock(OperationSystem.class), file -> false);
+    }
+}
@@ -0,0 +1,98 @@
+package com.synopsys.integration.detect.workflow.bdio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.SimpleBdioFactory;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.blackduck.bdio2.util.Bdio2Factory;
+import com.synopsys.integration.blackduck.codelocation.upload.UploadTarget;
+import com.synopsys.integration.detect.configuration.DetectInfo;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
+import com.synopsys.integration.detect.workflow.codelocation.BdioCodeLocation;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+import com.synopsys.integration.util.NameVersion;
+
+public class CodeLocationBdioCreatorTest {
+    private final File bdioOutput = new File("bdio");
+    private final NameVersion projectNameVersion = new NameVersion("project", "1.0");
+
+    @Test
+    public void parallelCreationReturnsTargetsInCodeLocationOrder() throws DetectUserFriendlyException {
+        // The first file is only written once the last one has been, so the files finish out of order.
+        CountDownLatch lastWritten = new CountDownLatch(1);
+        DetectBdioWriter detectBdioWriter = Mockito.mock(DetectBdioWriter.class);
+        Mockito.doAnswer(invocation -> {
+            String fileName = invocation.getArgument(0, File.class).getName();
+            if (fileName.equals("first.jsonld")) {
+                assertTrue(lastWritten.await(30, TimeUnit.SECONDS));
+            } else if (fileName.equals("third.jsonld")) {
+                lastWritten.countDown();
+            }
+            return null;
+        }).when(detectBdioWriter).writeBdioFile(Mockito.any(File.class), Mockito.any());
+
+        CodeLocationBdioCreator creator = createCreator(detectBdioWriter, 2);
+        List<UploadTarget> uploadTargets = creator.createBdioFiles(bdioOutput, createBdioCodeLocations("first", "second", "third"), projectNameVersion, false);
+
+        List<String> codeLocationNames = uploadTargets.stream()
+                                             .map(UploadTarget::getCodeLocationName)
+                                             .collect(Collectors.toList());
+        assertEquals(Arrays.asList("first", "second", "third"), codeLocationNames);
+        assertEquals(new File(bdioOutput, "first.jsonld"), uploadTargets.get(0).getUploadFile());
+    }
+
+    @Test
+    public void parallelCreationThrowsFirstFailureInCodeLocationOrder() throws DetectUserFriendlyException {
+        // The second file fails only after the third has failed, but it comes first in code location order.
+        CountDownLatch thirdFailed = new CountDownLatch(1);
+        DetectBdioWriter detectBdioWriter = Mockito.mock(DetectBdioWriter.class);
+        Mockito.doAnswer(invocation -> {
+            String fileName = invocation.getArgument(0, File.class).getName();
+            if (fileName.equals("second.jsonld")) {
+                assertTrue(thirdFailed.await(30, TimeUnit.SECONDS));
+                throw new DetectUserFriendlyException("second failed", ExitCodeType.FAILURE_GENERAL_ERROR);
+            } else if (fileName.equals("third.jsonld")) {
+                thirdFailed.countDown();
+                throw new DetectUserFriendlyException("third failed", ExitCodeType.FAILURE_GENERAL_ERROR);
+            }
+            return null;
+        }).when(detectBdioWriter).writeBdioFile(Mockito.any(File.class), Mockito.any());
+
+        CodeLocationBdioCreator creator = createCreator(detectBdioWriter, 3);
+        List<BdioCodeLocation> bdioCodeLocations = createBdioCodeLocations("first", "second", "third");
+        DetectUserFriendlyException exception = assertThrows(DetectUserFriendlyException.class, () -> creator.createBdioFiles(bdioOutput, bdioCodeLocations, projectNameVersion, false));
+
+        assertEquals("second failed", exception.getMessage());
+    }
+
+    private CodeLocationBdioCreator createCreator(DetectBdioWriter detectBdioWriter, int creationThreads) {
+        return new CodeLocationBdioCreator(detectBdioWriter, Mockito.mock(SimpleBdioFactory.class), Mockito.mock(Bdio2Factory.class), Mockito.mock(DetectInfo.class), creationThreads);
+    }
+
+    private List<BdioCodeLocation> createBdioCodeLocations(String... codeLocationNames) {
+        List<BdioCodeLocation> bdioCodeLocations = new ArrayList<>();
+        for (String codeLocationName : codeLocationNames) {
+            ExternalId externalId = new ExternalId(Forge.MAVEN);
+            externalId.setName(codeLocationName);
+            DetectCodeLocation detectCodeLocation = DetectCodeLocation.forCreator(Mockito.mock(DependencyGraph.class), new File("source"), externalId, "creator");
+            bdioCodeLocations.add(new BdioCodeLocation(detectCodeLocation, codeLocationName, codeLocationName));
+        }
+        return bdioCodeLocations;
+    }
+}
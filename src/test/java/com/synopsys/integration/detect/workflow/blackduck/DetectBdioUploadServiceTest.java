@@ -0,0 +1,198 @@
+package com.synopsys.integration.detect.workflow.blackduck;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.blackduck.codelocation.CodeLocationCreationData;
+import com.synopsys.integration.blackduck.codelocation.Result;
+import com.synopsys.integration.blackduck.codelocation.intelligentpersistence.IntelligentPersistenceService;
+import com.synopsys.integration.blackduck.codelocation.upload.UploadBatch;
+import com.synopsys.integration.blackduck.codelocation.upload.UploadBatchOutput;
+import com.synopsys.integration.blackduck.codelocation.upload.UploadOutput;
+import com.synopsys.integration.blackduck.codelocation.upload.UploadTarget;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.workflow.bdio.BdioOptions;
+import com.synopsys.integration.detect.workflow.bdio.BdioResult;
+import com.synopsys.integration.detect.workflow.status.OperationSystem;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.rest.exception.IntegrationRestException;
+import com.synopsys.integration.util.NameVersion;
+
+public class DetectBdioUploadServiceTest {
+    private static final NameVersion PROJECT = new NameVersion("project", "version");
+
+    // Stands in for Black Duck: counts uploads per code location and fails each one the given number of times before accepting it.
+    private final Map<String, AtomicInteger> uploadCounts = new ConcurrentHashMap<>();
+    private final Map<String, Integer> failuresBeforeAccepting = new ConcurrentHashMap<>();
+
+    @Test
+    public void transientFailuresAreRetriedAndOnlyFailuresAreResent(@TempDir Path tempDir) throws IOException, IntegrationException {
+        List<UploadTarget> uploadTargets = new ArrayList<>();
+        for (String codeLocationName : Arrays.asList("accepted", "transient", "busy", "rejected")) {
+            uploadTargets.add(createTarget(tempDir, codeLocationName));
+        }
+        failuresBeforeAccepting.put("transient", 1);
+        failuresBeforeAccepting.put("busy", 1);
+        failuresBeforeAccepting.put("rejected", Integer.MAX_VALUE);
+
+        File manifestFile = tempDir.resolve("bdio-upload-manifest.json").toFile();
+        BdioResult bdioResult = new BdioResult(uploadTargets, null, true);
+        BdioOptions bdioOptions = new BdioOptions(true, null, null, false, 1, 3, 1);
+
+        DetectBdioUploadService firstRun = new DetectBdioUploadService(Mockito.mock(OperationSystem.class), bdioOptions, new BdioUploadManifest(manifestFile, new Gson()), 1);
+        assertThrows(DetectUserFriendlyException.class, () -> firstRun.uploadBdioFiles(null, bdioResult, null, null, createStandIn()));
+        assertEquals(1, uploadCounts.get("accepted").get());
+        assertEquals(2, uploadCounts.get("transient").get());
+        assertEquals(2, uploadCounts.get("busy").get());
+        assertEquals(1, uploadCounts.get("rejected").get(), "A failure that is not transient should not be retried.");
+
+        failuresBeforeAccepting.remove("rejected");
+        DetectBdioUploadService secondRun = new DetectBdioUploadService(Mockito.mock(OperationSystem.class), bdioOptions, new BdioUploadManifest(manifestFile, new Gson()), 1);
+        Optional<CodeLocationCreationData<UploadBatchOutput>> response = secondRun.uploadBdioFiles(null, bdioResult, null, null, createStandIn());
+
+        assertTrue(response.isPresent());
+        List<String> uploadedCodeLocations = new ArrayList<>();
+        response.get().getOutput().forEach(uploadOutput -> uploadedCodeLocations.add(uploadOutput.getCodeLocationName()));
+        assertEquals(Collections.singletonList("rejected"), uploadedCodeLocations);
+        assertEquals(1, uploadCounts.get("accepted").get());
+        assertEquals(2, uploadCounts.get("transient").get());
+        assertEquals(2, uploadCounts.get("busy").get());
+        assertEquals(2, uploadCounts.get("rejected").get());
+
+        DetectBdioUploadService thirdRun = new DetectBdioUploadService(Mockito.mock(OperationSystem.class), bdioOptions, new BdioUploadManifest(manifestFile, new Gson()), 1);
+        assertEquals(Optional.empty(), thirdRun.uploadBdioFiles(null, bdioResult, null, null, createStandIn()));
+    }
+
+    @Test
+    public void withoutResumeEveryRunUploadsEveryTarget(@TempDir Path tempDir) throws IOException, IntegrationException {
+        BdioResult bdioResult = new BdioResult(Arrays.asList(createTarget(tempDir, "first"), createTarget(tempDir, "second")), null, true);
+        BdioOptions bdioOptions = new BdioOptions(true, null, null, false, 1, 3, 1);
+
+        for (int run = 0; run < 2; run++) {
+            DetectBdioUploadService detectBdioUploadService = new DetectBdioUploadService(Mockito.mock(OperationSystem.class), bdioOptions);
+            assertTrue(detectBdioUploadService.uploadBdioFiles(null, bdioResult, null, null, createStandIn()).isPresent());
+        }
+
+        assertEquals(2, uploadCounts.get("first").get());
+        assertEquals(2, uploadCounts.get("second").get());
+    }
+
+    @Test
+    public void regeneratedBdioOfAnAcceptedCodeLocationIsSkipped(@TempDir Path tempDir) throws IOException, IntegrationException {
+        File manifestFile = tempDir.resolve("permanent").resolve("bdio-upload-manifest.json").toFile();
+        BdioOptions bdioOptions = new BdioOptions(true, null, null, false, 1, 3, 1);
+
+        Path firstRunOutput = Files.createDirectories(tempDir.resolve("first-run"));
+        List<UploadTarget> firstRunTargets = Arrays.asList(
+            createBdio1Target(firstRunOutput, "bdio1", "uuid:0a6f0d0e-1111-4f5b-9b61-0c0c2b1e1a01", "2021-04-01T10:00:00Z", "commons-io"),
+            createBdio2Target(firstRunOutput, "bdio2", "2021-04-01T10:00:00Z", "commons-io")
+        );
+        DetectBdioUploadService firstRun = new DetectBdioUploadService(Mockito.mock(OperationSystem.class), bdioOptions, new BdioUploadManifest(manifestFile, new Gson(), "https://blackduck", 10), 1);
+        assertTrue(firstRun.uploadBdioFiles(null, new BdioResult(firstRunTargets, null, true), null, null, createStandIn()).isPresent());
+
+        // A later run generates the same code locations again, with new creation times and document ids.
+        Path secondRunOutput = Files.createDirectories(tempDir.resolve("second-run"));
+        List<UploadTarget> secondRunTargets = Arrays.asList(
+            createBdio1Target(secondRunOutput, "bdio1", "uuid:5c1e7a2b-2222-4d3c-8e7f-1d2d3c4e5f02", "2021-04-02T11:30:00Z", "commons-io"),
+            createBdio2Target(secondRunOutput, "bdio2", "2021-04-02T11:30:00Z", "commons-io")
+        );
+        DetectBdioUploadService secondRun = new DetectBdioUploadService(Mockito.mock(OperationSystem.class), bdioOptions, new BdioUploadManifest(manifestFile, new Gson(), "https://blackduck", 10), 1);
+        assertEquals(Optional.empty(), secondRun.uploadBdioFiles(null, new BdioResult(secondRunTargets, null, true), null, null, createStandIn()));
+        assertEquals(1, uploadCounts.get("bdio1").get());
+        assertEquals(1, uploadCounts.get("bdio2").get());
+
+        // Changed content, or another Black Duck server, is uploaded again.
+        Path thirdRunOutput = Files.createDirectories(tempDir.resolve("third-run"));
+        List<UploadTarget> thirdRunTargets = Arrays.asList(
+            createBdio1Target(thirdRunOutput, "bdio1", "uuid:9d8c7b6a-3333-4a1b-8c2d-2e3f4a5b6c03", "2021-04-03T09:15:00Z", "commons-lang3"),
+            createBdio2Target(thirdRunOutput, "bdio2", "2021-04-03T09:15:00Z", "commons-io")
+        );
+        DetectBdioUploadService thirdRun = new DetectBdioUploadService(Mockito.mock(OperationSystem.class), bdioOptions, new BdioUploadManifest(manifestFile, new Gson(), "https://other-blackduck", 10), 1);
+        assertTrue(thirdRun.uploadBdioFiles(null, new BdioResult(thirdRunTargets, null, true), null, null, createStandIn()).isPresent());
+        assertEquals(2, uploadCounts.get("bdio1").get());
+        assertEquals(2, uploadCounts.get("bdio2").get());
+    }
+
+    private UploadTarget createBdio1Target(Path directory, String codeLocationName, String documentId, String creationTime, String component) throws IOException {
+        Path bdioFile = directory.resolve(codeLocationName + ".jsonld");
+        String document = "[{\"@id\":\"" + documentId + "\",\"@type\":\"BillOfMaterials\",\"spdx:name\":\"" + codeLocationName + "\",\"creationInfo\":{\"creationDateTime\":\"" + creationTime + "\"}},"
+            + "{\"@id\":\"http:maven/org_apache/" + component + "\",\"@type\":\"Component\",\"spdx:name\":\"" + component + "\"}]";
+        Files.write(bdioFile, document.getBytes(StandardCharsets.UTF_8));
+        return UploadTarget.createDefault(PROJECT, codeLocationName, bdioFile.toFile());
+    }
+
+    private UploadTarget createBdio2Target(Path directory, String codeLocationName, String creationTime, String component) throws IOException {
+        Path bdioFile = directory.resolve(codeLocationName + ".bdio");
+        String header = "{\"@id\":\"http:detect/" + codeLocationName + "\",\"https://blackducksoftware.github.io/bdio#hasCreationDateTime\":{\"@value\":\"" + creationTime + "\"}}";
+        String entry = "{\"@graph\":[{\"@id\":\"http:maven/org_apache/" + component + "\",\"@type\":\"https://blackducksoftware.github.io/bdio#Component\"}]}";
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(bdioFile))) {
+            zipOutputStream.putNextEntry(new ZipEntry("bdio-header.jsonld"));
+            zipOutputStream.write(header.getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.putNextEntry(new ZipEntry("bdio-entry-00.jsonld"));
+            zipOutputStream.write(entry.getBytes(StandardCharsets.UTF_8));
+        }
+        return UploadTarget.createDefault(PROJECT, codeLocationName, bdioFile.toFile());
+    }
+
+    private UploadTarget createTarget(Path directory, String codeLocationName) throws IOException {
+        Path bdioFile = directory.resolve(codeLocationName + ".bdio");
+        Files.write(bdioFile, codeLocationName.getBytes(StandardCharsets.UTF_8));
+        return UploadTarget.createDefault(PROJECT, codeLocationName, bdioFile.toFile());
+    }
+
+    private IntelligentPersistenceService createStandIn() throws IntegrationException {
+        IntelligentPersistenceService standIn = Mockito.mock(IntelligentPersistenceService.class);
+        Mockito.when(standIn.uploadBdio(Mockito.any(UploadBatch.class))).thenAnswer(invocation -> {
+            UploadBatch uploadBatch = invocation.getArgument(0);
+            List<UploadOutput> uploadOutputs = new ArrayList<>();
+            for (UploadTarget uploadTarget : uploadBatch.getUploadTargets()) {
+                String codeLocationName = uploadTarget.getCodeLocationName();
+                int uploads = uploadCounts.computeIfAbsent(codeLocationName, key -> new AtomicInteger()).incrementAndGet();
+                if (uploads <= failuresBeforeAccepting.getOrDefault(codeLocationName, 0) && "transient".equals(codeLocationName)) {
+                    throw new IntegrationException("502 Bad Gateway");
+                }
+                boolean accepted = uploads > failuresBeforeAccepting.getOrDefault(codeLocationName, 0);
+                UploadOutput uploadOutput = mockOutput(codeLocationName, accepted ? Result.SUCCESS : Result.FAILURE);
+                if (!accepted && "busy".equals(codeLocationName)) {
+                    IntegrationRestException serviceUnavailable = Mockito.mock(IntegrationRestException.class);
+                    Mockito.when(serviceUnavailable.getHttpStatusCode()).thenReturn(503);
+                    Mockito.when(uploadOutput.getException()).thenReturn(Optional.of(serviceUnavailable));
+                }
+                uploadOutputs.add(uploadOutput);
+            }
+            return new CodeLocationCreationData<>(null, new UploadBatchOutput(uploadOutputs));
+        });
+        return standIn;
+    }
+
+    private UploadOutput mockOutput(String codeLocationName, Result result) {
+        UploadOutput uploadOutput = Mockito.mock(UploadOutput.class);
+        Mockito.when(uploadOutput.getCodeLocationName()).thenReturn(codeLocationName);
+        Mockito.when(uploadOutput.getResult()).thenReturn(result);
+        Mockito.when(uploadOutput.getErrorMessage()).thenReturn(Optional.empty());
+        Mockito.when(uploadOutput.getException()).thenReturn(Optional.empty());
+        return uploadOutput;
+    }
+}
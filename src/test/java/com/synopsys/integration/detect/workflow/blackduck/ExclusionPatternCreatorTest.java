@@ -14,7 +14,6 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
-import com.synopsys.integration.common.util.finder.SimpleFileFinder;
 import com.synopsys.integration.detect.util.finder.DetectExcludedDirectoryFilter;
 
 public class ExclusionPatternCreatorTest {
@@ -35,7 +34,7 @@ public class ExclusionPatternCreatorTest {
         sub2Sub1.mkdir();
 
         DetectExcludedDirectoryFilter filter = new DetectExcludedDirectoryFilter(root.toPath(), providedPatterns);
-        ExclusionPatternCreator exclusionPatternCreator = new ExclusionPatternCreator(new SimpleFileFinder(), file -> filter.isExcluded(file), root);
+        ExclusionPatternCreator exclusionPatternCreator = new ExclusionPatternCreator(file -> filter.isExcluded(file), root);
         assertEqualCollections(resultingExclusions, exclusionPatternCreator.determineExclusionPatterns(3, providedPatterns));
     }
 
@@ -48,6 +47,8 @@ public class ExclusionPatternCreatorTest {
             arguments(Collections.singletonList("**root/*/*"), Arrays.asList("/sub1/sub1Sub1/", "/sub1/sub1Sub2/", "/sub2/sub2Sub1/")),
             arguments(Collections.singletonList("*1Sub2"), Collections.singletonList("/sub1/sub1Sub2/")),
             arguments(Collections.singletonList("sub?"), Arrays.asList("/sub1/", "/sub2/")),
+            // Directories beneath an excluded directory are already excluded, so they are not searched
+            arguments(Collections.singletonList("sub*"), Arrays.asList("/sub1/", "/sub2/")),
             arguments(Collections.singletonList("/blackduck-*/"), Collections.emptyList())
         );
     }
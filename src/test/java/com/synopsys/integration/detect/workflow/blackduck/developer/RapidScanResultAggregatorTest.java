@@ -8,6 +8,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -55,6 +57,19 @@ public class RapidScanResultAggregatorTest {
         assertFalse(logger.getOutputList(LogLevel.INFO).isEmpty());
     }
 
+    @Test
+    public void testStreamedResultsWithoutViolations() {
+        Stream<DeveloperScanComponentResultView> results = Stream.concat(IntStream.range(0, 1000).mapToObj(this::createCleanView), Stream.of(createView()));
+        RapidScanResultAggregator aggregator = new RapidScanResultAggregator();
+        RapidScanAggregateResult aggregateResult = aggregator.aggregateData(results);
+        RapidScanResultSummary summary = aggregateResult.getSummary();
+        assertEquals(1, summary.getPolicyErrorCount());
+        assertEquals(1, summary.getSecurityErrorCount());
+        assertEquals(1, summary.getLicenseWarningCount());
+        assertEquals(Collections.singleton("component_1 component_version_1 (component_1:component_version_1)"), summary.getComponentsViolatingPolicy());
+        assertEquals(3, summary.getPolicyViolationNames().size());
+    }
+
     private List<DeveloperScanComponentResultView> createResultList() {
         List<DeveloperScanComponentResultView> resultList = new ArrayList<>();
         DeveloperScanComponentResultView view = createView();
@@ -161,4 +176,38 @@ public class RapidScanResultAggregatorTest {
         };
     }
 
+    private DeveloperScanComponentResultView createCleanView(int index) {
+        return new DeveloperScanComponentResultView() {
+            @Override
+            public String getComponentName() {
+                return "clean_" + index;
+            }
+
+            @Override
+            public String getVersionName() {
+                return "1.0.0";
+            }
+
+            @Override
+            public String getComponentIdentifier() {
+                return "clean_" + index + ":1.0.0";
+            }
+
+            @Override
+            public Set<String> getViolatingPolicyNames() {
+                return Collections.emptySet();
+            }
+
+            @Override
+            public Set<PolicyViolationVulnerabilityView> getPolicyViolationVulnerabilities() {
+                return Collections.emptySet();
+            }
+
+            @Override
+            public Set<PolicyViolationLicenseView> getPolicyViolationLicenses() {
+                return Collections.emptySet();
+            }
+        };
+    }
+
 }
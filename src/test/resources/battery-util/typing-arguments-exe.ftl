@@ -0,0 +1,11 @@
+@echo off
+
+<#list outputs as output>
+if "%*"=="${output.arguments}" (
+    type "${output.file}"
+    exit /b 0
+)
+</#list>
+
+echo Unexpected arguments: %* 1>&2
+exit /b 1
@@ -0,0 +1,8 @@
+#!/bin/bash
+
+case "$*" in
+<#list outputs as output>
+    "${output.arguments}") cat "${output.file}" ;;
+</#list>
+    *) echo "Unexpected arguments: $*" >&2; exit 1 ;;
+esac